@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Fixtures shared by the parser benchmarks. Every parser is backed by an interceptor returning the
+ * fixture, so the benchmarks measure parsing only and never touch the network
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+final class BenchmarkFixtures {
+    private static final String BASE_URL = "http://funpay.benchmark";
+
+    private static final MediaType HTML_MEDIA_TYPE = MediaType.get("text/html; charset=utf-8");
+
+    private static final String OFFER_ROW_START = "<a href=\"https://funpay.com/lots/offer?id=";
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * Read the fixture shared with the client tests
+     *
+     * @param name file name of the fixture
+     * @return fixture content
+     */
+    static byte[] read(String name) {
+        try (InputStream fixtureInputStream =
+                BenchmarkFixtures.class.getResourceAsStream("/html/client/" + name)) {
+            if (fixtureInputStream == null) {
+                throw new IllegalArgumentException("Fixture " + name + " does not found");
+            }
+
+            ByteArrayOutputStream fixtureOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int readCount;
+
+            while ((readCount = fixtureInputStream.read(buffer)) != -1) {
+                fixtureOutputStream.write(buffer, 0, readCount);
+            }
+
+            return fixtureOutputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Build lot page with the given number of offers by repeating the offer of the lot fixture
+     *
+     * @param offerCount number of offers on the page
+     * @return lot page
+     */
+    static byte[] newLargeLotPage(int offerCount) {
+        String lotPage = new String(read("getLotResponse.html"), StandardCharsets.UTF_8);
+        int offerRowStart = lotPage.indexOf(OFFER_ROW_START);
+        int offerRowEnd = lotPage.indexOf("</a>", offerRowStart) + "</a>".length();
+        String offerRow = lotPage.substring(offerRowStart, offerRowEnd);
+        StringBuilder largeLotPage =
+                new StringBuilder(lotPage.length() + offerRow.length() * offerCount);
+
+        largeLotPage.append(lotPage, 0, offerRowStart);
+
+        for (int i = 0; i < offerCount; i++) {
+            largeLotPage.append(offerRow);
+        }
+
+        largeLotPage.append(lotPage, offerRowEnd, lotPage.length());
+
+        return largeLotPage.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create parser whose every request is answered with the fixture
+     *
+     * @param fixture html which will be returned for every request
+     * @return parser
+     */
+    static JsoupFunPayParser newParser(byte[] fixture) {
+        OkHttpClient httpClient =
+                new OkHttpClient.Builder()
+                        .addInterceptor(
+                                chain ->
+                                        new Response.Builder()
+                                                .request(chain.request())
+                                                .protocol(Protocol.HTTP_1_1)
+                                                .code(200)
+                                                .message("OK")
+                                                .body(ResponseBody.create(fixture, HTML_MEDIA_TYPE))
+                                                .build())
+                        .build();
+
+        return new JsoupFunPayParser(httpClient, BASE_URL);
+    }
+}
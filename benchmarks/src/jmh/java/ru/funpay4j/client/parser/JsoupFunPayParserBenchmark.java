@@ -0,0 +1,230 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * Benchmarks of the {@link JsoupFunPayParser} parse paths. Every parser reads its page from memory,
+ * so the results cover the response body decoding, the Jsoup parsing and the extraction
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsoupFunPayParserBenchmark {
+    /** Parser answering with the lot fixture */
+    @State(Scope.Benchmark)
+    public static class LotState {
+        JsoupFunPayParser parser;
+
+        /** Create the parser */
+        @Setup
+        public void setUp() {
+            parser = BenchmarkFixtures.newParser(BenchmarkFixtures.read("getLotResponse.html"));
+        }
+    }
+
+    /** Parser answering with the synthetic lot page containing many offers */
+    @State(Scope.Benchmark)
+    public static class LargeLotState {
+        /** Number of offers on the lot page */
+        @Param({"200", "2000"})
+        public int offerCount;
+
+        JsoupFunPayParser parser;
+
+        /** Create the parser */
+        @Setup
+        public void setUp() {
+            parser = BenchmarkFixtures.newParser(BenchmarkFixtures.newLargeLotPage(offerCount));
+        }
+    }
+
+    /** Parser answering with the offer fixture */
+    @State(Scope.Benchmark)
+    public static class OfferState {
+        JsoupFunPayParser parser;
+
+        /** Create the parser */
+        @Setup
+        public void setUp() {
+            parser = BenchmarkFixtures.newParser(BenchmarkFixtures.read("getOfferResponse.html"));
+        }
+    }
+
+    /** Parser answering with the user fixture */
+    @State(Scope.Benchmark)
+    public static class UserState {
+        JsoupFunPayParser parser;
+
+        /** Create the parser */
+        @Setup
+        public void setUp() {
+            parser = BenchmarkFixtures.newParser(BenchmarkFixtures.read("getUserResponse.html"));
+        }
+    }
+
+    /** Parser answering with the seller reviews fixture and the already parsed fixture */
+    @State(Scope.Benchmark)
+    public static class SellerReviewsState {
+        JsoupFunPayParser parser;
+
+        Document reviewsHtml;
+
+        /** Create the parser and parse the fixture */
+        @Setup
+        public void setUp() {
+            byte[] fixture = BenchmarkFixtures.read("getSellerReviewsResponse.html");
+
+            parser = BenchmarkFixtures.newParser(fixture);
+            reviewsHtml = Jsoup.parse(new String(fixture, StandardCharsets.UTF_8));
+        }
+    }
+
+    /** Parser answering with the transactions fixture */
+    @State(Scope.Benchmark)
+    public static class TransactionsState {
+        JsoupFunPayParser parser;
+
+        /** Create the parser */
+        @Setup
+        public void setUp() {
+            parser =
+                    BenchmarkFixtures.newParser(
+                            BenchmarkFixtures.read("getTransactionsResponse.html"));
+        }
+    }
+
+    /**
+     * Parse the lot page
+     *
+     * @param state benchmark state
+     * @return lot
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public ParsedLot parseLot(LotState state) throws FunPayApiException {
+        return state.parser.parseLot(149L);
+    }
+
+    /**
+     * Parse the synthetic lot page containing many offers
+     *
+     * @param state benchmark state
+     * @return lot
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public ParsedLot parseLargeLot(LargeLotState state) throws FunPayApiException {
+        return state.parser.parseLot(149L);
+    }
+
+    /**
+     * Parse the offer page
+     *
+     * @param state benchmark state
+     * @return offer
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public ParsedOffer parseOffer(OfferState state) throws FunPayApiException {
+        return state.parser.parseOffer(33036049L);
+    }
+
+    /**
+     * Parse the user page
+     *
+     * @param state benchmark state
+     * @return user
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public ParsedUser parseUser(UserState state) throws FunPayApiException {
+        return state.parser.parseUser(2L);
+    }
+
+    /**
+     * Parse the user page authorized
+     *
+     * @param state benchmark state
+     * @return user
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public ParsedUser parseUserAuthorized(UserState state) throws FunPayApiException {
+        return state.parser.parseUser("benchmark", 2L);
+    }
+
+    /**
+     * Parse one seller reviews page
+     *
+     * @param state benchmark state
+     * @return seller reviews
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public List<ParsedSellerReview> parseSellerReviews(SellerReviewsState state)
+            throws FunPayApiException {
+        return state.parser.parseSellerReviews(2L, 1);
+    }
+
+    /**
+     * Extract seller reviews from the already parsed page
+     *
+     * @param state benchmark state
+     * @return seller reviews
+     */
+    @Benchmark
+    public List<ParsedSellerReview> extractReviewsFromReviewsHtml(SellerReviewsState state) {
+        List<ParsedSellerReview> sellerReviews = new ArrayList<>();
+
+        state.parser.extractReviewsFromReviewsHtml(state.reviewsHtml, sellerReviews);
+
+        return sellerReviews;
+    }
+
+    /**
+     * Parse one transactions page
+     *
+     * @param state benchmark state
+     * @return transactions
+     * @throws FunPayApiException if the other api-related exception
+     */
+    @Benchmark
+    public List<ParsedTransaction> parseTransactions(TransactionsState state)
+            throws FunPayApiException {
+        return state.parser.parseTransactions("benchmark", 2L, 1);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares parsing the lot page from the response body buffered as a string with parsing it
+ * directly from the response stream. Run with the gc profiler to compare the allocation rate per
+ * parsed page
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParseHtmlBenchmark {
+    private static final MediaType HTML_MEDIA_TYPE = MediaType.get("text/html; charset=utf-8");
+
+    /** Synthetic lot page containing many offers */
+    @State(Scope.Benchmark)
+    public static class LotPageState {
+        /** Number of offers on the lot page */
+        @Param({"200", "2000"})
+        public int offerCount;
+
+        JsoupFunPayParser parser;
+
+        byte[] lotPage;
+
+        /** Create the parser and the lot page */
+        @Setup
+        public void setUp() {
+            lotPage = BenchmarkFixtures.newLargeLotPage(offerCount);
+            parser = BenchmarkFixtures.newParser(lotPage);
+        }
+
+        Response newResponse() {
+            return new Response.Builder()
+                    .request(new Request.Builder().url("http://funpay.benchmark/").build())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(lotPage, HTML_MEDIA_TYPE))
+                    .build();
+        }
+    }
+
+    /**
+     * Parse the lot page from the response body buffered as a string
+     *
+     * @param state benchmark state
+     * @return parsed document
+     * @throws IOException if the response body could not be read
+     */
+    @Benchmark
+    public Document parseBufferedString(LotPageState state) throws IOException {
+        try (Response response = state.newResponse()) {
+            return Jsoup.parse(response.body().string());
+        }
+    }
+
+    /**
+     * Parse the lot page directly from the response stream
+     *
+     * @param state benchmark state
+     * @return parsed document
+     * @throws IOException if the response body could not be read
+     */
+    @Benchmark
+    public Document parseResponseStream(LotPageState state) throws IOException {
+        try (Response response = state.newResponse()) {
+            return state.parser.parseHtml(response);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ru.funpay4j.client.objects.offer.ParsedPreviewOffer;
+import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
+
+/**
+ * Compares extracting the preview offers of the parsed lot page with a separate class lookup for
+ * every field, as the parser did before, with the single traversal of every row by {@link
+ * PreviewOfferRowVisitor}. The page is parsed once, so only the extraction of the rows is measured.
+ * Divide the time of one operation by the offer count to get the cost of one row
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PreviewOfferRowBenchmark {
+    /** Offer rows of the synthetic lot page */
+    @State(Scope.Benchmark)
+    public static class OfferRowsState {
+        /** Number of offers on the lot page */
+        @Param({"2000"})
+        public int offerCount;
+
+        JsoupFunPayParser parser;
+
+        List<Element> offerRows;
+
+        /** Parse the lot page and select its offer rows */
+        @Setup
+        public void setUp() {
+            byte[] lotPage = BenchmarkFixtures.newLargeLotPage(offerCount);
+
+            parser = BenchmarkFixtures.newParser(lotPage);
+            offerRows =
+                    Jsoup.parse(new String(lotPage, StandardCharsets.UTF_8))
+                            .getElementsByClass("tc")
+                            .first()
+                            .select("a");
+        }
+    }
+
+    /**
+     * Extract the preview offers looking up every field by its class
+     *
+     * @param state benchmark state
+     * @return preview offers
+     */
+    @Benchmark
+    public List<ParsedPreviewOffer> extractWithClassLookups(OfferRowsState state) {
+        List<ParsedPreviewOffer> previewOffers = new ArrayList<>(state.offerRows.size());
+
+        for (Element offerRow : state.offerRows) {
+            previewOffers.add(extractWithClassLookups(offerRow));
+        }
+
+        return previewOffers;
+    }
+
+    /**
+     * Extract the preview offers traversing every row once
+     *
+     * @param state benchmark state
+     * @return preview offers
+     */
+    @Benchmark
+    public List<ParsedPreviewOffer> extractWithRowVisitor(OfferRowsState state) {
+        List<ParsedPreviewOffer> previewOffers = new ArrayList<>(state.offerRows.size());
+
+        for (Element offerRow : state.offerRows) {
+            previewOffers.add(state.parser.extractLotPreviewOffer(offerRow));
+        }
+
+        return previewOffers;
+    }
+
+    private static ParsedPreviewOffer extractWithClassLookups(Element previewOffer) {
+        String sellerStyle = previewOffer.getElementsByClass("avatar-photo").attr("style");
+        String sellerDataHref = previewOffer.getElementsByClass("avatar-photo").attr("data-href");
+        Element reviewCountElement = previewOffer.getElementsByClass("rating-mini-count").first();
+        String avatarPhotoLink = sellerStyle.substring(22, sellerStyle.length() - 2);
+        boolean isSellerOnline =
+                previewOffer.getElementsByClass("media media-user online style-circle").first()
+                        != null;
+
+        return ParsedPreviewOffer.builder()
+                .offerId(Long.parseLong(previewOffer.attr("href").substring(33)))
+                .shortDescription(previewOffer.getElementsByClass("tc-desc-text").text())
+                .price(
+                        Double.parseDouble(
+                                previewOffer.getElementsByClass("tc-price").attr("data-s")))
+                .isAutoDelivery(previewOffer.getElementsByClass("auto-dlv-icon").first() != null)
+                .isPromo(previewOffer.getElementsByClass("promo-offer-icon").first() != null)
+                .seller(
+                        ParsedPreviewSeller.builder()
+                                .userId(
+                                        Long.parseLong(
+                                                sellerDataHref.substring(
+                                                        25, sellerDataHref.length() - 1)))
+                                .username(previewOffer.getElementsByClass("media-user-name").text())
+                                .avatarPhotoLink(
+                                        avatarPhotoLink.equals("/img/layout/avatar.png")
+                                                ? null
+                                                : avatarPhotoLink)
+                                .isOnline(isSellerOnline)
+                                .reviewCount(
+                                        reviewCountElement == null
+                                                ? 0
+                                                : Integer.parseInt(reviewCountElement.text()))
+                                .build())
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import ru.funpay4j.utils.FunPayUserUtilBenchmark.CreatedAtState;
+import ru.funpay4j.utils.FunPayUserUtilBenchmark.LastSeenAtState;
+import ru.funpay4j.utils.FunPayUserUtilBenchmark.RegisterDateState;
+
+/**
+ * Benchmarks of the {@link FunPayDateConverter} date conversions, using the same dates as {@link
+ * FunPayUserUtilBenchmark} so the results can be compared directly
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FunPayDateConverterBenchmark {
+    /**
+     * Convert the registration date
+     *
+     * @param state benchmark state
+     * @return date
+     * @throws ParseException parsing exception
+     */
+    @Benchmark
+    public Date convertRegisterDateStringToDate(RegisterDateState state) throws ParseException {
+        return FunPayDateConverter.convertRegisterDateStringToDate(state.registerDate);
+    }
+
+    /**
+     * Convert the last seen date
+     *
+     * @param state benchmark state
+     * @return date
+     * @throws ParseException parsing exception
+     */
+    @Benchmark
+    public Date convertLastSeenAtStringToDate(LastSeenAtState state) throws ParseException {
+        return FunPayDateConverter.convertLastSeenAtStringToDate(state.lastSeenAt);
+    }
+
+    /**
+     * Convert the seller review creation date
+     *
+     * @param state benchmark state
+     * @return date
+     * @throws ParseException parsing exception
+     */
+    @Benchmark
+    public Date convertAdvancedSellerReviewCreatedAtToDate(CreatedAtState state)
+            throws ParseException {
+        return FunPayDateConverter.convertAdvancedSellerReviewCreatedAtToDate(state.createdAt);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.utils;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the {@link FunPayUserUtil} date conversions for every supported date form
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FunPayUserUtilBenchmark {
+    /** Registration dates in every supported form */
+    @State(Scope.Benchmark)
+    public static class RegisterDateState {
+        /** Registration date which will be converted */
+        @Param({"сегодня, 12:30", "вчера, 23:15", "5 октября, 19:45", "11 июля 2019, 15:52"})
+        public String registerDate;
+    }
+
+    /** Last seen dates in every supported form */
+    @State(Scope.Benchmark)
+    public static class LastSeenAtState {
+        /** Last seen date which will be converted */
+        @Param({
+            "Был сегодня в 12:30 (2 часа назад)",
+            "Был вчера в 23:15 (1 день назад)",
+            "Был 5 октября в 19:45 (1 неделя назад)",
+            "Был 11 июля 2019 в 15:52 (5 лет назад)"
+        })
+        public String lastSeenAt;
+    }
+
+    /** Seller review creation dates in every supported form */
+    @State(Scope.Benchmark)
+    public static class CreatedAtState {
+        /** Seller review creation date which will be converted */
+        @Param({"сегодня, 12:30", "вчера, 23:15"})
+        public String createdAt;
+    }
+
+    /**
+     * Convert the registration date
+     *
+     * @param state benchmark state
+     * @return date
+     * @throws ParseException parsing exception
+     */
+    @Benchmark
+    public Date convertRegisterDateStringToDate(RegisterDateState state) throws ParseException {
+        return FunPayUserUtil.convertRegisterDateStringToDate(state.registerDate);
+    }
+
+    /**
+     * Convert the last seen date
+     *
+     * @param state benchmark state
+     * @return date
+     * @throws ParseException parsing exception
+     */
+    @Benchmark
+    public Date convertLastSeenAtStringToDate(LastSeenAtState state) throws ParseException {
+        return FunPayUserUtil.convertLastSeenAtStringToDate(state.lastSeenAt);
+    }
+
+    /**
+     * Convert the seller review creation date
+     *
+     * @param state benchmark state
+     * @return date
+     * @throws ParseException parsing exception
+     */
+    @Benchmark
+    public Date convertAdvancedSellerReviewCreatedAtToDate(CreatedAtState state)
+            throws ParseException {
+        return FunPayUserUtil.convertAdvancedSellerReviewCreatedAtToDate(state.createdAt);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.request.SaveOfferRequest;
+
+/**
+ * Interface for sending thematic requests to FunPay without blocking the calling thread
+ *
+ * <p>Every method returns immediately. The returned future is completed exceptionally with {@link
+ * FunPayApiException} or with the same runtime exception as the corresponding {@link
+ * FunPayClient} method throws
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public interface AsyncFunPayClient {
+    /**
+     * Send a request to update avatar
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param newAvatar avatar to be updated
+     * @return future which will be completed after the avatar is updated
+     */
+    CompletableFuture<Void> updateAvatar(String goldenKey, byte[] newAvatar);
+
+    /**
+     * Send a request to raise all offers
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param gameId game id for which offers will be raised
+     * @param lotId lot id for which offers will be raised
+     * @return future which will be completed after the offers are raised
+     */
+    CompletableFuture<Void> raiseAllOffers(String goldenKey, long gameId, long lotId);
+
+    /**
+     * Send a request to save offer
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param csrfToken csrf token which is required to interact with the user in this operation
+     * @param phpSessionId user session without which the csrf token will be useless
+     * @param request request storing all necessary data for saving offer
+     * @return future which will be completed after the offer is saved
+     */
+    CompletableFuture<Void> saveOffer(
+            String goldenKey, String csrfToken, String phpSessionId, SaveOfferRequest request);
+
+    /**
+     * Send a request to add offer image
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param image byte file representing the image
+     * @return future of imageId
+     */
+    CompletableFuture<Long> addOfferImage(String goldenKey, byte[] image);
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import ru.funpay4j.client.http.OkHttpFutures;
+import ru.funpay4j.client.request.SaveOfferRequest;
+
+/**
+ * This implementation of AsyncFunPayClient uses the OkHttp enqueue path to send request. Like
+ * {@link OkHttpFunPayClient}, it sends every request only once, because the requests change the
+ * account and are not safe to repeat
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class OkHttpAsyncFunPayClient implements AsyncFunPayClient {
+    @NonNull private final OkHttpClient httpClient;
+
+    @NonNull private final OkHttpFunPayClient funPayClient;
+
+    /**
+     * Creates a new OkHttpAsyncFunPayClient instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     */
+    public OkHttpAsyncFunPayClient(@NonNull OkHttpClient httpClient, @NonNull String baseURL) {
+        this.httpClient = httpClient;
+        this.funPayClient = new OkHttpFunPayClient(httpClient, baseURL);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> updateAvatar(
+            @NonNull String goldenKey, byte @NonNull [] newAvatar) {
+        return OkHttpFutures.enqueue(
+                httpClient,
+                funPayClient.newUpdateAvatarRequest(goldenKey, newAvatar),
+                response -> {
+                    funPayClient.handleUpdateAvatarResponse(response);
+                    return null;
+                });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> raiseAllOffers(
+            @NonNull String goldenKey, long gameId, long lotId) {
+        return OkHttpFutures.enqueue(
+                httpClient,
+                funPayClient.newRaiseAllOffersRequest(goldenKey, gameId, lotId),
+                response -> {
+                    funPayClient.handleRaiseAllOffersResponse(response);
+                    return null;
+                });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> saveOffer(
+            @NonNull String goldenKey,
+            @NonNull String csrfToken,
+            @NonNull String phpSessionId,
+            @NonNull SaveOfferRequest request) {
+        return OkHttpFutures.enqueue(
+                httpClient,
+                funPayClient.newSaveOfferRequest(goldenKey, csrfToken, phpSessionId, request),
+                response -> {
+                    funPayClient.handleSaveOfferResponse(response);
+                    return null;
+                });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Long> addOfferImage(
+            @NonNull String goldenKey, byte @NonNull [] image) {
+        return OkHttpFutures.enqueue(
+                httpClient,
+                funPayClient.newAddOfferImageRequest(goldenKey, image),
+                funPayClient::handleAddOfferImageResponse);
+    }
+}
@@ -29,6 +29,7 @@ import ru.funpay4j.client.exceptions.InvalidCsrfTokenOrPHPSESSIDException;
 import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
 import ru.funpay4j.client.exceptions.offer.OfferAlreadyRaisedException;
 import ru.funpay4j.client.request.SaveOfferRequest;
+import ru.funpay4j.utils.FunPayOfferUtil;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -59,25 +60,9 @@ public class OkHttpFunPayClient implements FunPayClient {
     @Override
     public void updateAvatar(@NonNull String goldenKey, byte @NonNull [] newAvatar)
             throws FunPayApiException, InvalidGoldenKeyException {
-        RequestBody requestBody =
-                new MultipartBody.Builder()
-                        .setType(MultipartBody.FORM)
-                        .addFormDataPart("file", "image.jpg", RequestBody.create(newAvatar))
-                        .build();
-
         try (Response response =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .post(requestBody)
-                                        .url(baseURL + "/file/avatar")
-                                        .addHeader("Cookie", "golden_key=" + goldenKey)
-                                        .addHeader("x-requested-with", "XMLHttpRequest")
-                                        .build())
-                        .execute()) {
-            if (response.code() == 403) {
-                throw new InvalidGoldenKeyException("goldenKey is invalid");
-            }
+                httpClient.newCall(newUpdateAvatarRequest(goldenKey, newAvatar)).execute()) {
+            handleUpdateAvatarResponse(response);
         } catch (IOException e) {
             throw new FunPayApiException(e.getLocalizedMessage());
         }
@@ -87,34 +72,9 @@ public class OkHttpFunPayClient implements FunPayClient {
     @Override
     public void raiseAllOffers(@NonNull String goldenKey, long gameId, long lotId)
             throws FunPayApiException, InvalidGoldenKeyException, OfferAlreadyRaisedException {
-        RequestBody requestBody =
-                new MultipartBody.Builder()
-                        .setType(MultipartBody.FORM)
-                        .addFormDataPart("game_id", String.valueOf(gameId))
-                        .addFormDataPart("node_id", String.valueOf(lotId))
-                        .build();
-
         try (Response response =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .post(requestBody)
-                                        .url(baseURL + "/lots/raise")
-                                        .addHeader("Cookie", "golden_key=" + goldenKey)
-                                        .addHeader("x-requested-with", "XMLHttpRequest")
-                                        .build())
-                        .execute()) {
-            if (response.code() == 403) {
-                throw new InvalidGoldenKeyException("goldenKey is invalid");
-            }
-
-            if (JsonParser.parseString(response.body().string())
-                    .getAsJsonObject()
-                    .get("msg")
-                    .getAsString()
-                    .startsWith("Подождите")) {
-                throw new OfferAlreadyRaisedException("Offer already raised");
-            }
+                httpClient.newCall(newRaiseAllOffersRequest(goldenKey, gameId, lotId)).execute()) {
+            handleRaiseAllOffersResponse(response);
         } catch (IOException e) {
             throw new FunPayApiException(e.getLocalizedMessage());
         }
@@ -128,6 +88,123 @@ public class OkHttpFunPayClient implements FunPayClient {
             @NonNull String phpSessionId,
             @NonNull SaveOfferRequest request)
             throws FunPayApiException, InvalidGoldenKeyException {
+        try (Response response =
+                httpClient
+                        .newCall(newSaveOfferRequest(goldenKey, csrfToken, phpSessionId, request))
+                        .execute()) {
+            handleSaveOfferResponse(response);
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Long addOfferImage(@NonNull String goldenKey, byte @NonNull [] image)
+            throws FunPayApiException, InvalidGoldenKeyException {
+        try (Response response =
+                httpClient.newCall(newAddOfferImageRequest(goldenKey, image)).execute()) {
+            return handleAddOfferImageResponse(response);
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Build request to update avatar
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param newAvatar avatar to be updated
+     * @return request
+     */
+    Request newUpdateAvatarRequest(String goldenKey, byte[] newAvatar) {
+        RequestBody requestBody =
+                new MultipartBody.Builder()
+                        .setType(MultipartBody.FORM)
+                        .addFormDataPart("file", "image.jpg", RequestBody.create(newAvatar))
+                        .build();
+
+        return new Request.Builder()
+                .post(requestBody)
+                .url(baseURL + "/file/avatar")
+                .addHeader("Cookie", "golden_key=" + goldenKey)
+                .addHeader("x-requested-with", "XMLHttpRequest")
+                .build();
+    }
+
+    /**
+     * Handle response of the avatar update
+     *
+     * @param response response of the avatar update
+     * @throws InvalidGoldenKeyException if the golden key is invalid
+     */
+    void handleUpdateAvatarResponse(Response response) {
+        if (response.code() == 403) {
+            throw new InvalidGoldenKeyException("goldenKey is invalid");
+        }
+    }
+
+    /**
+     * Build request to raise all offers
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param gameId game id for which offers will be raised
+     * @param lotId lot id for which offers will be raised
+     * @return request
+     */
+    Request newRaiseAllOffersRequest(String goldenKey, long gameId, long lotId) {
+        RequestBody requestBody =
+                new MultipartBody.Builder()
+                        .setType(MultipartBody.FORM)
+                        .addFormDataPart("game_id", String.valueOf(gameId))
+                        .addFormDataPart("node_id", String.valueOf(lotId))
+                        .build();
+
+        return new Request.Builder()
+                .post(requestBody)
+                .url(baseURL + "/lots/raise")
+                .addHeader("Cookie", "golden_key=" + goldenKey)
+                .addHeader("x-requested-with", "XMLHttpRequest")
+                .build();
+    }
+
+    /**
+     * Handle response of the offers raise
+     *
+     * @param response response of the offers raise
+     * @throws IOException if the response body could not be read
+     * @throws InvalidGoldenKeyException if the golden key is invalid
+     * @throws OfferAlreadyRaisedException if the offer already raised, with the time left before
+     *     the next raise
+     */
+    void handleRaiseAllOffersResponse(Response response) throws IOException {
+        if (response.code() == 403) {
+            throw new InvalidGoldenKeyException("goldenKey is invalid");
+        }
+
+        String msg =
+                JsonParser.parseString(response.body().string())
+                        .getAsJsonObject()
+                        .get("msg")
+                        .getAsString();
+
+        if (msg.startsWith("Подождите")) {
+            throw new OfferAlreadyRaisedException(
+                    msg, FunPayOfferUtil.convertRaiseWaitMessageToDuration(msg));
+        }
+    }
+
+    /**
+     * Build request to save offer
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param csrfToken csrf token which is required to interact with the user in this operation
+     * @param phpSessionId user session without which the csrf token will be useless
+     * @param request request storing all necessary data for saving offer
+     * @return request
+     */
+    Request newSaveOfferRequest(
+            String goldenKey, String csrfToken, String phpSessionId, SaveOfferRequest request) {
         MultipartBody.Builder multipartBody =
                 new MultipartBody.Builder()
                         .setType(MultipartBody.FORM)
@@ -199,84 +276,90 @@ public class OkHttpFunPayClient implements FunPayClient {
             }
         }
 
-        try (Response response =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .post(multipartBody.build())
-                                        .url(baseURL + "/lots/offerSave")
-                                        .addHeader(
-                                                "Cookie",
-                                                "golden_key="
-                                                        + goldenKey
-                                                        + "; PHPSESSID="
-                                                        + phpSessionId)
-                                        .addHeader("x-requested-with", "XMLHttpRequest")
-                                        .build())
-                        .execute()) {
-            String responseBodyString = response.body().string();
+        return new Request.Builder()
+                .post(multipartBody.build())
+                .url(baseURL + "/lots/offerSave")
+                .addHeader("Cookie", "golden_key=" + goldenKey + "; PHPSESSID=" + phpSessionId)
+                .addHeader("x-requested-with", "XMLHttpRequest")
+                .build();
+    }
+
+    /**
+     * Handle response of the offer save
+     *
+     * @param response response of the offer save
+     * @throws IOException if the response body could not be read
+     * @throws InvalidGoldenKeyException if the golden key is invalid
+     * @throws InvalidCsrfTokenOrPHPSESSIDException if the csrf token or PHPSESSID is invalid
+     */
+    void handleSaveOfferResponse(Response response) throws IOException {
+        String responseBodyString = response.body().string();
 
-            JsonObject responseJsonObject = null;
+        JsonObject responseJsonObject = null;
 
-            if (!responseBodyString.isEmpty()) {
-                responseJsonObject = JsonParser.parseString(responseBodyString).getAsJsonObject();
-            }
+        if (!responseBodyString.isEmpty()) {
+            responseJsonObject = JsonParser.parseString(responseBodyString).getAsJsonObject();
+        }
 
-            if (response.code() == 403) {
-                throw new InvalidGoldenKeyException("goldenKey is invalid");
-            } else if (response.code() == 400
-                    && responseJsonObject != null
-                    && responseJsonObject.get("msg") != null
-                    && responseJsonObject
-                            .get("msg")
-                            .getAsString()
-                            .equals("Обновите страницу и повторите попытку.")) {
-                throw new InvalidCsrfTokenOrPHPSESSIDException(
-                        "csrf token or PHPSESSID is invalid");
-            }
+        if (response.code() == 403) {
+            throw new InvalidGoldenKeyException("goldenKey is invalid");
+        } else if (response.code() == 400
+                && responseJsonObject != null
+                && responseJsonObject.get("msg") != null
+                && responseJsonObject
+                        .get("msg")
+                        .getAsString()
+                        .equals("Обновите страницу и повторите попытку.")) {
+            throw new InvalidCsrfTokenOrPHPSESSIDException("csrf token or PHPSESSID is invalid");
+        }
 
-            if (responseJsonObject != null && !responseJsonObject.get("done").getAsBoolean()) {
-                // TODO: Throw something more contextual than RuntimeException
-                throw new RuntimeException(
-                        responseJsonObject.get("error")
-                                + " "
-                                + responseJsonObject.get("errors").toString());
-            }
-        } catch (IOException e) {
-            throw new FunPayApiException(e.getLocalizedMessage());
+        if (responseJsonObject != null && !responseJsonObject.get("done").getAsBoolean()) {
+            // TODO: Throw something more contextual than RuntimeException
+            throw new RuntimeException(
+                    responseJsonObject.get("error")
+                            + " "
+                            + responseJsonObject.get("errors").toString());
         }
     }
 
-    /** {@inheritDoc} */
-    @Override
-    public Long addOfferImage(@NonNull String goldenKey, byte @NonNull [] image)
-            throws FunPayApiException, InvalidGoldenKeyException {
+    /**
+     * Build request to add offer image
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param image byte file representing the image
+     * @return request
+     */
+    Request newAddOfferImageRequest(String goldenKey, byte[] image) {
         RequestBody requestBody =
                 new MultipartBody.Builder()
                         .setType(MultipartBody.FORM)
                         .addFormDataPart("file", "image.jpg", RequestBody.create(image))
                         .build();
 
-        try (Response response =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .post(requestBody)
-                                        .url(baseURL + "/file/addOfferImage")
-                                        .addHeader("Cookie", "golden_key=" + goldenKey)
-                                        .addHeader("x-requested-with", "XMLHttpRequest")
-                                        .build())
-                        .execute()) {
-            if (response.code() == 403) {
-                throw new InvalidGoldenKeyException("goldenKey is invalid");
-            }
+        return new Request.Builder()
+                .post(requestBody)
+                .url(baseURL + "/file/addOfferImage")
+                .addHeader("Cookie", "golden_key=" + goldenKey)
+                .addHeader("x-requested-with", "XMLHttpRequest")
+                .build();
+    }
 
-            return JsonParser.parseString(response.body().string())
-                    .getAsJsonObject()
-                    .get("fileId")
-                    .getAsLong();
-        } catch (IOException e) {
-            throw new FunPayApiException(e.getLocalizedMessage());
+    /**
+     * Handle response of the offer image addition
+     *
+     * @param response response of the offer image addition
+     * @return imageId
+     * @throws IOException if the response body could not be read
+     * @throws InvalidGoldenKeyException if the golden key is invalid
+     */
+    Long handleAddOfferImageResponse(Response response) throws IOException {
+        if (response.code() == 403) {
+            throw new InvalidGoldenKeyException("goldenKey is invalid");
         }
+
+        return JsonParser.parseString(response.body().string())
+                .getAsJsonObject()
+                .get("fileId")
+                .getAsLong();
     }
 }
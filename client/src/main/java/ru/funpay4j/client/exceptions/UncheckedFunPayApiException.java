@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.exceptions;
+
+/**
+ * Wraps {@link FunPayApiException} where a checked exception cannot be thrown, for example while
+ * advancing a lazily fetched iterator
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class UncheckedFunPayApiException extends RuntimeException {
+    /**
+     * Initializes a new UncheckedFunPayApiException exception
+     *
+     * @param cause the wrapped api-related exception
+     */
+    public UncheckedFunPayApiException(FunPayApiException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Get the wrapped api-related exception
+     *
+     * @return the wrapped api-related exception
+     */
+    @Override
+    public synchronized FunPayApiException getCause() {
+        return (FunPayApiException) super.getCause();
+    }
+}
@@ -14,6 +14,10 @@
 
 package ru.funpay4j.client.exceptions.offer;
 
+import java.time.Duration;
+
+import org.jetbrains.annotations.Nullable;
+
 /**
  * Base class for exception related to the fact that the offer already raised
  *
@@ -21,12 +25,37 @@ package ru.funpay4j.client.exceptions.offer;
  * @since 1.0.3
  */
 public class OfferAlreadyRaisedException extends RuntimeException {
+    private final Duration waitDuration;
+
     /**
      * Initializes a new OfferAlreadyRaisedException exception
      *
      * @param message exception message
      */
     public OfferAlreadyRaisedException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * Initializes a new OfferAlreadyRaisedException exception
+     *
+     * @param message exception message
+     * @param waitDuration time left before the offer can be raised again
+     * @since 1.0.7
+     */
+    public OfferAlreadyRaisedException(String message, @Nullable Duration waitDuration) {
         super(message);
+        this.waitDuration = waitDuration;
+    }
+
+    /**
+     * Get the time left before the offer can be raised again
+     *
+     * @return time left before the next raise or null if FunPay did not return it
+     * @since 1.0.7
+     */
+    @Nullable
+    public Duration getWaitDuration() {
+        return waitDuration;
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * This object represents the limit of the requests to one FunPay endpoint
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class EndpointLimit {
+    /** Path prefix of the endpoint, for example "/lots/" */
+    @NonNull private String pathPrefix;
+
+    /** Max number of requests per second while FunPay does not throttle the client */
+    private double permitsPerSecond;
+
+    /** Max number of requests which may be sent at once after the endpoint has been idle */
+    @Builder.Default private int burst = 1;
+
+    /** Number of requests per second below which the throttled endpoint is not slowed down */
+    @Builder.Default private double minPermitsPerSecond = 0.1;
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.http;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.NonNull;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import ru.funpay4j.client.exceptions.FunPayApiException;
+
+/**
+ * Utility class for sending requests through the OkHttp enqueue path and exposing the result as
+ * {@link CompletableFuture}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public final class OkHttpFutures {
+    private OkHttpFutures() {}
+
+    /**
+     * Enqueue request and handle its response once it is received
+     *
+     * <p>The response handler is invoked on the OkHttp dispatcher thread and the response is
+     * closed after it. An {@link IOException} is reported as {@link FunPayApiException}, anything
+     * else thrown by the handler, including an error, is reported as is. Cancelling the returned
+     * future cancels the http call
+     *
+     * @param httpClient httpClient which will be used to send the request
+     * @param request request which will be sent
+     * @param responseHandler handler which will convert the response into the result
+     * @param <T> type of the result
+     * @return future which will be completed with the result
+     */
+    public static <T> CompletableFuture<T> enqueue(
+            @NonNull OkHttpClient httpClient,
+            @NonNull Request request,
+            @NonNull ResponseHandler<T> responseHandler) {
+        return enqueue(httpClient, request, RetryPolicy.NO_RETRY, responseHandler);
+    }
+
+    /**
+     * Enqueue request, retry it according to the retry policy and handle its response once it is
+     * received
+     *
+     * <p>A failed attempt is sent again after the backoff of the retry policy, which is waited on
+     * a shared scheduler thread instead of the OkHttp dispatcher thread. Only the response of the
+     * last attempt is passed to the response handler, so the handler is invoked at most once
+     *
+     * @param httpClient httpClient which will be used to send the request
+     * @param request request which will be sent
+     * @param retryPolicy policy of retrying the failed request
+     * @param responseHandler handler which will convert the response into the result
+     * @param <T> type of the result
+     * @return future which will be completed with the result
+     * @since 1.0.7
+     */
+    public static <T> CompletableFuture<T> enqueue(
+            @NonNull OkHttpClient httpClient,
+            @NonNull Request request,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull ResponseHandler<T> responseHandler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicReference<Call> currentCall = new AtomicReference<>();
+
+        future.whenComplete(
+                (result, throwable) -> {
+                    Call call = currentCall.get();
+
+                    if (future.isCancelled() && call != null) call.cancel();
+                });
+
+        enqueueAttempt(httpClient, request, retryPolicy, responseHandler, future, currentCall, 1);
+
+        return future;
+    }
+
+    /**
+     * Enqueue one attempt of the request
+     *
+     * @param httpClient httpClient which will be used to send the request
+     * @param request request which will be sent
+     * @param retryPolicy policy of retrying the failed request
+     * @param responseHandler handler which will convert the response into the result
+     * @param future future which will be completed with the result
+     * @param currentCall reference to the call of the current attempt, cancelled with the future
+     * @param attempt number of the attempt starting from 1
+     * @param <T> type of the result
+     */
+    private static <T> void enqueueAttempt(
+            OkHttpClient httpClient,
+            Request request,
+            RetryPolicy retryPolicy,
+            ResponseHandler<T> responseHandler,
+            CompletableFuture<T> future,
+            AtomicReference<Call> currentCall,
+            int attempt) {
+        Call call = httpClient.newCall(request);
+        boolean isLastAttempt = attempt >= retryPolicy.getMaxAttempts();
+
+        currentCall.set(call);
+
+        // the future may have been cancelled while the previous attempt was waiting to retry
+        if (future.isDone()) return;
+
+        call.enqueue(
+                new Callback() {
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        if (isLastAttempt || future.isDone()) {
+                            future.completeExceptionally(
+                                    new FunPayApiException(e.getLocalizedMessage()));
+                        } else {
+                            scheduleRetry();
+                        }
+                    }
+
+                    @Override
+                    public void onResponse(Call call, Response response) {
+                        try (Response funPayResponse = response) {
+                            if (!isLastAttempt
+                                    && retryPolicy.isRetryableStatusCode(funPayResponse.code())) {
+                                scheduleRetry();
+                            } else {
+                                future.complete(responseHandler.handle(funPayResponse));
+                            }
+                        } catch (IOException e) {
+                            future.completeExceptionally(
+                                    new FunPayApiException(e.getLocalizedMessage()));
+                        } catch (Throwable e) {
+                            // an error must complete the future too, or its callers wait forever
+                            future.completeExceptionally(e);
+                        }
+                    }
+
+                    private void scheduleRetry() {
+                        RetryScheduler.INSTANCE.schedule(
+                                () ->
+                                        enqueueAttempt(
+                                                httpClient,
+                                                request,
+                                                retryPolicy,
+                                                responseHandler,
+                                                future,
+                                                currentCall,
+                                                attempt + 1),
+                                retryPolicy.getBackoff(attempt).toNanos(),
+                                TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    /** Holder of the scheduler thread, created only when the first retry is scheduled */
+    private static final class RetryScheduler {
+        private static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "funpay4j-retry");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /**
+     * Handler converting the received response into the result
+     *
+     * @param <T> type of the result
+     * @author panic08
+     * @since 1.0.7
+     */
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+        /**
+         * Handle response
+         *
+         * @param response response which will be handled
+         * @return result
+         * @throws IOException if the response body could not be read
+         */
+        T handle(Response response) throws IOException;
+    }
+}
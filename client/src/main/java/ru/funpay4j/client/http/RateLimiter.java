@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import lombok.NonNull;
+
+/**
+ * Client-side limiter pacing the requests sent to FunPay. It is applied to the http client by
+ * {@link RateLimitingInterceptor}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public interface RateLimiter {
+    /**
+     * Wait until the request to the path may be sent
+     *
+     * @param path path of the request
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void acquire(@NonNull String path) throws InterruptedException;
+
+    /**
+     * Report the response code received for the request to the path, so the limiter can adjust its
+     * pace
+     *
+     * @param path path of the request
+     * @param code response code
+     */
+    void onResponse(@NonNull String path, int code);
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * This object represents the statistics of the rate limiter for one endpoint
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class RateLimiterStats {
+    /** Current number of requests per second allowed to the endpoint */
+    private double permitsPerSecond;
+
+    /** Number of requests which have been let through */
+    private long acquireCount;
+
+    /** Number of requests which had to wait before being sent */
+    private long waitCount;
+
+    /** Total time spent by the requests waiting in the queue */
+    private Duration totalWait;
+
+    /** Longest time spent by one request waiting in the queue */
+    private Duration maxWait;
+
+    /** Number of 429 and 5xx responses which slowed the endpoint down */
+    private long throttledResponseCount;
+
+    /**
+     * Get the average time spent by one request waiting in the queue
+     *
+     * @return average wait, zero if there were no requests yet
+     */
+    public Duration getAverageWait() {
+        return acquireCount == 0 ? Duration.ZERO : totalWait.dividedBy(acquireCount);
+    }
+}
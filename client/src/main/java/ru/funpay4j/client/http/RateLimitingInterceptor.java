@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import lombok.NonNull;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Interceptor pacing the requests of the http client with {@link RateLimiter}. Add it with {@link
+ * okhttp3.OkHttpClient.Builder#addInterceptor(Interceptor)}, so every call is paced once no matter
+ * how many times it is retried by OkHttp
+ *
+ * <p>Waiting blocks the calling thread, which is the OkHttp dispatcher thread for the enqueued
+ * calls
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class RateLimitingInterceptor implements Interceptor {
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Creates a new RateLimitingInterceptor instance
+     *
+     * @param rateLimiter limiter pacing the requests
+     */
+    public RateLimitingInterceptor(@NonNull RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String path = chain.request().url().encodedPath();
+
+        try {
+            rateLimiter.acquire(path);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limiter");
+        }
+
+        Response response = chain.proceed(chain.request());
+
+        rateLimiter.onResponse(path, response.code());
+
+        return response;
+    }
+}
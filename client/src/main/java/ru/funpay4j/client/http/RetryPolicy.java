@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * This object represents the policy of retrying the failed idempotent requests. A request is
+ * retried if it fails with an {@link java.io.IOException} or FunPay answers with one of the retried
+ * status codes. The backoff before every next attempt grows exponentially and is shortened by a
+ * random jitter, so the clients failed at the same time do not retry at the same time
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+    /** Policy sending every request only once */
+    public static final RetryPolicy NO_RETRY = RetryPolicy.builder().maxAttempts(1).build();
+
+    /** Max number of attempts including the first one */
+    @Builder.Default private int maxAttempts = 3;
+
+    /** Backoff before the first retry */
+    @Builder.Default @NonNull private Duration initialBackoff = Duration.ofMillis(500);
+
+    /** Max backoff before one retry */
+    @Builder.Default @NonNull private Duration maxBackoff = Duration.ofSeconds(10);
+
+    /** Factor by which the backoff is multiplied after every retry */
+    @Builder.Default private double multiplier = 2;
+
+    /** Max part of the backoff randomly cut off, from 0 for no jitter to 1 */
+    @Builder.Default private double jitter = 0.5;
+
+    /** Status codes of the responses which are retried */
+    @Builder.Default @NonNull
+    private Set<Integer> retryOnStatusCodes = new HashSet<>(Arrays.asList(429, 500, 502, 503, 504));
+
+    /**
+     * Check whether the response with the status code is retried
+     *
+     * @param code status code of the response
+     * @return true if the response is retried
+     */
+    public boolean isRetryableStatusCode(int code) {
+        return retryOnStatusCodes.contains(code);
+    }
+
+    /**
+     * Get the backoff before the retry
+     *
+     * @param retry number of the retry starting from 1
+     * @return backoff
+     */
+    public Duration getBackoff(int retry) {
+        double backoffNanos =
+                Math.min(
+                        maxBackoff.toNanos(),
+                        initialBackoff.toNanos() * Math.pow(multiplier, retry - 1));
+        double jitterRatio = jitter * ThreadLocalRandom.current().nextDouble();
+
+        return Duration.ofNanos((long) (backoffNanos * (1 - jitterRatio)));
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * This implementation of RateLimiter keeps a token bucket for every configured endpoint. The
+ * requests are matched to the endpoint with the longest path prefix, and the requests to the paths
+ * without a configured endpoint are not limited
+ *
+ * <p>The pace of every endpoint is adjusted with AIMD. A 429 or 5xx response multiplies the
+ * allowed number of requests per second by the decrease factor, and every other response adds the
+ * increase step to it until the configured limit is reached again
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+    private static final double DEFAULT_DECREASE_FACTOR = 0.5;
+
+    private static final double DEFAULT_INCREASE_STEP = 0.1;
+
+    private final List<TokenBucket> buckets;
+
+    private final double decreaseFactor;
+
+    private final double increaseStep;
+
+    private final LongSupplier ticker;
+
+    private final Sleeper sleeper;
+
+    /**
+     * Creates a new TokenBucketRateLimiter instance
+     *
+     * @param endpointLimits limits of the endpoints
+     * @param decreaseFactor factor by which the pace of the throttled endpoint is multiplied, 0.5
+     *     if null
+     * @param increaseStep number of requests per second added to the pace of the endpoint after
+     *     every successful response, 0.1 if null
+     */
+    @Builder
+    public TokenBucketRateLimiter(
+            @NonNull @Singular List<EndpointLimit> endpointLimits,
+            Double decreaseFactor,
+            Double increaseStep) {
+        this(
+                endpointLimits,
+                decreaseFactor == null ? DEFAULT_DECREASE_FACTOR : decreaseFactor,
+                increaseStep == null ? DEFAULT_INCREASE_STEP : increaseStep,
+                System::nanoTime,
+                TimeUnit.NANOSECONDS::sleep);
+    }
+
+    TokenBucketRateLimiter(
+            List<EndpointLimit> endpointLimits,
+            double decreaseFactor,
+            double increaseStep,
+            LongSupplier ticker,
+            Sleeper sleeper) {
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+        }
+
+        if (increaseStep < 0) {
+            throw new IllegalArgumentException("increaseStep must not be negative");
+        }
+
+        this.decreaseFactor = decreaseFactor;
+        this.increaseStep = increaseStep;
+        this.ticker = ticker;
+        this.sleeper = sleeper;
+        this.buckets = new ArrayList<>();
+
+        long now = ticker.getAsLong();
+
+        for (EndpointLimit endpointLimit : endpointLimits) {
+            if (endpointLimit.getPermitsPerSecond() <= 0
+                    || endpointLimit.getMinPermitsPerSecond() <= 0
+                    || endpointLimit.getBurst() < 1) {
+                throw new IllegalArgumentException(
+                        "Invalid limit of the endpoint " + endpointLimit.getPathPrefix());
+            }
+
+            buckets.add(new TokenBucket(endpointLimit, now));
+        }
+
+        // the first matching bucket has the longest path prefix
+        buckets.sort(
+                (first, second) ->
+                        Integer.compare(
+                                second.limit.getPathPrefix().length(),
+                                first.limit.getPathPrefix().length()));
+    }
+
+    /**
+     * Creates a new TokenBucketRateLimiter instance with the default limits of the lot, review,
+     * transaction, offer save and raise endpoints
+     *
+     * @return rate limiter
+     */
+    public static TokenBucketRateLimiter withDefaultLimits() {
+        return new TokenBucketRateLimiter(
+                Arrays.asList(
+                        EndpointLimit.builder()
+                                .pathPrefix("/lots/")
+                                .permitsPerSecond(5)
+                                .burst(10)
+                                .build(),
+                        EndpointLimit.builder()
+                                .pathPrefix("/users/reviews")
+                                .permitsPerSecond(2)
+                                .burst(5)
+                                .build(),
+                        EndpointLimit.builder()
+                                .pathPrefix("/users/transactions")
+                                .permitsPerSecond(2)
+                                .burst(5)
+                                .build(),
+                        EndpointLimit.builder()
+                                .pathPrefix("/lots/offerSave")
+                                .permitsPerSecond(1)
+                                .burst(3)
+                                .build(),
+                        EndpointLimit.builder()
+                                .pathPrefix("/lots/raise")
+                                .permitsPerSecond(0.5)
+                                .burst(2)
+                                .build()),
+                null,
+                null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void acquire(@NonNull String path) throws InterruptedException {
+        TokenBucket bucket = findBucket(path);
+
+        if (bucket == null) return;
+
+        long waitNanos = bucket.reserve(ticker.getAsLong());
+
+        if (waitNanos > 0) {
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onResponse(@NonNull String path, int code) {
+        TokenBucket bucket = findBucket(path);
+
+        if (bucket == null) return;
+
+        if (code == 429 || code >= 500) {
+            bucket.decrease(ticker.getAsLong());
+        } else {
+            bucket.increase(ticker.getAsLong());
+        }
+    }
+
+    /**
+     * Get the statistics of the endpoints
+     *
+     * @return statistics by the path prefix of the endpoint
+     */
+    public Map<String, RateLimiterStats> getStats() {
+        Map<String, RateLimiterStats> stats = new LinkedHashMap<>();
+
+        for (TokenBucket bucket : buckets) {
+            stats.put(bucket.limit.getPathPrefix(), bucket.getStats());
+        }
+
+        return stats;
+    }
+
+    private TokenBucket findBucket(String path) {
+        // requests built from a base URL ending with a slash start with two slashes
+        int start = 0;
+
+        while (path.startsWith("//", start)) start++;
+
+        for (TokenBucket bucket : buckets) {
+            if (path.startsWith(bucket.limit.getPathPrefix(), start)) return bucket;
+        }
+
+        return null;
+    }
+
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private class TokenBucket {
+        private final EndpointLimit limit;
+
+        private double permitsPerSecond;
+
+        private double tokens;
+
+        private long lastRefillNanos;
+
+        private long acquireCount;
+
+        private long waitCount;
+
+        private long totalWaitNanos;
+
+        private long maxWaitNanos;
+
+        private long throttledResponseCount;
+
+        private TokenBucket(EndpointLimit limit, long now) {
+            this.limit = limit;
+            this.permitsPerSecond = limit.getPermitsPerSecond();
+            this.tokens = limit.getBurst();
+            this.lastRefillNanos = now;
+        }
+
+        /** Take a token and return how long the caller has to wait for it */
+        private synchronized long reserve(long now) {
+            refill(now);
+
+            tokens -= 1;
+            acquireCount++;
+
+            if (tokens >= 0) return 0;
+
+            // the missing token is owed to the bucket, so the next callers queue up behind this one
+            long waitNanos = (long) (-tokens / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+
+            waitCount++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+
+            return waitNanos;
+        }
+
+        private synchronized void decrease(long now) {
+            refill(now);
+
+            throttledResponseCount++;
+            permitsPerSecond =
+                    Math.max(limit.getMinPermitsPerSecond(), permitsPerSecond * decreaseFactor);
+        }
+
+        private synchronized void increase(long now) {
+            refill(now);
+
+            permitsPerSecond =
+                    Math.min(limit.getPermitsPerSecond(), permitsPerSecond + increaseStep);
+        }
+
+        private void refill(long now) {
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+
+            tokens = Math.min(limit.getBurst(), tokens + elapsedSeconds * permitsPerSecond);
+            lastRefillNanos = now;
+        }
+
+        private synchronized RateLimiterStats getStats() {
+            return RateLimiterStats.builder()
+                    .permitsPerSecond(permitsPerSecond)
+                    .acquireCount(acquireCount)
+                    .waitCount(waitCount)
+                    .totalWait(Duration.ofNanos(totalWaitNanos))
+                    .maxWait(Duration.ofNanos(maxWaitNanos))
+                    .throttledResponseCount(throttledResponseCount)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.objects.lot;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import ru.funpay4j.client.objects.offer.ParsedPreviewOffer;
+import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
+
+/**
+ * This object represents the preview offers of the parsed FunPay lot stored by columns
+ *
+ * <p>The value of the row is stored at the row index of every column. The sellers are stored once
+ * in the dictionary by their user id, no matter how many offers they have
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class ParsedLotOfferTable {
+    private long lotId;
+
+    private long gameId;
+
+    private long[] offerIds;
+
+    private String[] shortDescriptions;
+
+    private double[] prices;
+
+    private BitSet autoDelivery;
+
+    private BitSet promo;
+
+    private long[] sellerIds;
+
+    private BitSet sellerOnline;
+
+    private Map<Long, ParsedPreviewSeller> sellers;
+
+    /**
+     * Get the number of the offers
+     *
+     * @return number of the offers
+     */
+    public int size() {
+        return offerIds.length;
+    }
+
+    /**
+     * Build the table of the preview offers of the parsed lot
+     *
+     * @param lot parsed lot whose preview offers will be stored by columns
+     * @return table of the preview offers
+     */
+    public static ParsedLotOfferTable from(ParsedLot lot) {
+        List<ParsedPreviewOffer> previewOffers = lot.getPreviewOffers();
+        Columns columns = new Columns(previewOffers.size());
+
+        for (ParsedPreviewOffer previewOffer : previewOffers) {
+            ParsedPreviewSeller seller = previewOffer.getSeller();
+
+            columns.addOffer(
+                    previewOffer.getOfferId(),
+                    previewOffer.getShortDescription(),
+                    previewOffer.getPrice(),
+                    previewOffer.isAutoDelivery(),
+                    previewOffer.isPromo(),
+                    seller.getUserId(),
+                    seller.isOnline());
+
+            if (!columns.containsSeller(seller.getUserId())) {
+                columns.addSeller(seller);
+            }
+        }
+
+        return columns.build(lot.getId(), lot.getGameId());
+    }
+
+    /**
+     * Columns of the table filled row by row, shared by every way of building the table
+     *
+     * @author panic08
+     * @since 1.0.7
+     */
+    public static final class Columns {
+        private final long[] offerIds;
+
+        private final String[] shortDescriptions;
+
+        private final double[] prices;
+
+        private final BitSet autoDelivery;
+
+        private final BitSet promo;
+
+        private final long[] sellerIds;
+
+        private final BitSet sellerOnline;
+
+        private final Map<Long, ParsedPreviewSeller> sellers = new LinkedHashMap<>();
+
+        private int size;
+
+        /**
+         * Creates a new Columns instance
+         *
+         * @param offerCount number of the offers which will be added
+         */
+        public Columns(int offerCount) {
+            this.offerIds = new long[offerCount];
+            this.shortDescriptions = new String[offerCount];
+            this.prices = new double[offerCount];
+            this.autoDelivery = new BitSet(offerCount);
+            this.promo = new BitSet(offerCount);
+            this.sellerIds = new long[offerCount];
+            this.sellerOnline = new BitSet(offerCount);
+        }
+
+        /**
+         * Add the offer as the next row of the table
+         *
+         * @param offerId offer id
+         * @param shortDescription short description of the offer
+         * @param price price of the offer
+         * @param isAutoDelivery true if the offer is delivered automatically
+         * @param isPromo true if the offer is promoted
+         * @param sellerId user id of the seller of the offer
+         * @param isSellerOnline true if the seller is online
+         */
+        public void addOffer(
+                long offerId,
+                String shortDescription,
+                double price,
+                boolean isAutoDelivery,
+                boolean isPromo,
+                long sellerId,
+                boolean isSellerOnline) {
+            offerIds[size] = offerId;
+            shortDescriptions[size] = shortDescription;
+            prices[size] = price;
+            autoDelivery.set(size, isAutoDelivery);
+            promo.set(size, isPromo);
+            sellerIds[size] = sellerId;
+            sellerOnline.set(size, isSellerOnline);
+            size++;
+        }
+
+        /**
+         * Check if the seller is already in the dictionary
+         *
+         * @param sellerId user id of the seller
+         * @return true if the seller has been added
+         */
+        public boolean containsSeller(long sellerId) {
+            return sellers.containsKey(sellerId);
+        }
+
+        /**
+         * Add the seller to the dictionary
+         *
+         * @param seller seller of the offers
+         */
+        public void addSeller(ParsedPreviewSeller seller) {
+            sellers.put(seller.getUserId(), seller);
+        }
+
+        /**
+         * Build the table of the added offers
+         *
+         * @param lotId lot id
+         * @param gameId game id of the lot
+         * @return table of the preview offers
+         */
+        public ParsedLotOfferTable build(long lotId, long gameId) {
+            if (size != offerIds.length) {
+                throw new IllegalStateException(
+                        size + " of " + offerIds.length + " offers have been added");
+            }
+
+            return new ParsedLotOfferTable(
+                    lotId,
+                    gameId,
+                    offerIds,
+                    shortDescriptions,
+                    prices,
+                    autoDelivery,
+                    promo,
+                    sellerIds,
+                    sellerOnline,
+                    sellers);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.objects.user;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This object represents the parsed FunPay seller reviews together with the cursor of the next page
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class ParsedSellerReviewsPage {
+    private List<ParsedSellerReview> sellerReviews;
+
+    /** Cursor from which the next seller reviews can be parsed, null if there are no more pages */
+    @Nullable private String nextCursor;
+}
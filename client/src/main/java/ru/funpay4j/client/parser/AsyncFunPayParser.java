@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
+import ru.funpay4j.client.objects.game.ParsedPromoGame;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * Interface for parsing data from FunPay without blocking the calling thread
+ *
+ * <p>Every method returns immediately. The returned future is completed exceptionally with {@link
+ * FunPayApiException} or with the same runtime exception as the corresponding {@link
+ * FunPayParser} method throws
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public interface AsyncFunPayParser {
+    /**
+     * Parse lot
+     *
+     * @param lotId lot id by which lot will be parsed
+     * @return future of lot
+     */
+    CompletableFuture<ParsedLot> parseLot(long lotId);
+
+    /**
+     * Parse promo games
+     *
+     * @param query query by which promo games will be parsed
+     * @return future of promo games
+     */
+    CompletableFuture<List<ParsedPromoGame>> parsePromoGames(String query);
+
+    /**
+     * Parse offer
+     *
+     * @param offerId offer id by which offer will be parsed
+     * @return future of offer
+     */
+    CompletableFuture<ParsedOffer> parseOffer(long offerId);
+
+    /**
+     * Parse user
+     *
+     * @param userId user id by which user will be parsed
+     * @return future of user
+     */
+    CompletableFuture<ParsedUser> parseUser(long userId);
+
+    /**
+     * Parse user authorized
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which user will be parsed
+     * @return future of user
+     */
+    CompletableFuture<ParsedUser> parseUser(String goldenKey, long userId);
+
+    /**
+     * Parse seller reviews
+     *
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @return future of sellerReviews
+     */
+    CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(long userId, int pages);
+
+    /**
+     * Parse seller reviews authorized
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @return future of sellerReviews
+     */
+    CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(
+            String goldenKey, long userId, int pages);
+
+    /**
+     * Parse seller reviews with stars filter
+     *
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @param starsFilter number of stars by which the reviews will be parsed
+     * @return future of sellerReviews
+     */
+    CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(
+            long userId, int pages, int starsFilter);
+
+    /**
+     * Parse seller reviews with stars filter authorized
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @param starsFilter number of stars by which the reviews will be parsed
+     * @return future of sellerReviews
+     */
+    CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(
+            String goldenKey, long userId, int pages, int starsFilter);
+
+    /**
+     * Parse transactions with type authorized
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed
+     * @param pages number of pages indicating how many transactions will be parsed
+     * @return future of transactions
+     */
+    CompletableFuture<List<ParsedTransaction>> parseTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages);
+
+    /**
+     * Parse transactions authorized
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param pages number of pages indicating how many transactions will be parsed
+     * @return future of transactions
+     */
+    CompletableFuture<List<ParsedTransaction>> parseTransactions(
+            String goldenKey, long userId, int pages);
+
+    /**
+     * Parse csrf-token and PHPSESSID
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @return future of csrf-token and PHPSESSID
+     */
+    CompletableFuture<CsrfTokenAndPHPSESSID> parseCsrfTokenAndPHPSESSID(String goldenKey);
+}
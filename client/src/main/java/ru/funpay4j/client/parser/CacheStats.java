@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * This object represents the statistics of the parser cache
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class CacheStats {
+    /** Number of calls answered from the cache, including calls that waited for a load */
+    private long hitCount;
+
+    /** Number of calls that had to load the data from FunPay */
+    private long missCount;
+
+    /** Number of entries removed because the cache was full */
+    private long evictionCount;
+
+    /**
+     * Get the ratio of calls answered from the cache
+     *
+     * @return hit rate, 1.0 if there were no calls yet
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
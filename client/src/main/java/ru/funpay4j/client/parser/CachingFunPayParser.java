@@ -0,0 +1,363 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
+import ru.funpay4j.client.objects.game.ParsedPromoGame;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.lot.ParsedLotOfferTable;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionsPage;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * This implementation of FunPayParser caches lots, offers, users and promo games returned by the
+ * delegate parser. Every kind of data has its own time to live, and the least recently used entries
+ * are evicted once the cache is full. Concurrent calls for the same missing data share a single
+ * load through {@link SingleFlight} instead of sending their own requests. Failed loads are not
+ * cached. Reviews, transactions and tokens are always requested from the delegate
+ *
+ * <p>The cached objects are shared between the callers, so they must not be modified
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class CachingFunPayParser implements FunPayParser {
+    private static final Duration DEFAULT_LOT_TTL = Duration.ofSeconds(30);
+
+    private static final Duration DEFAULT_OFFER_TTL = Duration.ofSeconds(30);
+
+    private static final Duration DEFAULT_USER_TTL = Duration.ofMinutes(1);
+
+    private static final Duration DEFAULT_PROMO_GAMES_TTL = Duration.ofMinutes(5);
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final FunPayParser delegate;
+
+    private final long lotTtlNanos;
+
+    private final long offerTtlNanos;
+
+    private final long userTtlNanos;
+
+    private final long promoGamesTtlNanos;
+
+    private final LongSupplier ticker;
+
+    private final Map<String, CacheEntry> entries;
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a new CachingFunPayParser instance with the default time to live and size
+     *
+     * @param delegate parser whose results will be cached
+     */
+    public CachingFunPayParser(@NonNull FunPayParser delegate) {
+        this(delegate, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a new CachingFunPayParser instance
+     *
+     * @param delegate parser whose results will be cached
+     * @param lotTtl time to live of the lots, zero disables their caching, 30 seconds if null
+     * @param offerTtl time to live of the offers, zero disables their caching, 30 seconds if null
+     * @param userTtl time to live of the users, zero disables their caching, 1 minute if null
+     * @param promoGamesTtl time to live of the promo games, zero disables their caching, 5 minutes
+     *     if null
+     * @param maximumSize max number of cached entries, 1000 if null
+     */
+    @Builder
+    public CachingFunPayParser(
+            @NonNull FunPayParser delegate,
+            Duration lotTtl,
+            Duration offerTtl,
+            Duration userTtl,
+            Duration promoGamesTtl,
+            Integer maximumSize) {
+        this(
+                delegate,
+                lotTtl == null ? DEFAULT_LOT_TTL : lotTtl,
+                offerTtl == null ? DEFAULT_OFFER_TTL : offerTtl,
+                userTtl == null ? DEFAULT_USER_TTL : userTtl,
+                promoGamesTtl == null ? DEFAULT_PROMO_GAMES_TTL : promoGamesTtl,
+                maximumSize == null ? DEFAULT_MAXIMUM_SIZE : maximumSize,
+                System::nanoTime);
+    }
+
+    CachingFunPayParser(
+            FunPayParser delegate,
+            Duration lotTtl,
+            Duration offerTtl,
+            Duration userTtl,
+            Duration promoGamesTtl,
+            int maximumSize,
+            LongSupplier ticker) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        this.delegate = delegate;
+        this.lotTtlNanos = lotTtl.toNanos();
+        this.offerTtlNanos = offerTtl.toNanos();
+        this.userTtlNanos = userTtl.toNanos();
+        this.promoGamesTtlNanos = promoGamesTtl.toNanos();
+        this.ticker = ticker;
+        // access ordered map keeps the least recently used entry first
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() <= maximumSize) return false;
+
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLot parseLot(long lotId) throws FunPayApiException, LotNotFoundException {
+        return getOrLoad("lot:" + lotId, lotTtlNanos, () -> delegate.parseLot(lotId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLotOfferTable parseLotOfferTable(long lotId)
+            throws FunPayApiException, LotNotFoundException {
+        return getOrLoad(
+                "lotOfferTable:" + lotId, lotTtlNanos, () -> delegate.parseLotOfferTable(lotId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedPromoGame> parsePromoGames(String query) throws FunPayApiException {
+        return getOrLoad(
+                "promoGames:" + query, promoGamesTtlNanos, () -> delegate.parsePromoGames(query));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedOffer parseOffer(long offerId) throws FunPayApiException, OfferNotFoundException {
+        return getOrLoad("offer:" + offerId, offerTtlNanos, () -> delegate.parseOffer(offerId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedUser parseUser(long userId) throws FunPayApiException, UserNotFoundException {
+        return getOrLoad("user:" + userId, userTtlNanos, () -> delegate.parseUser(userId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedUser parseUser(String goldenKey, long userId)
+            throws FunPayApiException, UserNotFoundException {
+        // the authorized page depends on the viewer, so it is cached per golden key
+        return getOrLoad(
+                "user:" + userId + ":" + goldenKey,
+                userTtlNanos,
+                () -> delegate.parseUser(goldenKey, userId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(long userId, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return delegate.parseSellerReviews(userId, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(String goldenKey, long userId, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return delegate.parseSellerReviews(goldenKey, userId, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(long userId, int pages, int starsFilter)
+            throws FunPayApiException, UserNotFoundException {
+        return delegate.parseSellerReviews(userId, pages, starsFilter);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(
+            String goldenKey, long userId, int pages, int starsFilter)
+            throws FunPayApiException, UserNotFoundException {
+        return delegate.parseSellerReviews(goldenKey, userId, pages, starsFilter);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorSupported() {
+        return delegate.isCursorSupported();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedSellerReviewsPage parseSellerReviewsPage(
+            String goldenKey, long userId, int pages, Integer starsFilter, String startCursor)
+            throws FunPayApiException, UserNotFoundException {
+        return delegate.parseSellerReviewsPage(goldenKey, userId, pages, starsFilter, startCursor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedTransaction> parseTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return delegate.parseTransactions(goldenKey, userId, type, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedTransaction> parseTransactions(String goldenKey, long userId, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return delegate.parseTransactions(goldenKey, userId, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedTransactionsPage parseTransactionsPage(
+            String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            int pages,
+            String startCursor)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return delegate.parseTransactionsPage(goldenKey, userId, type, pages, startCursor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<ParsedTransaction> iterateTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages) {
+        return delegate.iterateTransactions(goldenKey, userId, type, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CsrfTokenAndPHPSESSID parseCsrfTokenAndPHPSESSID(String goldenKey)
+            throws FunPayApiException {
+        return delegate.parseCsrfTokenAndPHPSESSID(goldenKey);
+    }
+
+    /**
+     * Get the cache statistics
+     *
+     * @return statistics collected since the parser was created
+     */
+    public CacheStats getStats() {
+        long missCount = this.missCount.sum();
+
+        return CacheStats.builder()
+                .hitCount(requestCount.sum() - missCount)
+                .missCount(missCount)
+                .evictionCount(evictionCount.sum())
+                .build();
+    }
+
+    /** Remove all the cached entries */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private <T> T getOrLoad(String key, long ttlNanos, SingleFlight.Call<T> loader)
+            throws FunPayApiException {
+        if (ttlNanos <= 0) return loader.call();
+
+        requestCount.increment();
+
+        T cachedValue = getIfPresent(key);
+
+        if (cachedValue != null) return cachedValue;
+
+        return singleFlight.execute(
+                key,
+                () -> {
+                    // the previous load may have completed after the cache was checked
+                    T value = getIfPresent(key);
+
+                    if (value != null) return value;
+
+                    missCount.increment();
+                    value = loader.call();
+
+                    synchronized (entries) {
+                        entries.put(key, new CacheEntry(value, ticker.getAsLong() + ttlNanos));
+                    }
+
+                    return value;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getIfPresent(String key) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+
+            if (entry == null) return null;
+
+            if (entry.isExpired(ticker.getAsLong())) {
+                entries.remove(key);
+                return null;
+            }
+
+            return (T) entry.value;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final Object value;
+
+        private final long expiresAt;
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
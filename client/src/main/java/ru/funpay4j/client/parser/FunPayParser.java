@@ -14,20 +14,25 @@
 
 package ru.funpay4j.client.parser;
 
+import java.util.Iterator;
 import java.util.List;
 
 import ru.funpay4j.client.exceptions.FunPayApiException;
 import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
+import ru.funpay4j.client.exceptions.UncheckedFunPayApiException;
 import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
 import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
 import ru.funpay4j.client.exceptions.user.UserNotFoundException;
 import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
 import ru.funpay4j.client.objects.game.ParsedPromoGame;
 import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.lot.ParsedLotOfferTable;
 import ru.funpay4j.client.objects.offer.ParsedOffer;
 import ru.funpay4j.client.objects.transaction.ParsedTransaction;
 import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionsPage;
 import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
 import ru.funpay4j.client.objects.user.ParsedUser;
 
 /**
@@ -47,6 +52,24 @@ public interface FunPayParser {
      */
     ParsedLot parseLot(long lotId) throws FunPayApiException, LotNotFoundException;
 
+    /**
+     * Parse the preview offers of the lot stored by columns, without creating an object for every
+     * offer
+     *
+     * <p>The default implementation builds the table from the preview offers of {@link
+     * #parseLot(long)}
+     *
+     * @param lotId lot id by which lot will be parsed
+     * @return preview offers of the lot stored by columns
+     * @throws FunPayApiException if the other api-related exception
+     * @throws LotNotFoundException if the lot with id does not found
+     * @since 1.0.7
+     */
+    default ParsedLotOfferTable parseLotOfferTable(long lotId)
+            throws FunPayApiException, LotNotFoundException {
+        return ParsedLotOfferTable.from(parseLot(lotId));
+    }
+
     /**
      * Parse promo games
      *
@@ -143,6 +166,69 @@ public interface FunPayParser {
             String goldenKey, long userId, int pages, int starsFilter)
             throws FunPayApiException, UserNotFoundException;
 
+    /**
+     * Check whether {@link #parseSellerReviewsPage(String, long, int, Integer, String)} and {@link
+     * #parseTransactionsPage(String, long, ParsedTransactionType, int, String)} support cursors
+     *
+     * <p>A parser supporting cursors accepts the start cursor and returns no next cursor only
+     * after the last page. Without cursors, the pages are parsed from the first one and no next
+     * cursor is returned, even if there are more pages, so the end of the data cannot be told
+     *
+     * <p>The default implementation does not support cursors
+     *
+     * @return true if the cursors are supported
+     * @since 1.0.7
+     */
+    default boolean isCursorSupported() {
+        return false;
+    }
+
+    /**
+     * Parse seller reviews starting from the cursor
+     *
+     * <p>The returned next cursor can be passed to the next call to continue from the page after
+     * the last parsed one, so large exports can be resumed or split between workers
+     *
+     * <p>The default implementation does not support cursors, see {@link #isCursorSupported()}:
+     * it parses the reviews from the first page with {@link #parseSellerReviews(String, long, int,
+     * int)} and its overloads and returns no next cursor
+     *
+     * @param goldenKey golden key which will be used to authorize the user, can be null
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @param starsFilter number of stars by which the reviews will be parsed, can be null
+     * @param startCursor cursor of the first parsed page, null to start from the first page
+     * @return seller reviews and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     * @throws UnsupportedOperationException if the start cursor is passed although the cursors
+     *     are not supported
+     * @since 1.0.7
+     */
+    default ParsedSellerReviewsPage parseSellerReviewsPage(
+            String goldenKey, long userId, int pages, Integer starsFilter, String startCursor)
+            throws FunPayApiException, UserNotFoundException {
+        if (startCursor != null) {
+            throw new UnsupportedOperationException("This parser does not support cursors");
+        }
+
+        List<ParsedSellerReview> sellerReviews;
+
+        if (goldenKey == null) {
+            sellerReviews =
+                    starsFilter == null
+                            ? parseSellerReviews(userId, pages)
+                            : parseSellerReviews(userId, pages, starsFilter);
+        } else {
+            sellerReviews =
+                    starsFilter == null
+                            ? parseSellerReviews(goldenKey, userId, pages)
+                            : parseSellerReviews(goldenKey, userId, pages, starsFilter);
+        }
+
+        return new ParsedSellerReviewsPage(sellerReviews, null);
+    }
+
     /**
      * Parse transactions with type authorized
      *
@@ -173,6 +259,98 @@ public interface FunPayParser {
     List<ParsedTransaction> parseTransactions(String goldenKey, long userId, int pages)
             throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException;
 
+    /**
+     * Parse transactions authorized starting from the cursor
+     *
+     * <p>The returned next cursor can be passed to the next call to continue from the page after
+     * the last parsed one, so large exports can be resumed or split between workers
+     *
+     * <p>The default implementation does not support cursors, see {@link #isCursorSupported()}:
+     * it parses the transactions from the first page with {@link #parseTransactions(String, long,
+     * ParsedTransactionType, int)} and returns no next cursor
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed, can be null
+     * @param pages number of pages indicating how many transactions will be parsed
+     * @param startCursor cursor of the first parsed page, null to start from the first page
+     * @return transactions and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     * @throws UnsupportedOperationException if the start cursor is passed although the cursors
+     *     are not supported
+     * @since 1.0.7
+     */
+    default ParsedTransactionsPage parseTransactionsPage(
+            String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            int pages,
+            String startCursor)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        if (startCursor != null) {
+            throw new UnsupportedOperationException("This parser does not support cursors");
+        }
+
+        List<ParsedTransaction> transactions =
+                type == null
+                        ? parseTransactions(goldenKey, userId, pages)
+                        : parseTransactions(goldenKey, userId, type, pages);
+
+        return new ParsedTransactionsPage(transactions, null);
+    }
+
+    /**
+     * Parse transactions lazily authorized
+     *
+     * <p>Since the iterator cannot throw checked exceptions, {@link FunPayApiException} is wrapped
+     * in {@link UncheckedFunPayApiException}. The default implementation requests all the pages
+     * with {@link #parseTransactions(String, long, ParsedTransactionType, int)} when the iterator
+     * is first used, while {@link JsoupFunPayParser} requests the next page only when the previous
+     * one has been consumed, so at most one page is held in memory
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed, can be null
+     * @param pages max number of pages which will be requested
+     * @return transactions iterator
+     * @since 1.0.7
+     */
+    default Iterator<ParsedTransaction> iterateTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages) {
+        return new Iterator<ParsedTransaction>() {
+            private Iterator<ParsedTransaction> transactions;
+
+            @Override
+            public boolean hasNext() {
+                return getTransactions().hasNext();
+            }
+
+            @Override
+            public ParsedTransaction next() {
+                return getTransactions().next();
+            }
+
+            private Iterator<ParsedTransaction> getTransactions() {
+                if (transactions != null) return transactions;
+
+                try {
+                    List<ParsedTransaction> parsedTransactions =
+                            type == null
+                                    ? parseTransactions(goldenKey, userId, pages)
+                                    : parseTransactions(goldenKey, userId, type, pages);
+
+                    transactions = parsedTransactions.iterator();
+                } catch (FunPayApiException e) {
+                    throw new UncheckedFunPayApiException(e);
+                }
+
+                return transactions;
+            }
+        };
+    }
+
     /**
      * Parse csrf-token and PHPSESSID
      *
@@ -0,0 +1,287 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import ru.funpay4j.client.http.OkHttpFutures;
+import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
+import ru.funpay4j.client.objects.game.ParsedPromoGame;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * This implementation of AsyncFunPayParser sends requests through the OkHttp enqueue path and
+ * parses the responses in the same way as the underlying {@link JsoupFunPayParser}. The failed
+ * requests are retried according to the retry policy of the underlying parser
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class JsoupAsyncFunPayParser implements AsyncFunPayParser {
+    @NonNull private final JsoupFunPayParser funPayParser;
+
+    /**
+     * Creates a new JsoupAsyncFunPayParser instance which does not retry the failed requests
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     */
+    public JsoupAsyncFunPayParser(@NonNull OkHttpClient httpClient, @NonNull String baseURL) {
+        this.funPayParser = new JsoupFunPayParser(httpClient, baseURL);
+    }
+
+    /**
+     * Creates a new JsoupAsyncFunPayParser instance
+     *
+     * @param funPayParser parser whose http client, retry policy and parsing logic will be used
+     */
+    public JsoupAsyncFunPayParser(@NonNull JsoupFunPayParser funPayParser) {
+        this.funPayParser = funPayParser;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ParsedLot> parseLot(long lotId) {
+        return OkHttpFutures.enqueue(
+                funPayParser.httpClient,
+                funPayParser.newLotRequest(lotId),
+                funPayParser.retryPolicy,
+                response -> funPayParser.extractLot(response, lotId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedPromoGame>> parsePromoGames(@NonNull String query) {
+        return OkHttpFutures.enqueue(
+                funPayParser.httpClient,
+                funPayParser.newPromoGamesRequest(query),
+                funPayParser.retryPolicy,
+                funPayParser::extractPromoGames);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ParsedOffer> parseOffer(long offerId) {
+        return OkHttpFutures.enqueue(
+                funPayParser.httpClient,
+                funPayParser.newOfferRequest(offerId),
+                funPayParser.retryPolicy,
+                response -> funPayParser.extractOffer(response, offerId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ParsedUser> parseUser(long userId) {
+        return parseUserInternal(null, userId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ParsedUser> parseUser(String goldenKey, long userId) {
+        return parseUserInternal(goldenKey, userId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(long userId, int pages) {
+        return parseSellerReviewsInternal(null, userId, pages, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(
+            String goldenKey, long userId, int pages) {
+        return parseSellerReviewsInternal(goldenKey, userId, pages, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(
+            long userId, int pages, int starsFilter) {
+        return parseSellerReviewsInternal(null, userId, pages, String.valueOf(starsFilter));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedSellerReview>> parseSellerReviews(
+            String goldenKey, long userId, int pages, int starsFilter) {
+        return parseSellerReviewsInternal(goldenKey, userId, pages, String.valueOf(starsFilter));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedTransaction>> parseTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages) {
+        return parseTransactionsInternal(goldenKey, userId, type, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ParsedTransaction>> parseTransactions(
+            String goldenKey, long userId, int pages) {
+        return parseTransactionsInternal(goldenKey, userId, null, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<CsrfTokenAndPHPSESSID> parseCsrfTokenAndPHPSESSID(
+            @NonNull String goldenKey) {
+        return OkHttpFutures.enqueue(
+                funPayParser.httpClient,
+                funPayParser.newCsrfTokenAndPHPSESSIDRequest(goldenKey),
+                funPayParser.retryPolicy,
+                funPayParser::extractCsrfTokenAndPHPSESSID);
+    }
+
+    /**
+     * Common method to parse user
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which user will be parsed
+     * @return future of user
+     */
+    private CompletableFuture<ParsedUser> parseUserInternal(String goldenKey, long userId) {
+        return OkHttpFutures.enqueue(
+                funPayParser.httpClient,
+                funPayParser.newUserRequest(goldenKey, userId),
+                funPayParser.retryPolicy,
+                response -> funPayParser.extractUser(response, userId));
+    }
+
+    /**
+     * Common method to parse transactions
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed
+     * @param pages number of pages indicating how many transactions will be parsed
+     * @return future of transactions
+     */
+    private CompletableFuture<List<ParsedTransaction>> parseTransactionsInternal(
+            String goldenKey, long userId, ParsedTransactionType type, int pages) {
+        List<ParsedTransaction> parsedTransactions = new ArrayList<>();
+
+        return parseTransactionsPages(goldenKey, userId, type, null, pages, parsedTransactions)
+                .thenApply(ignored -> parsedTransactions);
+    }
+
+    /**
+     * Parse the transactions page and chain the request of the next one after it
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed
+     * @param continueArg cursor of the page that will be requested, null for the first page
+     * @param remainingPages number of pages which are left to parse
+     * @param parsedTransactions list to which the parsed transactions will be added
+     * @return future which will be completed after the last page is parsed
+     */
+    private CompletableFuture<Void> parseTransactionsPages(
+            String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            String continueArg,
+            int remainingPages,
+            List<ParsedTransaction> parsedTransactions) {
+        if (remainingPages <= 0) return CompletableFuture.completedFuture(null);
+
+        return OkHttpFutures.enqueue(
+                        funPayParser.httpClient,
+                        funPayParser.newTransactionsRequest(goldenKey, userId, type, continueArg),
+                        funPayParser.retryPolicy,
+                        response ->
+                                funPayParser.extractTransactionsPage(
+                                        response, userId, parsedTransactions))
+                .thenCompose(
+                        nextContinueArg ->
+                                nextContinueArg == null
+                                        ? CompletableFuture.<Void>completedFuture(null)
+                                        : parseTransactionsPages(
+                                                goldenKey,
+                                                userId,
+                                                type,
+                                                nextContinueArg,
+                                                remainingPages - 1,
+                                                parsedTransactions));
+    }
+
+    /**
+     * Common method to parse seller reviews
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @param starsFilter number of stars filter, can be null
+     * @return future of sellerReviews
+     */
+    private CompletableFuture<List<ParsedSellerReview>> parseSellerReviewsInternal(
+            String goldenKey, long userId, int pages, String starsFilter) {
+        List<ParsedSellerReview> currentSellerReviews = new ArrayList<>();
+
+        return parseSellerReviewsPages(
+                        goldenKey, userId, starsFilter, null, pages, currentSellerReviews)
+                .thenApply(ignored -> currentSellerReviews);
+    }
+
+    /**
+     * Parse the seller reviews page and chain the request of the next one after it
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param starsFilter number of stars filter, can be null
+     * @param continueArg cursor of the page that will be requested, null for the first page
+     * @param remainingPages number of pages which are left to parse
+     * @param currentSellerReviews list to which the parsed seller reviews will be added
+     * @return future which will be completed after the last page is parsed
+     */
+    private CompletableFuture<Void> parseSellerReviewsPages(
+            String goldenKey,
+            long userId,
+            String starsFilter,
+            String continueArg,
+            int remainingPages,
+            List<ParsedSellerReview> currentSellerReviews) {
+        if (remainingPages <= 0) return CompletableFuture.completedFuture(null);
+
+        return OkHttpFutures.enqueue(
+                        funPayParser.httpClient,
+                        funPayParser.newSellerReviewsRequest(
+                                goldenKey, userId, starsFilter, continueArg),
+                        funPayParser.retryPolicy,
+                        response ->
+                                funPayParser.extractSellerReviewsPage(
+                                        response, userId, currentSellerReviews))
+                .thenCompose(
+                        nextContinueArg ->
+                                nextContinueArg == null
+                                        ? CompletableFuture.<Void>completedFuture(null)
+                                        : parseSellerReviewsPages(
+                                                goldenKey,
+                                                userId,
+                                                starsFilter,
+                                                nextContinueArg,
+                                                remainingPages - 1,
+                                                currentSellerReviews));
+    }
+}
@@ -15,21 +15,29 @@
 package ru.funpay4j.client.parser;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import lombok.NonNull;
+import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
+import org.jetbrains.annotations.Nullable;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -39,22 +47,26 @@ import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
 import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
 import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
 import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
 import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
 import ru.funpay4j.client.objects.game.ParsedPromoGame;
 import ru.funpay4j.client.objects.game.ParsedPromoGameCounter;
 import ru.funpay4j.client.objects.lot.ParsedLot;
 import ru.funpay4j.client.objects.lot.ParsedLotCounter;
+import ru.funpay4j.client.objects.lot.ParsedLotOfferTable;
 import ru.funpay4j.client.objects.offer.ParsedOffer;
 import ru.funpay4j.client.objects.offer.ParsedPreviewOffer;
 import ru.funpay4j.client.objects.transaction.ParsedTransaction;
 import ru.funpay4j.client.objects.transaction.ParsedTransactionStatus;
 import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionsPage;
 import ru.funpay4j.client.objects.user.ParsedAdvancedSellerReview;
 import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
 import ru.funpay4j.client.objects.user.ParsedSeller;
 import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
 import ru.funpay4j.client.objects.user.ParsedUser;
-import ru.funpay4j.utils.FunPayUserUtil;
+import ru.funpay4j.utils.FunPayDateParser;
 
 import com.google.gson.JsonParser;
 
@@ -65,164 +77,108 @@ import com.google.gson.JsonParser;
  * @since 1.0.0
  */
 public class JsoupFunPayParser implements FunPayParser {
-    @NonNull private final OkHttpClient httpClient;
+    @NonNull protected final OkHttpClient httpClient;
 
-    @NonNull private final String baseURL;
+    @NonNull protected final String baseURL;
+
+    @NonNull protected final RetryPolicy retryPolicy;
+
+    @NonNull protected final FunPayDateParser dateParser;
+
+    @Nullable protected final PreviewSellerRegistry sellerRegistry;
 
     /**
-     * Creates a new JsoupFunPayParser instance
+     * Creates a new JsoupFunPayParser instance which does not retry the failed requests
      *
      * @param httpClient httpClient required to send http requests
      * @param baseURL base URL of the primary server
      */
     public JsoupFunPayParser(@NonNull OkHttpClient httpClient, @NonNull String baseURL) {
+        this(httpClient, baseURL, RetryPolicy.NO_RETRY);
+    }
+
+    /**
+     * Creates a new JsoupFunPayParser instance
+     *
+     * <p>The retry policy is applied to the page requests and to every page of the seller reviews
+     * and transactions, so a failed page is requested again with the same cursor instead of
+     * starting from the first page
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param retryPolicy policy of retrying the failed requests
+     */
+    public JsoupFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            @NonNull RetryPolicy retryPolicy) {
+        this(httpClient, baseURL, retryPolicy, new FunPayDateParser());
+    }
+
+    /**
+     * Creates a new JsoupFunPayParser instance
+     *
+     * <p>The date parser resolves the dates of the users, transactions and reviews. By default the
+     * dates are interpreted in Moscow time, in which FunPay writes them
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @since 1.0.7
+     */
+    public JsoupFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser) {
+        this(httpClient, baseURL, retryPolicy, dateParser, null);
+    }
+
+    /**
+     * Creates a new JsoupFunPayParser instance
+     *
+     * <p>The seller registry makes the preview sellers of the parsed lots, offers and users share
+     * one object per seller, so keeping many parsed pages in memory does not duplicate the sellers
+     * found on all of them
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @param sellerRegistry registry of the preview sellers, can be null to not share the sellers
+     * @since 1.0.7
+     */
+    public JsoupFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser,
+            @Nullable PreviewSellerRegistry sellerRegistry) {
         this.httpClient = httpClient;
         this.baseURL = baseURL;
+        this.retryPolicy = retryPolicy;
+        this.dateParser = dateParser;
+        this.sellerRegistry = sellerRegistry;
     }
 
     /** {@inheritDoc} */
     @Override
     public ParsedLot parseLot(long lotId) throws FunPayApiException, LotNotFoundException {
-        try (Response funPayHtmlResponse =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .get()
-                                        .url(baseURL + "/lots/" + lotId + "/")
-                                        .build())
-                        .execute()) {
-            String funPayHtmlPageBody = funPayHtmlResponse.body().string();
-
-            Document funPayDocument = Jsoup.parse(funPayHtmlPageBody);
-
-            if (isNonExistentFunPayPage(funPayDocument)) {
-                throw new LotNotFoundException("Lot with lotId " + lotId + " does not found");
-            }
-
-            // take the second element, since we don't need a container from the element with the
-            // page-content-full class
-            // is named contentBodyContainer because it is the container on top of the content-body
-            Element funPayContentBodyContainerElement =
-                    funPayDocument
-                            .getElementById("content-body")
-                            .getElementsByClass("container")
-                            .get(1);
-            Element funPayContentWithCdElement =
-                    funPayDocument.getElementsByClass("content-with-cd").first();
-
-            String title = funPayContentWithCdElement.selectFirst("h1").text();
-            String description = funPayContentWithCdElement.selectFirst("p").text();
-            long gameId =
-                    Long.parseLong(
-                            funPayContentBodyContainerElement
-                                    .getElementsByClass("content-with-cd-wide showcase")
-                                    .attr("data-game"));
-            List<ParsedLotCounter> lotCounters = new ArrayList<>();
-            List<ParsedPreviewOffer> previewOffers = new ArrayList<>();
-
-            List<Element> funPayCountersElements =
-                    funPayDocument.getElementsByClass("counter-list").first().select("a");
-
-            for (Element counterItem : funPayCountersElements) {
-                String counterHrefAttributeValue = counterItem.attr("href");
-
-                // skip chips, as they are not supported yet
-                if (counterHrefAttributeValue.contains("chips")) continue;
-
-                long counterLotId =
-                        Integer.parseInt(
-                                counterHrefAttributeValue.substring(
-                                        24, counterHrefAttributeValue.length() - 1));
-
-                if (lotId == counterLotId) {
-                    continue;
-                }
-
-                String counterParam = counterItem.getElementsByClass("counter-param").text();
-                int counterValue =
-                        Integer.parseInt(counterItem.getElementsByClass("counter-value").text());
-
-                lotCounters.add(
-                        ParsedLotCounter.builder()
-                                .lotId(counterLotId)
-                                .param(counterParam)
-                                .counter(counterValue)
-                                .build());
-            }
-
-            List<Element> funPayPreviewOffersElements =
-                    funPayContentBodyContainerElement.getElementsByClass("tc").first().select("a");
-
-            for (Element previewOffer : funPayPreviewOffersElements) {
-                String previewOfferHrefAttributeValue = previewOffer.attr("href");
-                String previewOfferSellerStyleAttributeValue =
-                        previewOffer.getElementsByClass("avatar-photo").attr("style");
-
-                long offerId = Long.parseLong(previewOfferHrefAttributeValue.substring(33));
-                String previewOfferShortDescription =
-                        previewOffer.getElementsByClass("tc-desc-text").text();
-                double previewOfferPrice =
-                        Double.parseDouble(
-                                previewOffer.getElementsByClass("tc-price").attr("data-s"));
-                boolean isHasPreviewOfferAutoDelivery =
-                        previewOffer.getElementsByClass("auto-dlv-icon").first() != null;
-                boolean isHasPreviewOfferPromo =
-                        previewOffer.getElementsByClass("promo-offer-icon").first() != null;
-
-                String previewSellerDataHrefAttributeValue =
-                        previewOffer.getElementsByClass("avatar-photo").attr("data-href");
-                Element previewSellerReviewCountElement =
-                        previewOffer.getElementsByClass("rating-mini-count").first();
-
-                long previewSellerUserId =
-                        Long.parseLong(
-                                previewSellerDataHrefAttributeValue.substring(
-                                        25, previewSellerDataHrefAttributeValue.length() - 1));
-                String previewSellerUsername =
-                        previewOffer.getElementsByClass("media-user-name").text();
-                String previewSellerAvatarPhotoLink =
-                        previewOfferSellerStyleAttributeValue.substring(
-                                22, previewOfferSellerStyleAttributeValue.length() - 2);
-                boolean isPreviewSellerOnline =
-                        previewOffer
-                                        .getElementsByClass("media media-user online style-circle")
-                                        .first()
-                                != null;
-                int previewSellerReviewCount =
-                        previewSellerReviewCountElement == null
-                                ? 0
-                                : Integer.parseInt(previewSellerReviewCountElement.text());
-
-                // if the previewUser has a regular photo
-                if (previewSellerAvatarPhotoLink.equals("/img/layout/avatar.png"))
-                    previewSellerAvatarPhotoLink = null;
-
-                previewOffers.add(
-                        ParsedPreviewOffer.builder()
-                                .offerId(offerId)
-                                .shortDescription(previewOfferShortDescription)
-                                .price(previewOfferPrice)
-                                .isAutoDelivery(isHasPreviewOfferAutoDelivery)
-                                .isPromo(isHasPreviewOfferPromo)
-                                .seller(
-                                        ParsedPreviewSeller.builder()
-                                                .userId(previewSellerUserId)
-                                                .username(previewSellerUsername)
-                                                .avatarPhotoLink(previewSellerAvatarPhotoLink)
-                                                .isOnline(isPreviewSellerOnline)
-                                                .reviewCount(previewSellerReviewCount)
-                                                .build())
-                                .build());
-            }
+        try {
+            return executeWithRetry(newLotRequest(lotId), response -> extractLot(response, lotId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
 
-            return ParsedLot.builder()
-                    .id(lotId)
-                    .title(title)
-                    .description(description)
-                    .gameId(gameId)
-                    .lotCounters(lotCounters)
-                    .previewOffers(previewOffers)
-                    .build();
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLotOfferTable parseLotOfferTable(long lotId)
+            throws FunPayApiException, LotNotFoundException {
+        try {
+            return executeWithRetry(
+                    newLotRequest(lotId), response -> extractLotOfferTable(response, lotId));
         } catch (IOException e) {
             throw new FunPayApiException(e.getLocalizedMessage());
         }
@@ -231,81 +187,9 @@ public class JsoupFunPayParser implements FunPayParser {
     /** {@inheritDoc} */
     @Override
     public List<ParsedPromoGame> parsePromoGames(@NonNull String query) throws FunPayApiException {
-        List<ParsedPromoGame> currentPromoGames = new ArrayList<>();
-
-        RequestBody requestBody =
-                new MultipartBody.Builder()
-                        .setType(MultipartBody.FORM)
-                        .addFormDataPart("query", query)
-                        .build();
-
-        try (Response response =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .post(requestBody)
-                                        .url(baseURL + "/games/promoFilter")
-                                        .addHeader("x-requested-with", "XMLHttpRequest")
-                                        .build())
-                        .execute()) {
-            String promoGamesHtml =
-                    JsonParser.parseString(response.body().string())
-                            .getAsJsonObject()
-                            .get("html")
-                            .getAsString();
-
-            List<Element> promoGameElements =
-                    Jsoup.parse(promoGamesHtml).getElementsByClass("promo-games");
-
-            for (Element promoGameElement : promoGameElements) {
-                Element titleElement =
-                        promoGameElement.getElementsByClass("game-title").first().selectFirst("a");
-                String titleElementHrefAttributeValue = titleElement.attr("href");
-
-                // Skip chips, as they are not supported yet
-                if (titleElementHrefAttributeValue.contains("chips")) continue;
-
-                long lotId =
-                        Long.parseLong(
-                                titleElementHrefAttributeValue.substring(
-                                        24, titleElementHrefAttributeValue.length() - 1));
-                String title = titleElement.text();
-
-                List<ParsedPromoGameCounter> promoGameCounters = new ArrayList<>();
-
-                for (Element promoGameCounterElement :
-                        promoGameElement.getElementsByClass("list-inline").select("li")) {
-                    Element counterTitleElement = promoGameCounterElement.selectFirst("a");
-                    String counterTitleElementHrefAttributeValue = counterTitleElement.attr("href");
-
-                    long counterLotId =
-                            Long.parseLong(
-                                    counterTitleElementHrefAttributeValue.substring(
-                                            24,
-                                            counterTitleElementHrefAttributeValue.length() - 1));
-
-                    if (counterLotId == lotId) {
-                        continue;
-                    }
-
-                    String counterTitle = counterTitleElement.text();
-
-                    promoGameCounters.add(
-                            ParsedPromoGameCounter.builder()
-                                    .lotId(counterLotId)
-                                    .title(counterTitle)
-                                    .build());
-                }
-
-                currentPromoGames.add(
-                        ParsedPromoGame.builder()
-                                .lotId(lotId)
-                                .title(title)
-                                .promoGameCounters(promoGameCounters)
-                                .build());
-            }
-
-            return currentPromoGames;
+        try {
+            // the promo filter only searches the games, so it is safe to repeat
+            return executeWithRetry(newPromoGamesRequest(query), this::extractPromoGames);
         } catch (IOException e) {
             throw new FunPayApiException(e.getLocalizedMessage());
         }
@@ -314,128 +198,9 @@ public class JsoupFunPayParser implements FunPayParser {
     /** {@inheritDoc} */
     @Override
     public ParsedOffer parseOffer(long offerId) throws FunPayApiException, OfferNotFoundException {
-        try (Response funPayHtmlResponse =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .get()
-                                        .url(baseURL + "/lots/offer?id=" + offerId)
-                                        .build())
-                        .execute()) {
-            String funPayHtmlPageBody = funPayHtmlResponse.body().string();
-
-            Document funPayDocument = Jsoup.parse(funPayHtmlPageBody);
-
-            if (isNonExistentFunPayPage(funPayDocument)) {
-                throw new OfferNotFoundException(
-                        "Offer with offerId " + offerId + " does not found");
-            }
-
-            Element paramListElement = funPayDocument.getElementsByClass("param-list").first();
-            // Get paramItemElements nested in the current item and not in any other way
-            List<Element> paramItemElements = funPayDocument.select(".param-list > .param-item");
-
-            // Selected total price in rubles
-            String totalPriceValue =
-                    funPayDocument
-                            .getElementsByClass("form-control input-lg selectpicker")
-                            .first()
-                            .children()
-                            .get(0)
-                            .attr("data-content");
-
-            String shortDescription = null;
-            String detailedDescription = null;
-
-            if (paramItemElements.size() == 1) {
-                // if there is no shortDescription
-
-                detailedDescription = paramItemElements.get(0).selectFirst("div").text();
-            } else if (paramItemElements.size() >= 2) {
-                shortDescription = paramItemElements.get(0).selectFirst("div").text();
-                detailedDescription = paramItemElements.get(1).selectFirst("div").text();
-            }
-
-            boolean isAutoDelivery =
-                    !funPayDocument.getElementsByClass("offer-header-auto-dlv-label").isEmpty();
-            // Select a floating point number from a string like "from 1111.32 ₽"
-            double price =
-                    Double.parseDouble(totalPriceValue.replaceAll("[^0-9.]", "").split("\\s+")[0]);
-            List<String> attachmentLinks = new ArrayList<>();
-
-            if (paramItemElements.size() > 2) {
-                // if the offer has attachments
-
-                for (Element attachmentElement :
-                        paramItemElements.get(2).getElementsByClass("attachments-item")) {
-                    String attachmentLink = attachmentElement.selectFirst("a").attr("href");
-
-                    attachmentLinks.add(attachmentLink);
-                }
-            }
-
-            Map<String, String> parameters = new HashMap<>();
-
-            for (Element paramItemElement :
-                    paramListElement
-                            .getElementsByClass("row")
-                            .first()
-                            .getElementsByClass("col-xs-6")) {
-                Element parameterElement =
-                        paramItemElement.getElementsByClass("param-item").first();
-
-                String key = parameterElement.selectFirst("h5").text();
-                String value = parameterElement.getElementsByClass("text-bold").text();
-
-                parameters.put(key, value);
-            }
-
-            Element previewSellerUsernameElement =
-                    funPayDocument.getElementsByClass("media-user-name").first().selectFirst("a");
-            Element previewSellerImgElement =
-                    funPayDocument.getElementsByClass("media-user").first().selectFirst("img");
-            Element previewSellerReviewCountElement =
-                    funPayDocument.getElementsByClass("text-mini text-light mb5").first();
-
-            String previewSellerUsernameElementHrefAttributeValue =
-                    previewSellerUsernameElement.attr("href");
-
-            long previewSellerUserId =
-                    Long.parseLong(
-                            previewSellerUsernameElementHrefAttributeValue.substring(
-                                    25,
-                                    previewSellerUsernameElementHrefAttributeValue.length() - 1));
-            String previewSellerUsername = previewSellerUsernameElement.text();
-            String previewSellerAvatarPhotoLink = previewSellerImgElement.attr("src");
-
-            // if the previewUser has a regular photo
-            if (previewSellerAvatarPhotoLink.equals("/img/layout/avatar.png"))
-                previewSellerAvatarPhotoLink = null;
-
-            // Select rating from string like "219 reviews over 2 years"
-            int previewSellerReviewCount =
-                    Integer.parseInt(
-                            previewSellerReviewCountElement.text().replaceAll("\\D.*", ""));
-            boolean isPreviewSellerOnline =
-                    funPayDocument.getElementsByClass("media media-user online").first() != null;
-
-            return ParsedOffer.builder()
-                    .id(offerId)
-                    .shortDescription(shortDescription)
-                    .detailedDescription(detailedDescription)
-                    .isAutoDelivery(isAutoDelivery)
-                    .price(price)
-                    .attachmentLinks(attachmentLinks)
-                    .parameters(parameters)
-                    .seller(
-                            ParsedPreviewSeller.builder()
-                                    .userId(previewSellerUserId)
-                                    .username(previewSellerUsername)
-                                    .avatarPhotoLink(previewSellerAvatarPhotoLink)
-                                    .reviewCount(previewSellerReviewCount)
-                                    .isOnline(isPreviewSellerOnline)
-                                    .build())
-                    .build();
+        try {
+            return executeWithRetry(
+                    newOfferRequest(offerId), response -> extractOffer(response, offerId));
         } catch (IOException e) {
             throw new FunPayApiException(e.getLocalizedMessage());
         }
@@ -458,21 +223,22 @@ public class JsoupFunPayParser implements FunPayParser {
     @Override
     public List<ParsedSellerReview> parseSellerReviews(long userId, int pages)
             throws FunPayApiException, UserNotFoundException {
-        return parseSellerReviewsInternal(null, userId, pages, null);
+        return parseSellerReviewsInternal(null, userId, pages, null, null).getSellerReviews();
     }
 
     /** {@inheritDoc} */
     @Override
     public List<ParsedSellerReview> parseSellerReviews(String goldenKey, long userId, int pages)
             throws FunPayApiException, UserNotFoundException {
-        return parseSellerReviewsInternal(goldenKey, userId, pages, null);
+        return parseSellerReviewsInternal(goldenKey, userId, pages, null, null).getSellerReviews();
     }
 
     /** {@inheritDoc} */
     @Override
     public List<ParsedSellerReview> parseSellerReviews(long userId, int pages, int starsFilter)
             throws FunPayApiException, UserNotFoundException {
-        return parseSellerReviewsInternal(null, userId, pages, String.valueOf(starsFilter));
+        return parseSellerReviewsInternal(null, userId, pages, String.valueOf(starsFilter), null)
+                .getSellerReviews();
     }
 
     /** {@inheritDoc} */
@@ -480,7 +246,28 @@ public class JsoupFunPayParser implements FunPayParser {
     public List<ParsedSellerReview> parseSellerReviews(
             String goldenKey, long userId, int pages, int starsFilter)
             throws FunPayApiException, UserNotFoundException {
-        return parseSellerReviewsInternal(goldenKey, userId, pages, String.valueOf(starsFilter));
+        return parseSellerReviewsInternal(
+                        goldenKey, userId, pages, String.valueOf(starsFilter), null)
+                .getSellerReviews();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorSupported() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedSellerReviewsPage parseSellerReviewsPage(
+            String goldenKey, long userId, int pages, Integer starsFilter, String startCursor)
+            throws FunPayApiException, UserNotFoundException {
+        return parseSellerReviewsInternal(
+                goldenKey,
+                userId,
+                pages,
+                starsFilter == null ? null : String.valueOf(starsFilter),
+                startCursor);
     }
 
     /** {@inheritDoc} */
@@ -488,53 +275,42 @@ public class JsoupFunPayParser implements FunPayParser {
     public List<ParsedTransaction> parseTransactions(
             String goldenKey, long userId, ParsedTransactionType type, int pages)
             throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
-        return parseTransactionsInternal(goldenKey, userId, type, pages);
+        return parseTransactionsInternal(goldenKey, userId, type, pages, null).getTransactions();
     }
 
     /** {@inheritDoc} */
     @Override
     public List<ParsedTransaction> parseTransactions(String goldenKey, long userId, int pages)
             throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
-        return parseTransactionsInternal(goldenKey, userId, null, pages);
+        return parseTransactionsInternal(goldenKey, userId, null, pages, null).getTransactions();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedTransactionsPage parseTransactionsPage(
+            @NonNull String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            int pages,
+            String startCursor)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return parseTransactionsInternal(goldenKey, userId, type, pages, startCursor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<ParsedTransaction> iterateTransactions(
+            @NonNull String goldenKey, long userId, ParsedTransactionType type, int pages) {
+        return new LazyTransactionsIterator(this, goldenKey, userId, type, pages);
     }
 
     /** {@inheritDoc} */
     @Override
     public CsrfTokenAndPHPSESSID parseCsrfTokenAndPHPSESSID(@NonNull String goldenKey)
             throws FunPayApiException {
-        // We send a request to /unknown URL that doesn't exist to get a page where it will be
-        // reported that the page doesn't exist.
-        // This is necessary because such a page is the smallest size
-        try (Response funPayHtmlResponse =
-                httpClient
-                        .newCall(
-                                new Request.Builder()
-                                        .get()
-                                        .url(baseURL + "/unknown/")
-                                        .addHeader("Cookie", "golden_key=" + goldenKey)
-                                        .build())
-                        .execute()) {
-            String funPayHtmlPageBody = funPayHtmlResponse.body().string();
-
-            Document funPayDocument = Jsoup.parse(funPayHtmlPageBody);
-
-            String dataAppData = funPayDocument.getElementsByTag("body").attr("data-app-data");
-
-            String csrfToken =
-                    JsonParser.parseString(dataAppData)
-                            .getAsJsonObject()
-                            .get("csrf-token")
-                            .getAsString();
-            // Use this regex to get the value of the PHP_SESSION_ID key from the Set-Cookie header
-            String phpSessionId =
-                    funPayHtmlResponse
-                            .header("Set-Cookie")
-                            .replaceAll(".*PHPSESSID=([^;]*).*", "$1");
-
-            return CsrfTokenAndPHPSESSID.builder()
-                    .csrfToken(csrfToken)
-                    .PHPSESSID(phpSessionId)
-                    .build();
+        try {
+            return executeWithRetry(
+                    newCsrfTokenAndPHPSESSIDRequest(goldenKey), this::extractCsrfTokenAndPHPSESSID);
         } catch (IOException e) {
             throw new FunPayApiException(e.getLocalizedMessage());
         }
@@ -551,6 +327,468 @@ public class JsoupFunPayParser implements FunPayParser {
      */
     private ParsedUser parseUserInternal(String goldenKey, long userId)
             throws FunPayApiException, UserNotFoundException {
+        try {
+            return executeWithRetry(
+                    newUserRequest(goldenKey, userId), response -> extractUser(response, userId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Common method to parse transactions
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed
+     * @param pages number of pages indicating how many transactions will be parsed
+     * @param startCursor cursor of the first page, null for the first page
+     * @return transactions and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     */
+    private ParsedTransactionsPage parseTransactionsInternal(
+            String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            int pages,
+            String startCursor)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        List<ParsedTransaction> parsedTransactions = new ArrayList<>();
+
+        String continueArg = startCursor;
+
+        for (int currentPageCount = 0; currentPageCount < pages; currentPageCount++) {
+            Request request = newTransactionsRequest(goldenKey, userId, type, continueArg);
+
+            try {
+                continueArg =
+                        executeWithRetry(
+                                request,
+                                response ->
+                                        extractTransactionsPage(
+                                                response, userId, parsedTransactions));
+            } catch (IOException e) {
+                throw new FunPayApiException(e.getLocalizedMessage());
+            }
+
+            if (continueArg == null) break;
+        }
+
+        return ParsedTransactionsPage.builder()
+                .transactions(parsedTransactions)
+                .nextCursor(continueArg)
+                .build();
+    }
+
+    /**
+     * Common method to parse seller reviews
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param pages number of pages indicating how many seller reviews will be parsed
+     * @param starsFilter number of stars filter, can be null
+     * @param startCursor cursor of the first page, null for the first page
+     * @return sellerReviews and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     */
+    ParsedSellerReviewsPage parseSellerReviewsInternal(
+            String goldenKey, long userId, int pages, String starsFilter, String startCursor)
+            throws FunPayApiException, UserNotFoundException {
+        List<ParsedSellerReview> currentSellerReviews = new ArrayList<>();
+
+        String continueArg = startCursor;
+
+        for (int currentPageCount = 0; currentPageCount < pages; currentPageCount++) {
+            Request request = newSellerReviewsRequest(goldenKey, userId, starsFilter, continueArg);
+
+            try {
+                continueArg =
+                        executeWithRetry(
+                                request,
+                                response ->
+                                        extractSellerReviewsPage(
+                                                response, userId, currentSellerReviews));
+            } catch (IOException e) {
+                throw new FunPayApiException(e.getLocalizedMessage());
+            }
+
+            if (continueArg == null) break;
+        }
+
+        return ParsedSellerReviewsPage.builder()
+                .sellerReviews(currentSellerReviews)
+                .nextCursor(continueArg)
+                .build();
+    }
+
+    /**
+     * Build request to get lot page
+     *
+     * @param lotId lot id by which lot will be parsed
+     * @return request
+     */
+    Request newLotRequest(long lotId) {
+        return new Request.Builder().get().url(baseURL + "/lots/" + lotId + "/").build();
+    }
+
+    /**
+     * Extract lot from the lot page response
+     *
+     * @param funPayHtmlResponse response containing the lot page
+     * @param lotId lot id by which lot was requested
+     * @return lot
+     * @throws IOException if the response body could not be read
+     * @throws LotNotFoundException if the lot with id does not found
+     */
+    ParsedLot extractLot(Response funPayHtmlResponse, long lotId) throws IOException {
+        Document funPayDocument = parseHtml(funPayHtmlResponse);
+
+        if (isNonExistentFunPayPage(funPayDocument)) {
+            throw new LotNotFoundException("Lot with lotId " + lotId + " does not found");
+        }
+
+        // take the second element, since we don't need a container from the element with the
+        // page-content-full class
+        // is named contentBodyContainer because it is the container on top of the content-body
+        Element funPayContentBodyContainerElement =
+                funPayDocument
+                        .getElementById("content-body")
+                        .getElementsByClass("container")
+                        .get(1);
+        Element funPayContentWithCdElement =
+                funPayDocument.getElementsByClass("content-with-cd").first();
+
+        String title = funPayContentWithCdElement.selectFirst("h1").text();
+        String description = funPayContentWithCdElement.selectFirst("p").text();
+        long gameId =
+                Long.parseLong(
+                        funPayContentBodyContainerElement
+                                .getElementsByClass("content-with-cd-wide showcase")
+                                .attr("data-game"));
+        List<ParsedLotCounter> lotCounters = new ArrayList<>();
+        List<ParsedPreviewOffer> previewOffers = new ArrayList<>();
+
+        List<Element> funPayCountersElements =
+                funPayDocument.getElementsByClass("counter-list").first().select("a");
+
+        for (Element counterItem : funPayCountersElements) {
+            ParsedLotCounter lotCounter = extractLotCounter(counterItem);
+
+            if (lotCounter == null || lotCounter.getLotId() == lotId) {
+                continue;
+            }
+
+            lotCounters.add(lotCounter);
+        }
+
+        List<Element> funPayPreviewOffersElements =
+                funPayContentBodyContainerElement.getElementsByClass("tc").first().select("a");
+
+        for (Element previewOffer : funPayPreviewOffersElements) {
+            previewOffers.add(extractLotPreviewOffer(previewOffer));
+        }
+
+        return ParsedLot.builder()
+                .id(lotId)
+                .title(title)
+                .description(description)
+                .gameId(gameId)
+                .lotCounters(lotCounters)
+                .previewOffers(previewOffers)
+                .build();
+    }
+
+    /**
+     * Extract the preview offers of the lot stored by columns from the lot page response
+     *
+     * @param funPayHtmlResponse response containing the lot page
+     * @param lotId lot id by which lot was requested
+     * @return preview offers of the lot stored by columns
+     * @throws IOException if the response body could not be read
+     * @throws LotNotFoundException if the lot with id does not found
+     */
+    ParsedLotOfferTable extractLotOfferTable(Response funPayHtmlResponse, long lotId)
+            throws IOException {
+        Document funPayDocument = parseHtml(funPayHtmlResponse);
+
+        if (isNonExistentFunPayPage(funPayDocument)) {
+            throw new LotNotFoundException("Lot with lotId " + lotId + " does not found");
+        }
+
+        Element funPayContentBodyContainerElement =
+                funPayDocument
+                        .getElementById("content-body")
+                        .getElementsByClass("container")
+                        .get(1);
+
+        long gameId =
+                Long.parseLong(
+                        funPayContentBodyContainerElement
+                                .getElementsByClass("content-with-cd-wide showcase")
+                                .attr("data-game"));
+
+        List<Element> funPayPreviewOffersElements =
+                funPayContentBodyContainerElement.getElementsByClass("tc").first().select("a");
+        int offerCount = funPayPreviewOffersElements.size();
+
+        // the columns are filled straight from the rows, without the preview offer objects
+        ParsedLotOfferTable.Columns columns = new ParsedLotOfferTable.Columns(offerCount);
+
+        for (Element previewOffer : funPayPreviewOffersElements) {
+            PreviewOfferRowVisitor previewOfferRow = PreviewOfferRowVisitor.visit(previewOffer);
+            long sellerId = extractLotPreviewSellerUserId(previewOfferRow);
+
+            columns.addOffer(
+                    Long.parseLong(previewOffer.attr("href").substring(33)),
+                    previewOfferRow.getShortDescription(),
+                    Double.parseDouble(previewOfferRow.getPriceDataS()),
+                    previewOfferRow.isAutoDelivery,
+                    previewOfferRow.isPromo,
+                    sellerId,
+                    previewOfferRow.isSellerOnline);
+
+            // the seller is extracted only from the first of its offers
+            if (!columns.containsSeller(sellerId)) {
+                columns.addSeller(extractLotPreviewSeller(previewOfferRow));
+            }
+        }
+
+        return columns.build(lotId, gameId);
+    }
+
+    /**
+     * Build request to get promo games
+     *
+     * @param query query by which promo games will be parsed
+     * @return request
+     */
+    Request newPromoGamesRequest(String query) {
+        RequestBody requestBody =
+                new MultipartBody.Builder()
+                        .setType(MultipartBody.FORM)
+                        .addFormDataPart("query", query)
+                        .build();
+
+        return new Request.Builder()
+                .post(requestBody)
+                .url(baseURL + "/games/promoFilter")
+                .addHeader("x-requested-with", "XMLHttpRequest")
+                .build();
+    }
+
+    /**
+     * Extract promo games from the promo filter response
+     *
+     * @param response response containing the promo games json
+     * @return promo games
+     * @throws IOException if the response body could not be read
+     */
+    List<ParsedPromoGame> extractPromoGames(Response response) throws IOException {
+        List<ParsedPromoGame> currentPromoGames = new ArrayList<>();
+
+        String promoGamesHtml =
+                JsonParser.parseString(response.body().string())
+                        .getAsJsonObject()
+                        .get("html")
+                        .getAsString();
+
+        List<Element> promoGameElements =
+                Jsoup.parse(promoGamesHtml).getElementsByClass("promo-games");
+
+        for (Element promoGameElement : promoGameElements) {
+            Element titleElement =
+                    promoGameElement.getElementsByClass("game-title").first().selectFirst("a");
+            String titleElementHrefAttributeValue = titleElement.attr("href");
+
+            // Skip chips, as they are not supported yet
+            if (titleElementHrefAttributeValue.contains("chips")) continue;
+
+            long lotId =
+                    Long.parseLong(
+                            titleElementHrefAttributeValue.substring(
+                                    24, titleElementHrefAttributeValue.length() - 1));
+            String title = titleElement.text();
+
+            List<ParsedPromoGameCounter> promoGameCounters = new ArrayList<>();
+
+            for (Element promoGameCounterElement :
+                    promoGameElement.getElementsByClass("list-inline").select("li")) {
+                Element counterTitleElement = promoGameCounterElement.selectFirst("a");
+                String counterTitleElementHrefAttributeValue = counterTitleElement.attr("href");
+
+                long counterLotId =
+                        Long.parseLong(
+                                counterTitleElementHrefAttributeValue.substring(
+                                        24,
+                                        counterTitleElementHrefAttributeValue.length() - 1));
+
+                if (counterLotId == lotId) {
+                    continue;
+                }
+
+                String counterTitle = counterTitleElement.text();
+
+                promoGameCounters.add(
+                        ParsedPromoGameCounter.builder()
+                                .lotId(counterLotId)
+                                .title(counterTitle)
+                                .build());
+            }
+
+            currentPromoGames.add(
+                    ParsedPromoGame.builder()
+                            .lotId(lotId)
+                            .title(title)
+                            .promoGameCounters(promoGameCounters)
+                            .build());
+        }
+
+        return currentPromoGames;
+    }
+
+    /**
+     * Build request to get offer page
+     *
+     * @param offerId offer id by which offer will be parsed
+     * @return request
+     */
+    Request newOfferRequest(long offerId) {
+        return new Request.Builder().get().url(baseURL + "/lots/offer?id=" + offerId).build();
+    }
+
+    /**
+     * Extract offer from the offer page response
+     *
+     * @param funPayHtmlResponse response containing the offer page
+     * @param offerId offer id by which offer was requested
+     * @return offer
+     * @throws IOException if the response body could not be read
+     * @throws OfferNotFoundException if the offer with id does not found
+     */
+    ParsedOffer extractOffer(Response funPayHtmlResponse, long offerId) throws IOException {
+        Document funPayDocument = parseHtml(funPayHtmlResponse);
+
+        if (isNonExistentFunPayPage(funPayDocument)) {
+            throw new OfferNotFoundException("Offer with offerId " + offerId + " does not found");
+        }
+
+        Element paramListElement = funPayDocument.getElementsByClass("param-list").first();
+        // Get paramItemElements nested in the current item and not in any other way
+        List<Element> paramItemElements = funPayDocument.select(".param-list > .param-item");
+
+        // Selected total price in rubles
+        String totalPriceValue =
+                funPayDocument
+                        .getElementsByClass("form-control input-lg selectpicker")
+                        .first()
+                        .children()
+                        .get(0)
+                        .attr("data-content");
+
+        String shortDescription = null;
+        String detailedDescription = null;
+
+        if (paramItemElements.size() == 1) {
+            // if there is no shortDescription
+
+            detailedDescription = paramItemElements.get(0).selectFirst("div").text();
+        } else if (paramItemElements.size() >= 2) {
+            shortDescription = paramItemElements.get(0).selectFirst("div").text();
+            detailedDescription = paramItemElements.get(1).selectFirst("div").text();
+        }
+
+        boolean isAutoDelivery =
+                !funPayDocument.getElementsByClass("offer-header-auto-dlv-label").isEmpty();
+        // Select a floating point number from a string like "from 1111.32 ₽"
+        double price =
+                Double.parseDouble(totalPriceValue.replaceAll("[^0-9.]", "").split("\\s+")[0]);
+        List<String> attachmentLinks = new ArrayList<>();
+
+        if (paramItemElements.size() > 2) {
+            // if the offer has attachments
+
+            for (Element attachmentElement :
+                    paramItemElements.get(2).getElementsByClass("attachments-item")) {
+                String attachmentLink = attachmentElement.selectFirst("a").attr("href");
+
+                attachmentLinks.add(attachmentLink);
+            }
+        }
+
+        Map<String, String> parameters = new HashMap<>();
+
+        for (Element paramItemElement :
+                paramListElement
+                        .getElementsByClass("row")
+                        .first()
+                        .getElementsByClass("col-xs-6")) {
+            Element parameterElement = paramItemElement.getElementsByClass("param-item").first();
+
+            String key = parameterElement.selectFirst("h5").text();
+            String value = parameterElement.getElementsByClass("text-bold").text();
+
+            parameters.put(key, value);
+        }
+
+        Element previewSellerUsernameElement =
+                funPayDocument.getElementsByClass("media-user-name").first().selectFirst("a");
+        Element previewSellerImgElement =
+                funPayDocument.getElementsByClass("media-user").first().selectFirst("img");
+        Element previewSellerReviewCountElement =
+                funPayDocument.getElementsByClass("text-mini text-light mb5").first();
+
+        String previewSellerUsernameElementHrefAttributeValue =
+                previewSellerUsernameElement.attr("href");
+
+        long previewSellerUserId =
+                Long.parseLong(
+                        previewSellerUsernameElementHrefAttributeValue.substring(
+                                25,
+                                previewSellerUsernameElementHrefAttributeValue.length() - 1));
+        String previewSellerUsername = previewSellerUsernameElement.text();
+        String previewSellerAvatarPhotoLink = previewSellerImgElement.attr("src");
+
+        // if the previewUser has a regular photo
+        if (previewSellerAvatarPhotoLink.equals("/img/layout/avatar.png"))
+            previewSellerAvatarPhotoLink = null;
+
+        // Select rating from string like "219 reviews over 2 years"
+        int previewSellerReviewCount =
+                Integer.parseInt(previewSellerReviewCountElement.text().replaceAll("\\D.*", ""));
+        boolean isPreviewSellerOnline =
+                funPayDocument.getElementsByClass("media media-user online").first() != null;
+
+        return ParsedOffer.builder()
+                .id(offerId)
+                .shortDescription(shortDescription)
+                .detailedDescription(detailedDescription)
+                .isAutoDelivery(isAutoDelivery)
+                .price(price)
+                .attachmentLinks(attachmentLinks)
+                .parameters(parameters)
+                .seller(
+                        canonicalizeSeller(
+                                ParsedPreviewSeller.builder()
+                                        .userId(previewSellerUserId)
+                                        .username(previewSellerUsername)
+                                        .avatarPhotoLink(previewSellerAvatarPhotoLink)
+                                        .reviewCount(previewSellerReviewCount)
+                                        .isOnline(isPreviewSellerOnline)
+                                        .build()))
+                .build();
+    }
+
+    /**
+     * Build request to get user page
+     *
+     * @param goldenKey golden key which will be used to authorize the user, can be null
+     * @param userId user id by which user will be parsed
+     * @return request
+     */
+    Request newUserRequest(String goldenKey, long userId) {
         Request.Builder newCallBuilder =
                 new Request.Builder().get().url(baseURL + "/users/" + userId + "/");
 
@@ -558,186 +796,243 @@ public class JsoupFunPayParser implements FunPayParser {
             newCallBuilder.addHeader("Cookie", "golden_key=" + goldenKey);
         }
 
-        try (Response funPayHtmlResponse = httpClient.newCall(newCallBuilder.build()).execute()) {
-            String funPayHtmlPageBody = funPayHtmlResponse.body().string();
+        return newCallBuilder.build();
+    }
 
-            Document funPayDocument = Jsoup.parse(funPayHtmlPageBody);
+    /**
+     * Extract user from the user page response
+     *
+     * @param funPayHtmlResponse response containing the user page
+     * @param userId user id by which user was requested
+     * @return user
+     * @throws IOException if the response body could not be read
+     * @throws UserNotFoundException if the user with id does not found
+     */
+    ParsedUser extractUser(Response funPayHtmlResponse, long userId) throws IOException {
+        Document funPayDocument = parseHtml(funPayHtmlResponse);
 
-            if (isNonExistentFunPayPage(funPayDocument)) {
-                throw new UserNotFoundException("User with userId " + userId + " does not found");
-            }
+        if (isNonExistentFunPayPage(funPayDocument)) {
+            throw new UserNotFoundException("User with userId " + userId + " does not found");
+        }
 
-            Element containerProfileHeader =
-                    funPayDocument.getElementsByClass("container profile-header").first();
+        Element containerProfileHeader =
+                funPayDocument.getElementsByClass("container profile-header").first();
 
-            Element profileElement = funPayDocument.getElementsByClass("profile").first();
+        Element profileElement = funPayDocument.getElementsByClass("profile").first();
 
-            Element mediaUserStatusElement =
-                    profileElement.getElementsByClass("media-user-status").first();
-            Element avatarPhotoElement =
-                    containerProfileHeader.getElementsByClass("avatar-photo").first();
-            Element userBadgesElement = profileElement.getElementsByClass("user-badges").first();
+        Element mediaUserStatusElement =
+                profileElement.getElementsByClass("media-user-status").first();
+        Element avatarPhotoElement =
+                containerProfileHeader.getElementsByClass("avatar-photo").first();
+        Element userBadgesElement = profileElement.getElementsByClass("user-badges").first();
 
-            String avatarPhotoElementStyle = avatarPhotoElement.attr("style");
+        String avatarPhotoElementStyle = avatarPhotoElement.attr("style");
 
-            String username = profileElement.getElementsByClass("mr4").text();
-            String avatarPhotoLink =
-                    avatarPhotoElementStyle.substring(22, avatarPhotoElementStyle.length() - 2);
+        String username = profileElement.getElementsByClass("mr4").text();
+        String avatarPhotoLink =
+                avatarPhotoElementStyle.substring(22, avatarPhotoElementStyle.length() - 2);
 
-            // if the user has a regular photo
-            if (avatarPhotoLink.equals("/img/layout/avatar.png")) avatarPhotoLink = null;
+        // if the user has a regular photo
+        if (avatarPhotoLink.equals("/img/layout/avatar.png")) avatarPhotoLink = null;
 
-            boolean isOnline = profileElement.getElementsByClass("mb40 online").first() != null;
-            List<String> badges = new ArrayList<>();
+        boolean isOnline = profileElement.getElementsByClass("mb40 online").first() != null;
+        List<String> badges = new ArrayList<>();
 
-            if (userBadgesElement != null) {
-                for (Element badgeElement : userBadgesElement.children()) {
-                    badges.add(badgeElement.text());
-                }
+        if (userBadgesElement != null) {
+            for (Element badgeElement : userBadgesElement.children()) {
+                badges.add(badgeElement.text());
             }
+        }
 
-            String registeredAtStr =
-                    profileElement.getElementsByClass("text-nowrap").first().text();
-            Date registeredAt;
+        String registeredAtStr = profileElement.getElementsByClass("text-nowrap").first().text();
+        Date registeredAt;
 
+        try {
+            registeredAt = dateParser.parseRegisterDate(registeredAtStr);
+        } catch (ParseException e) {
+            // might be the case if the account was created a few seconds/minutes/hours ago
+            // such cases are not taken into account yet, so the logical thing to do is to cast
+            // a new Date
+            registeredAt = new Date();
+        }
+
+        String lastSeenAtStr = mediaUserStatusElement == null ? "" : mediaUserStatusElement.text();
+        Date lastSeenAt;
+
+        if (lastSeenAtStr.contains("После регистрации на сайт не заходил")) {
+            // if the user has not accessed the site after authorization
+
+            lastSeenAt = new Date(registeredAt.getTime());
+        } else if (lastSeenAtStr.contains("Онлайн")) {
+            // if the user is online then the last time of login will be the current time
+
+            lastSeenAt = new Date();
+        } else {
             try {
-                registeredAt = FunPayUserUtil.convertRegisterDateStringToDate(registeredAtStr);
+                lastSeenAt = dateParser.parseLastSeenAt(lastSeenAtStr);
             } catch (ParseException e) {
-                // might be the case if the account was created a few seconds/minutes/hours ago
-                // such cases are not taken into account yet, so the logical thing to do is to cast
-                // a new Date
-                registeredAt = new Date();
+                lastSeenAt = null;
             }
+        }
 
-            String lastSeenAtStr =
-                    mediaUserStatusElement == null ? "" : mediaUserStatusElement.text();
-            Date lastSeenAt;
+        Element sellerElement = funPayDocument.getElementsByClass("param-item mb10").first();
 
-            if (lastSeenAtStr.contains("После регистрации на сайт не заходил")) {
-                // if the user has not accessed the site after authorization
+        if (sellerElement != null) {
+            // if user is seller too
 
-                lastSeenAt = new Date(registeredAt.getTime());
-            } else if (lastSeenAtStr.contains("Онлайн")) {
-                // if the user is online then the last time of login will be the current time
+            String ratingStr = sellerElement.getElementsByClass("big").first().text();
 
-                lastSeenAt = new Date();
-            } else {
-                try {
-                    lastSeenAt = FunPayUserUtil.convertLastSeenAtStringToDate(lastSeenAtStr);
-                } catch (ParseException e) {
-                    lastSeenAt = null;
-                }
-            }
+            double rating = ratingStr.equals("?") ? 0 : Double.parseDouble(ratingStr);
+            // Select rating from string like "219 reviews over 2 years"
+            int reviewCount =
+                    Integer.parseInt(
+                            sellerElement
+                                    .getElementsByClass("text-mini text-light mb5")
+                                    .text()
+                                    .replaceAll("\\D.*", ""));
+
+            List<ParsedPreviewOffer> previewOffers = new ArrayList<>();
 
-            Element sellerElement = funPayDocument.getElementsByClass("param-item mb10").first();
-
-            if (sellerElement != null) {
-                // if user is seller too
-
-                String ratingStr = sellerElement.getElementsByClass("big").first().text();
-
-                double rating = ratingStr.equals("?") ? 0 : Double.parseDouble(ratingStr);
-                // Select rating from string like "219 reviews over 2 years"
-                int reviewCount =
-                        Integer.parseInt(
-                                sellerElement
-                                        .getElementsByClass("text-mini text-light mb5")
-                                        .text()
-                                        .replaceAll("\\D.*", ""));
-
-                List<ParsedPreviewOffer> previewOffers = new ArrayList<>();
-
-                List<Element> previewOfferElements = funPayDocument.getElementsByClass("tc-item");
-
-                for (Element previewOfferElement : previewOfferElements) {
-                    Element previewOfferPriceElement =
-                            previewOfferElement.getElementsByClass("tc-price").first();
-
-                    String previewOfferElementHrefAttributeValue = previewOfferElement.attr("href");
-
-                    long offerId =
-                            Long.parseLong(previewOfferElementHrefAttributeValue.substring(33));
-                    String previewOfferShortDescription =
-                            previewOfferElement.getElementsByClass("tc-desc-text").text();
-                    double previewOfferPrice =
-                            Double.parseDouble(previewOfferPriceElement.attr("data-s"));
-                    boolean isHasPreviewOfferAutoDelivery =
-                            previewOfferPriceElement.getElementsByClass("auto-dlv-icon").first()
-                                    != null;
-                    // Since the promo value is not shown in the profile in offers
-                    boolean isHasPreviewOfferPromo = false;
-
-                    previewOffers.add(
-                            ParsedPreviewOffer.builder()
-                                    .offerId(offerId)
-                                    .shortDescription(previewOfferShortDescription)
-                                    .price(previewOfferPrice)
-                                    .isAutoDelivery(isHasPreviewOfferAutoDelivery)
-                                    .isPromo(isHasPreviewOfferPromo)
-                                    .seller(
-                                            ParsedPreviewSeller.builder()
-                                                    .userId(userId)
-                                                    .username(username)
-                                                    .avatarPhotoLink(avatarPhotoLink)
-                                                    .isOnline(isOnline)
-                                                    .reviewCount(reviewCount)
-                                                    .build())
+            List<Element> previewOfferElements = funPayDocument.getElementsByClass("tc-item");
+
+            // all the offers of the profile have the same seller
+            ParsedPreviewSeller previewOfferSeller =
+                    canonicalizeSeller(
+                            ParsedPreviewSeller.builder()
+                                    .userId(userId)
+                                    .username(username)
+                                    .avatarPhotoLink(avatarPhotoLink)
+                                    .isOnline(isOnline)
+                                    .reviewCount(reviewCount)
                                     .build());
-                }
 
-                List<ParsedSellerReview> lastReviews = new ArrayList<>();
-
-                extractReviewsFromReviewsHtml(funPayDocument, lastReviews);
-
-                return ParsedSeller.builder()
-                        .id(userId)
-                        .username(username)
-                        .avatarPhotoLink(avatarPhotoLink)
-                        .isOnline(isOnline)
-                        .badges(badges)
-                        .lastSeenAt(lastSeenAt)
-                        .registeredAt(registeredAt)
-                        .rating(rating)
-                        .reviewCount(reviewCount)
-                        .previewOffers(previewOffers)
-                        .lastReviews(lastReviews)
-                        .build();
-            } else {
-                return ParsedUser.builder()
-                        .id(userId)
-                        .username(username)
-                        .avatarPhotoLink(avatarPhotoLink)
-                        .isOnline(isOnline)
-                        .badges(badges)
-                        .lastSeenAt(lastSeenAt)
-                        .registeredAt(registeredAt)
-                        .build();
+            for (Element previewOfferElement : previewOfferElements) {
+                // all the fields are collected in one traversal of the row
+                PreviewOfferRowVisitor previewOfferRow =
+                        PreviewOfferRowVisitor.visit(previewOfferElement);
+                Element previewOfferPriceElement = previewOfferRow.firstPriceElement;
+
+                String previewOfferElementHrefAttributeValue = previewOfferElement.attr("href");
+
+                long offerId = Long.parseLong(previewOfferElementHrefAttributeValue.substring(33));
+                String previewOfferShortDescription = previewOfferRow.getShortDescription();
+                double previewOfferPrice =
+                        Double.parseDouble(previewOfferPriceElement.attr("data-s"));
+                boolean isHasPreviewOfferAutoDelivery = previewOfferRow.isAutoDeliveryInFirstPrice;
+                // Since the promo value is not shown in the profile in offers
+                boolean isHasPreviewOfferPromo = false;
+
+                previewOffers.add(
+                        ParsedPreviewOffer.builder()
+                                .offerId(offerId)
+                                .shortDescription(previewOfferShortDescription)
+                                .price(previewOfferPrice)
+                                .isAutoDelivery(isHasPreviewOfferAutoDelivery)
+                                .isPromo(isHasPreviewOfferPromo)
+                                .seller(previewOfferSeller)
+                                .build());
             }
 
-        } catch (IOException e) {
-            throw new FunPayApiException(e.getLocalizedMessage());
+            List<ParsedSellerReview> lastReviews = new ArrayList<>();
+
+            extractReviewsFromReviewsHtml(funPayDocument, lastReviews);
+
+            return ParsedSeller.builder()
+                    .id(userId)
+                    .username(username)
+                    .avatarPhotoLink(avatarPhotoLink)
+                    .isOnline(isOnline)
+                    .badges(badges)
+                    .lastSeenAt(lastSeenAt)
+                    .registeredAt(registeredAt)
+                    .rating(rating)
+                    .reviewCount(reviewCount)
+                    .previewOffers(previewOffers)
+                    .lastReviews(lastReviews)
+                    .build();
+        } else {
+            return ParsedUser.builder()
+                    .id(userId)
+                    .username(username)
+                    .avatarPhotoLink(avatarPhotoLink)
+                    .isOnline(isOnline)
+                    .badges(badges)
+                    .lastSeenAt(lastSeenAt)
+                    .registeredAt(registeredAt)
+                    .build();
         }
     }
 
     /**
-     * Common method to parse transactions
+     * Build request to get seller reviews page
+     *
+     * @param goldenKey golden key which will be used to authorize the user, can be null
+     * @param userId user id by which seller reviews pages will be parsed
+     * @param starsFilter number of stars filter, can be null
+     * @param continueArg cursor of the page that will be requested, null for the first page
+     * @return request
+     */
+    Request newSellerReviewsRequest(
+            String goldenKey, long userId, String starsFilter, String continueArg) {
+        RequestBody requestBody =
+                new MultipartBody.Builder()
+                        .setType(MultipartBody.FORM)
+                        .addFormDataPart("user_id", String.valueOf(userId))
+                        .addFormDataPart("filter", starsFilter == null ? "" : starsFilter)
+                        .addFormDataPart("continue", continueArg == null ? "" : continueArg)
+                        .build();
+
+        Request.Builder newCallBuilder =
+                new Request.Builder()
+                        .post(requestBody)
+                        .url(baseURL + "/users/reviews")
+                        .addHeader("x-requested-with", "XMLHttpRequest");
+
+        if (goldenKey != null) {
+            newCallBuilder.addHeader("Cookie", "golden_key=" + goldenKey);
+        }
+
+        return newCallBuilder.build();
+    }
+
+    /**
+     * Extract seller reviews from the seller reviews page response
+     *
+     * @param funPayHtmlResponse response containing the seller reviews page
+     * @param userId user id by which seller reviews were requested
+     * @param currentSellerReviews list to which the extracted seller reviews will be added
+     * @return cursor of the next page or null if there are no more pages
+     * @throws IOException if the response body could not be read
+     * @throws UserNotFoundException if the user with id does not found/seller
+     */
+    String extractSellerReviewsPage(
+            Response funPayHtmlResponse, long userId, List<ParsedSellerReview> currentSellerReviews)
+            throws IOException {
+        // TODO: Figure out what is worth throwing out here, since a user can also be a
+        // non-existent but also a non-seller,
+        // and we can't distinguish between the two just like that
+        if (funPayHtmlResponse.code() == 404)
+            throw new UserNotFoundException(
+                    "User with userId " + userId + " does not found/seller");
+
+        Document reviewsHtml = parseHtml(funPayHtmlResponse);
+
+        extractReviewsFromReviewsHtml(reviewsHtml, currentSellerReviews);
+
+        return extractContinueArg(reviewsHtml);
+    }
+
+    /**
+     * Build request to get transactions page
      *
      * @param goldenKey golden key which will be used to authorize the user
      * @param userId user id by which transactions pages will be parsed
-     * @param type type of transaction will be parsed
-     * @param pages number of pages indicating how many transactions will be parsed
-     * @return transactions
-     * @throws FunPayApiException if the other api-related exception
-     * @throws UserNotFoundException if the user with id does not found
-     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     * @param type type of transaction will be parsed, can be null
+     * @param continueArg cursor of the page that will be requested, null for the first page
+     * @return request
      */
-    private List<ParsedTransaction> parseTransactionsInternal(
-            String goldenKey, long userId, ParsedTransactionType type, int pages)
-            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
-        List<ParsedTransaction> parsedTransactions = new ArrayList<>();
-
-        String userIdFormData = String.valueOf(userId);
-        String continueArg = null;
+    Request newTransactionsRequest(
+            String goldenKey, long userId, ParsedTransactionType type, String continueArg) {
         String typeStr;
         if (type == null) {
             typeStr = "";
@@ -761,170 +1056,195 @@ public class JsoupFunPayParser implements FunPayParser {
             }
         }
 
-        for (int currentPageCount = 0; currentPageCount < pages; currentPageCount++) {
-            RequestBody requestBody =
-                    new MultipartBody.Builder()
-                            .setType(MultipartBody.FORM)
-                            .addFormDataPart("user_id", userIdFormData)
-                            .addFormDataPart("filter", typeStr)
-                            .addFormDataPart("continue", continueArg == null ? "" : continueArg)
-                            .build();
-
-            Request.Builder newCallBuilder =
-                    new Request.Builder()
-                            .post(requestBody)
-                            .url(baseURL + "/users/transactions")
-                            .addHeader("x-requested-with", "XMLHttpRequest");
-
-            if (goldenKey != null) {
-                newCallBuilder.addHeader("Cookie", "golden_key=" + goldenKey);
-            }
+        RequestBody requestBody =
+                new MultipartBody.Builder()
+                        .setType(MultipartBody.FORM)
+                        .addFormDataPart("user_id", String.valueOf(userId))
+                        .addFormDataPart("filter", typeStr)
+                        .addFormDataPart("continue", continueArg == null ? "" : continueArg)
+                        .build();
 
-            try (Response funPayHtmlResponse =
-                    httpClient.newCall(newCallBuilder.build()).execute()) {
-                if (funPayHtmlResponse.code() == 400) {
-                    throw new UserNotFoundException(
-                            "User with userId " + userId + " does not found");
-                } else if (funPayHtmlResponse.code() == 403) {
-                    throw new InvalidGoldenKeyException("goldenKey is invalid");
-                }
+        Request.Builder newCallBuilder =
+                new Request.Builder()
+                        .post(requestBody)
+                        .url(baseURL + "/users/transactions")
+                        .addHeader("x-requested-with", "XMLHttpRequest");
 
-                Document transactionsHtml = Jsoup.parse(funPayHtmlResponse.body().string());
-                List<Element> transactionElements = transactionsHtml.getElementsByClass("tc-item");
-
-                for (Element transactionElement : transactionElements) {
-                    String classAttribute = transactionElement.attr("class");
-
-                    ParsedTransactionStatus status;
-                    if (classAttribute.endsWith("complete")) {
-                        status = ParsedTransactionStatus.COMPLETED;
-                    } else if (classAttribute.endsWith("cancel")) {
-                        status = ParsedTransactionStatus.CANCELED;
-                    } else {
-                        status = ParsedTransactionStatus.WAITING;
-                    }
-                    long id =
-                            Long.parseLong(
-                                    transactionElement.attribute("data-transaction").getValue());
-                    String title = transactionElement.getElementsByClass("tc-title").text();
-                    String paymentNumber =
-                            transactionElement.getElementsByClass("tc-payment-number").text();
-                    double price =
-                            Double.parseDouble(
-                                    transactionElement
-                                            .getElementsByClass("tc-price")
-                                            .text()
-                                            .replace("−", "-")
-                                            .replaceAll("[^0-9.-]", ""));
-                    Date date =
-                            FunPayUserUtil.convertRegisterDateStringToDate(
-                                    transactionElement.getElementsByClass("tc-date-time").text());
-
-                    parsedTransactions.add(
-                            ParsedTransaction.builder()
-                                    .id(id)
-                                    .title(title)
-                                    .price(price)
-                                    .paymentNumber(paymentNumber)
-                                    .status(status)
-                                    .date(date)
-                                    .build());
+        if (goldenKey != null) {
+            newCallBuilder.addHeader("Cookie", "golden_key=" + goldenKey);
+        }
 
-                    Element dynTableFormElement =
-                            transactionsHtml.getElementsByClass("dyn-table-form").first();
+        return newCallBuilder.build();
+    }
 
-                    if (dynTableFormElement == null) break;
+    /**
+     * Extract transactions from the transactions page response
+     *
+     * @param funPayHtmlResponse response containing the transactions page
+     * @param userId user id by which transactions were requested
+     * @param parsedTransactions list to which the extracted transactions will be added
+     * @return cursor of the next page or null if there are no more pages
+     * @throws IOException if the response body could not be read
+     * @throws UserNotFoundException if the user with id does not found
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     */
+    String extractTransactionsPage(
+            Response funPayHtmlResponse, long userId, List<ParsedTransaction> parsedTransactions)
+            throws IOException {
+        if (funPayHtmlResponse.code() == 400) {
+            throw new UserNotFoundException("User with userId " + userId + " does not found");
+        } else if (funPayHtmlResponse.code() == 403) {
+            throw new InvalidGoldenKeyException("goldenKey is invalid");
+        }
 
-                    List<Element> inputElements = dynTableFormElement.select("input");
+        Document transactionsHtml = parseHtml(funPayHtmlResponse);
+        List<Element> transactionElements = transactionsHtml.getElementsByClass("tc-item");
 
-                    Element continueElement = inputElements.isEmpty() ? null : inputElements.get(1);
+        for (Element transactionElement : transactionElements) {
+            String classAttribute = transactionElement.attr("class");
 
-                    if (continueElement == null || continueElement.attr("value").isEmpty()) break;
+            ParsedTransactionStatus status;
+            if (classAttribute.endsWith("complete")) {
+                status = ParsedTransactionStatus.COMPLETED;
+            } else if (classAttribute.endsWith("cancel")) {
+                status = ParsedTransactionStatus.CANCELED;
+            } else {
+                status = ParsedTransactionStatus.WAITING;
+            }
+            long id = Long.parseLong(transactionElement.attribute("data-transaction").getValue());
+            String title = transactionElement.getElementsByClass("tc-title").text();
+            String paymentNumber =
+                    transactionElement.getElementsByClass("tc-payment-number").text();
+            double price =
+                    Double.parseDouble(
+                            transactionElement
+                                    .getElementsByClass("tc-price")
+                                    .text()
+                                    .replace("−", "-")
+                                    .replaceAll("[^0-9.-]", ""));
+            Date date;
 
-                    continueArg = continueElement.attr("value");
-                }
-            } catch (IOException e) {
-                throw new FunPayApiException(e.getLocalizedMessage());
+            try {
+                date =
+                        dateParser.parseRegisterDate(
+                                transactionElement.getElementsByClass("tc-date-time").text());
             } catch (ParseException e) {
                 throw new RuntimeException(e);
             }
+
+            parsedTransactions.add(
+                    ParsedTransaction.builder()
+                            .id(id)
+                            .title(title)
+                            .price(price)
+                            .paymentNumber(paymentNumber)
+                            .status(status)
+                            .date(date)
+                            .build());
         }
-        return parsedTransactions;
+
+        return extractContinueArg(transactionsHtml);
     }
 
     /**
-     * Common method to parse seller reviews
+     * Build request to get csrf-token and PHPSESSID
      *
      * @param goldenKey golden key which will be used to authorize the user
-     * @param userId user id by which seller reviews pages will be parsed
-     * @param pages number of pages indicating how many seller reviews will be parsed
-     * @param starsFilter number of stars filter, can be null
-     * @return sellerReviews
-     * @throws FunPayApiException if the other api-related exception
-     * @throws UserNotFoundException if the user with id does not found/seller
+     * @return request
      */
-    private List<ParsedSellerReview> parseSellerReviewsInternal(
-            String goldenKey, long userId, int pages, String starsFilter)
-            throws FunPayApiException, UserNotFoundException {
-        List<ParsedSellerReview> currentSellerReviews = new ArrayList<>();
-
-        String userIdFormData = String.valueOf(userId);
-        String starsFilterFormData = starsFilter == null ? "" : starsFilter;
-        String continueArg = null;
-
-        for (int currentPageCount = 0; currentPageCount < pages; currentPageCount++) {
-            RequestBody requestBody =
-                    new MultipartBody.Builder()
-                            .setType(MultipartBody.FORM)
-                            .addFormDataPart("user_id", userIdFormData)
-                            .addFormDataPart("filter", starsFilterFormData)
-                            .addFormDataPart("continue", continueArg == null ? "" : continueArg)
-                            .build();
-
-            Request.Builder newCallBuilder =
-                    new Request.Builder()
-                            .post(requestBody)
-                            .url(baseURL + "/users/reviews")
-                            .addHeader("x-requested-with", "XMLHttpRequest");
-
-            if (goldenKey != null) {
-                newCallBuilder.addHeader("Cookie", "golden_key=" + goldenKey);
-            }
-
-            try (Response funPayHtmlResponse =
-                    httpClient.newCall(newCallBuilder.build()).execute()) {
-                // TODO: Figure out what is worth throwing out here, since a user can also be a
-                // non-existent but also a non-seller,
-                // and we can't distinguish between the two just like that
-                if (funPayHtmlResponse.code() == 404)
-                    throw new UserNotFoundException(
-                            "User with userId " + userId + " does not found/seller");
-
-                Document reviewsHtml = Jsoup.parse(funPayHtmlResponse.body().string());
-
-                extractReviewsFromReviewsHtml(reviewsHtml, currentSellerReviews);
-
-                Element dynTableFormElement =
-                        reviewsHtml.getElementsByClass("dyn-table-form").first();
-
-                if (dynTableFormElement == null) break;
-
-                List<Element> inputElements = dynTableFormElement.select("input");
+    Request newCsrfTokenAndPHPSESSIDRequest(String goldenKey) {
+        // We send a request to /unknown URL that doesn't exist to get a page where it will be
+        // reported that the page doesn't exist.
+        // This is necessary because such a page is the smallest size
+        return new Request.Builder()
+                .get()
+                .url(baseURL + "/unknown/")
+                .addHeader("Cookie", "golden_key=" + goldenKey)
+                .build();
+    }
 
-                Element continueElement = inputElements.isEmpty() ? null : inputElements.get(1);
+    /**
+     * Extract csrf-token and PHPSESSID from the response
+     *
+     * @param funPayHtmlResponse response containing the page with csrf-token
+     * @return csrf-token and PHPSESSID
+     * @throws IOException if the response body could not be read
+     */
+    CsrfTokenAndPHPSESSID extractCsrfTokenAndPHPSESSID(Response funPayHtmlResponse)
+            throws IOException {
+        Document funPayDocument = parseHtml(funPayHtmlResponse);
+
+        String dataAppData = funPayDocument.getElementsByTag("body").attr("data-app-data");
+
+        String csrfToken =
+                JsonParser.parseString(dataAppData)
+                        .getAsJsonObject()
+                        .get("csrf-token")
+                        .getAsString();
+        // Use this regex to get the value of the PHP_SESSION_ID key from the Set-Cookie header
+        String phpSessionId =
+                funPayHtmlResponse.header("Set-Cookie").replaceAll(".*PHPSESSID=([^;]*).*", "$1");
+
+        return CsrfTokenAndPHPSESSID.builder().csrfToken(csrfToken).PHPSESSID(phpSessionId).build();
+    }
 
-                if (continueElement == null || continueElement.attr("value").isEmpty()) break;
+    /**
+     * Send the request and extract the result from its response, retrying according to the retry
+     * policy. The extraction is a part of the attempt, so the response body which could not be
+     * read is requested again too
+     *
+     * @param request request which will be sent
+     * @param extractor extractor of the result from the response
+     * @param <T> type of the result
+     * @return result
+     * @throws IOException if the last attempt failed
+     */
+    <T> T executeWithRetry(Request request, ResponseExtractor<T> extractor) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            boolean isLastAttempt = attempt >= retryPolicy.getMaxAttempts();
 
-                continueArg = continueElement.attr("value");
+            try (Response response = httpClient.newCall(request).execute()) {
+                if (isLastAttempt || !retryPolicy.isRetryableStatusCode(response.code())) {
+                    return extractor.extract(response);
+                }
             } catch (IOException e) {
-                throw new FunPayApiException(e.getLocalizedMessage());
+                if (isLastAttempt) throw e;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(retryPolicy.getBackoff(attempt).toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry the request");
             }
         }
+    }
 
-        return currentSellerReviews;
+    /**
+     * Parse the html page from the response body stream without buffering it as a string
+     *
+     * @param funPayHtmlResponse response containing the html page
+     * @return parsed html page
+     * @throws IOException if the response body could not be read
+     */
+    Document parseHtml(Response funPayHtmlResponse) throws IOException {
+        ResponseBody responseBody = funPayHtmlResponse.body();
+        MediaType contentType = responseBody.contentType();
+        Charset charset = contentType == null ? null : contentType.charset();
+
+        // Jsoup detects the charset from the page itself if the response does not declare it
+        try (InputStream htmlInputStream = responseBody.byteStream()) {
+            return Jsoup.parse(htmlInputStream, charset == null ? null : charset.name(), "");
+        }
     }
 
-    private void extractReviewsFromReviewsHtml(
+    /**
+     * Extract seller reviews from the parsed reviews html
+     *
+     * @param reviewsHtml parsed html containing the reviews
+     * @param currentSellerReviews list to which the extracted seller reviews will be added
+     */
+    void extractReviewsFromReviewsHtml(
             Document reviewsHtml, List<ParsedSellerReview> currentSellerReviews) {
         List<Element> reviewContainerElements = reviewsHtml.getElementsByClass("review-container");
 
@@ -997,7 +1317,7 @@ public class JsoupFunPayParser implements FunPayParser {
 
                 try {
                     lastReviewCreatedAtDate =
-                            FunPayUserUtil.convertAdvancedSellerReviewCreatedAtToDate(
+                            dateParser.parseAdvancedSellerReviewCreatedAt(
                                     reviewItemDateElement.text());
                 } catch (ParseException e) {
                     e.printStackTrace();
@@ -1029,6 +1349,133 @@ public class JsoupFunPayParser implements FunPayParser {
         }
     }
 
+    /**
+     * Extract lot counter from the counter element of the lot page
+     *
+     * @param counterItem counter element from which lot counter will be extracted
+     * @return lot counter or null if the counter is not supported
+     */
+    ParsedLotCounter extractLotCounter(Element counterItem) {
+        String counterHrefAttributeValue = counterItem.attr("href");
+
+        // skip chips, as they are not supported yet
+        if (counterHrefAttributeValue.contains("chips")) return null;
+
+        long counterLotId =
+                Integer.parseInt(
+                        counterHrefAttributeValue.substring(
+                                24, counterHrefAttributeValue.length() - 1));
+        String counterParam = counterItem.getElementsByClass("counter-param").text();
+        int counterValue = Integer.parseInt(counterItem.getElementsByClass("counter-value").text());
+
+        return ParsedLotCounter.builder()
+                .lotId(counterLotId)
+                .param(counterParam)
+                .counter(counterValue)
+                .build();
+    }
+
+    /**
+     * Extract preview offer from the offer row of the lot page
+     *
+     * @param previewOffer offer row element from which preview offer will be extracted
+     * @return preview offer
+     */
+    ParsedPreviewOffer extractLotPreviewOffer(Element previewOffer) {
+        // all the fields are collected in one traversal of the row
+        PreviewOfferRowVisitor previewOfferRow = PreviewOfferRowVisitor.visit(previewOffer);
+
+        String previewOfferHrefAttributeValue = previewOffer.attr("href");
+
+        long offerId = Long.parseLong(previewOfferHrefAttributeValue.substring(33));
+        String previewOfferShortDescription = previewOfferRow.getShortDescription();
+        double previewOfferPrice = Double.parseDouble(previewOfferRow.getPriceDataS());
+        boolean isHasPreviewOfferAutoDelivery = previewOfferRow.isAutoDelivery;
+        boolean isHasPreviewOfferPromo = previewOfferRow.isPromo;
+
+        return ParsedPreviewOffer.builder()
+                .offerId(offerId)
+                .shortDescription(previewOfferShortDescription)
+                .price(previewOfferPrice)
+                .isAutoDelivery(isHasPreviewOfferAutoDelivery)
+                .isPromo(isHasPreviewOfferPromo)
+                .seller(extractLotPreviewSeller(previewOfferRow))
+                .build();
+    }
+
+    /**
+     * Extract preview seller from the fields of the offer row of the lot page
+     *
+     * @param previewOfferRow fields of the offer row
+     * @return preview seller
+     */
+    ParsedPreviewSeller extractLotPreviewSeller(PreviewOfferRowVisitor previewOfferRow) {
+        String previewOfferSellerStyleAttributeValue = previewOfferRow.getAvatarPhotoStyle();
+        Element previewSellerReviewCountElement = previewOfferRow.reviewCountElement;
+
+        long previewSellerUserId = extractLotPreviewSellerUserId(previewOfferRow);
+        String previewSellerUsername = previewOfferRow.getSellerUsername();
+        String previewSellerAvatarPhotoLink =
+                previewOfferSellerStyleAttributeValue.substring(
+                        22, previewOfferSellerStyleAttributeValue.length() - 2);
+        boolean isPreviewSellerOnline = previewOfferRow.isSellerOnline;
+        int previewSellerReviewCount =
+                previewSellerReviewCountElement == null
+                        ? 0
+                        : Integer.parseInt(previewSellerReviewCountElement.text());
+
+        // if the previewUser has a regular photo
+        if (previewSellerAvatarPhotoLink.equals("/img/layout/avatar.png"))
+            previewSellerAvatarPhotoLink = null;
+
+        return canonicalizeSeller(
+                ParsedPreviewSeller.builder()
+                        .userId(previewSellerUserId)
+                        .username(previewSellerUsername)
+                        .avatarPhotoLink(previewSellerAvatarPhotoLink)
+                        .isOnline(isPreviewSellerOnline)
+                        .reviewCount(previewSellerReviewCount)
+                        .build());
+    }
+
+    /**
+     * Replace the parsed preview seller with its canonical instance if the seller registry is set
+     *
+     * @param seller parsed preview seller
+     * @return canonical preview seller
+     */
+    ParsedPreviewSeller canonicalizeSeller(ParsedPreviewSeller seller) {
+        return sellerRegistry == null ? seller : sellerRegistry.canonicalize(seller);
+    }
+
+    private long extractLotPreviewSellerUserId(PreviewOfferRowVisitor previewOfferRow) {
+        String previewSellerDataHrefAttributeValue = previewOfferRow.getAvatarPhotoDataHref();
+
+        return Long.parseLong(
+                previewSellerDataHrefAttributeValue.substring(
+                        25, previewSellerDataHrefAttributeValue.length() - 1));
+    }
+
+    /**
+     * Extract cursor of the next page from the paginated page
+     *
+     * @param html paginated page
+     * @return cursor of the next page or null if there are no more pages
+     */
+    String extractContinueArg(Document html) {
+        Element dynTableFormElement = html.getElementsByClass("dyn-table-form").first();
+
+        if (dynTableFormElement == null) return null;
+
+        List<Element> inputElements = dynTableFormElement.select("input");
+
+        Element continueElement = inputElements.isEmpty() ? null : inputElements.get(1);
+
+        if (continueElement == null || continueElement.attr("value").isEmpty()) return null;
+
+        return continueElement.attr("value");
+    }
+
     private boolean isNonExistentFunPayPage(Document funPayDocument) {
         Element pageContentFullElement =
                 funPayDocument.getElementsByClass("page-content-full").first();
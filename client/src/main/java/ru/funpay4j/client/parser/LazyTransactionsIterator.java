@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import okhttp3.Request;
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.UncheckedFunPayApiException;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+
+/**
+ * Iterator over transactions which requests the next transactions page only when the previous one
+ * has been fully consumed, so at most one page is held in memory
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class LazyTransactionsIterator implements Iterator<ParsedTransaction> {
+    private final JsoupFunPayParser funPayParser;
+
+    private final String goldenKey;
+
+    private final long userId;
+
+    private final ParsedTransactionType type;
+
+    private int remainingPages;
+
+    private String continueArg;
+
+    private boolean isLastPageFetched;
+
+    private List<ParsedTransaction> currentPage = Collections.emptyList();
+
+    private int currentPageIndex;
+
+    /**
+     * Creates a new LazyTransactionsIterator instance
+     *
+     * @param funPayParser parser which will be used to request and parse transactions pages
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which transactions pages will be parsed
+     * @param type type of transaction will be parsed, can be null
+     * @param pages max number of pages which will be requested
+     */
+    LazyTransactionsIterator(
+            JsoupFunPayParser funPayParser,
+            String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            int pages) {
+        this.funPayParser = funPayParser;
+        this.goldenKey = goldenKey;
+        this.userId = userId;
+        this.type = type;
+        this.remainingPages = pages;
+    }
+
+    @Override
+    public boolean hasNext() {
+        // a page may be empty, so keep requesting until there is something to return
+        while (currentPageIndex >= currentPage.size()) {
+            if (isLastPageFetched || remainingPages <= 0) return false;
+
+            fetchNextPage();
+        }
+
+        return true;
+    }
+
+    @Override
+    public ParsedTransaction next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        return currentPage.get(currentPageIndex++);
+    }
+
+    private void fetchNextPage() {
+        List<ParsedTransaction> nextPage = new ArrayList<>();
+
+        Request request = funPayParser.newTransactionsRequest(goldenKey, userId, type, continueArg);
+
+        try {
+            continueArg =
+                    funPayParser.executeWithRetry(
+                            request,
+                            response ->
+                                    funPayParser.extractTransactionsPage(
+                                            response, userId, nextPage));
+        } catch (IOException e) {
+            throw new UncheckedFunPayApiException(new FunPayApiException(e.getLocalizedMessage()));
+        }
+
+        remainingPages--;
+        isLastPageFetched = continueArg == null;
+        currentPage = nextPage;
+        currentPageIndex = 0;
+    }
+}
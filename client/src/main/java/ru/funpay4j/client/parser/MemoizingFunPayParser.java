@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.user.ParsedUser;
+import ru.funpay4j.utils.FunPayDateParser;
+
+/**
+ * This implementation of FunPayParser skips parsing of the lot, offer and user pages whose content
+ * has not changed since the previous request. The body of every page is hashed with xxHash64 and
+ * remembered together with the parsed result, so if the next response for the same page has the
+ * same length and hash, the previously parsed result is returned without parsing the page again.
+ * Unlike {@link RevalidatingFunPayParser}, the page is still downloaded, but no server validators
+ * are needed. The pages requested with a golden key are always parsed as in {@link
+ * JsoupFunPayParser}
+ *
+ * <p>The remembered objects are shared between the callers, so they must not be modified
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class MemoizingFunPayParser extends JsoupFunPayParser {
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Map<String, MemoEntry> entries;
+
+    private final LongAdder skippedParseCount = new LongAdder();
+
+    private final LongAdder parseCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a new MemoizingFunPayParser instance remembering up to 1000 pages
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     */
+    public MemoizingFunPayParser(@NonNull OkHttpClient httpClient, @NonNull String baseURL) {
+        this(httpClient, baseURL, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new MemoizingFunPayParser instance which does not retry the failed requests
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param maximumSize max number of remembered pages
+     */
+    public MemoizingFunPayParser(
+            @NonNull OkHttpClient httpClient, @NonNull String baseURL, int maximumSize) {
+        this(httpClient, baseURL, maximumSize, RetryPolicy.NO_RETRY);
+    }
+
+    /**
+     * Creates a new MemoizingFunPayParser instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param maximumSize max number of remembered pages
+     * @param retryPolicy policy of retrying the failed requests
+     */
+    public MemoizingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int maximumSize,
+            @NonNull RetryPolicy retryPolicy) {
+        this(httpClient, baseURL, maximumSize, retryPolicy, new FunPayDateParser(), null);
+    }
+
+    /**
+     * Creates a new MemoizingFunPayParser instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param maximumSize max number of remembered pages
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @param sellerRegistry registry of the preview sellers, can be null to not share the sellers
+     */
+    public MemoizingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int maximumSize,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser,
+            @Nullable PreviewSellerRegistry sellerRegistry) {
+        super(httpClient, baseURL, retryPolicy, dateParser, sellerRegistry);
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        // access ordered map keeps the least recently used entry first
+        this.entries = new LinkedHashMap<String, MemoEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MemoEntry> eldest) {
+                if (size() <= maximumSize) return false;
+
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLot parseLot(long lotId) throws FunPayApiException, LotNotFoundException {
+        try {
+            return parseMemoized(newLotRequest(lotId), response -> extractLot(response, lotId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedOffer parseOffer(long offerId) throws FunPayApiException, OfferNotFoundException {
+        try {
+            return parseMemoized(
+                    newOfferRequest(offerId), response -> extractOffer(response, offerId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedUser parseUser(long userId) throws FunPayApiException, UserNotFoundException {
+        try {
+            return parseMemoized(
+                    newUserRequest(null, userId), response -> extractUser(response, userId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Get the statistics of the skipped parses. Hits are the pages whose parsing was skipped
+     * because their content had not changed, misses are the pages that had to be parsed
+     *
+     * @return skipped parse statistics
+     */
+    public CacheStats getStats() {
+        return CacheStats.builder()
+                .hitCount(skippedParseCount.sum())
+                .missCount(parseCount.sum())
+                .evictionCount(evictionCount.sum())
+                .build();
+    }
+
+    /** Forget all the remembered pages */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T parseMemoized(Request request, ResponseExtractor<T> extractor)
+            throws IOException {
+        String url = request.url().toString();
+
+        return executeWithRetry(
+                request,
+                funPayHtmlResponse -> {
+                    ResponseBody responseBody = funPayHtmlResponse.body();
+                    byte[] content = responseBody.bytes();
+                    long contentHash = XxHash64.hash(content);
+
+                    synchronized (entries) {
+                        MemoEntry entry = entries.get(url);
+
+                        if (entry != null
+                                && entry.contentLength == content.length
+                                && entry.contentHash == contentHash) {
+                            skippedParseCount.increment();
+                            return (T) entry.value;
+                        }
+                    }
+
+                    parseCount.increment();
+
+                    // the body has already been consumed, so the page is parsed from the read bytes
+                    T value =
+                            extractor.extract(
+                                    funPayHtmlResponse
+                                            .newBuilder()
+                                            .body(
+                                                    ResponseBody.create(
+                                                            content, responseBody.contentType()))
+                                            .build());
+
+                    synchronized (entries) {
+                        entries.put(url, new MemoEntry(content.length, contentHash, value));
+                    }
+
+                    return value;
+                });
+    }
+
+    @AllArgsConstructor
+    private static class MemoEntry {
+        private final int contentLength;
+
+        private final long contentHash;
+
+        private final Object value;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
+import ru.funpay4j.utils.FunPayDateParser;
+
+/**
+ * This implementation of FunPayParser pipelines the seller reviews pagination. The cursor of the
+ * next page is taken from the raw page as soon as it is received, so the request of the next page
+ * is sent while the current one is still being parsed. The rest of the pages are parsed the same
+ * way as in {@link JsoupFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class PrefetchingFunPayParser extends JsoupFunPayParser {
+    private final int prefetchDepth;
+
+    private final ExecutorService fetchExecutor;
+
+    /**
+     * Creates a new PrefetchingFunPayParser instance which does not retry the failed requests and
+     * fetches the pages on its own daemon threads, which are stopped after a minute without work
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param prefetchDepth max number of received pages waiting to be parsed
+     */
+    public PrefetchingFunPayParser(
+            @NonNull OkHttpClient httpClient, @NonNull String baseURL, int prefetchDepth) {
+        this(httpClient, baseURL, prefetchDepth, RetryPolicy.NO_RETRY);
+    }
+
+    /**
+     * Creates a new PrefetchingFunPayParser instance fetching the pages on its own daemon threads,
+     * which are stopped after a minute without work
+     *
+     * <p>A failed page is requested again with the same cursor on the fetch thread, while the
+     * pages received before it are being parsed
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param prefetchDepth max number of received pages waiting to be parsed
+     * @param retryPolicy policy of retrying the failed requests
+     */
+    public PrefetchingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int prefetchDepth,
+            @NonNull RetryPolicy retryPolicy) {
+        this(httpClient, baseURL, prefetchDepth, retryPolicy, new FunPayDateParser(), null);
+    }
+
+    /**
+     * Creates a new PrefetchingFunPayParser instance fetching the pages on its own daemon threads,
+     * which are stopped after a minute without work
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param prefetchDepth max number of received pages waiting to be parsed
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @param sellerRegistry registry of the preview sellers, can be null to not share the sellers
+     */
+    public PrefetchingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int prefetchDepth,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser,
+            @Nullable PreviewSellerRegistry sellerRegistry) {
+        this(
+                httpClient,
+                baseURL,
+                prefetchDepth,
+                retryPolicy,
+                dateParser,
+                sellerRegistry,
+                Executors.newCachedThreadPool(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "funpay4j-prefetch");
+                            thread.setDaemon(true);
+                            return thread;
+                        }));
+    }
+
+    /**
+     * Creates a new PrefetchingFunPayParser instance which does not retry the failed requests
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param prefetchDepth max number of received pages waiting to be parsed
+     * @param fetchExecutor executor on which the pages are fetched
+     */
+    public PrefetchingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int prefetchDepth,
+            @NonNull ExecutorService fetchExecutor) {
+        this(httpClient, baseURL, prefetchDepth, RetryPolicy.NO_RETRY, fetchExecutor);
+    }
+
+    /**
+     * Creates a new PrefetchingFunPayParser instance
+     *
+     * <p>Every pagination occupies one thread of the fetch executor until all its pages are
+     * fetched, so the executor must have a thread for every concurrent pagination
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param prefetchDepth max number of received pages waiting to be parsed
+     * @param retryPolicy policy of retrying the failed requests
+     * @param fetchExecutor executor on which the pages are fetched
+     */
+    public PrefetchingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int prefetchDepth,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull ExecutorService fetchExecutor) {
+        this(
+                httpClient,
+                baseURL,
+                prefetchDepth,
+                retryPolicy,
+                new FunPayDateParser(),
+                null,
+                fetchExecutor);
+    }
+
+    /**
+     * Creates a new PrefetchingFunPayParser instance
+     *
+     * <p>Every pagination occupies one thread of the fetch executor until all its pages are
+     * fetched, so the executor must have a thread for every concurrent pagination
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param prefetchDepth max number of received pages waiting to be parsed
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @param sellerRegistry registry of the preview sellers, can be null to not share the sellers
+     * @param fetchExecutor executor on which the pages are fetched
+     */
+    public PrefetchingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int prefetchDepth,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser,
+            @Nullable PreviewSellerRegistry sellerRegistry,
+            @NonNull ExecutorService fetchExecutor) {
+        super(httpClient, baseURL, retryPolicy, dateParser, sellerRegistry);
+
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException("prefetchDepth must be positive");
+        }
+
+        this.prefetchDepth = prefetchDepth;
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    @Override
+    ParsedSellerReviewsPage parseSellerReviewsInternal(
+            String goldenKey, long userId, int pages, String starsFilter, String startCursor)
+            throws FunPayApiException, UserNotFoundException {
+        List<ParsedSellerReview> currentSellerReviews = new ArrayList<>();
+        String nextCursor = startCursor;
+        BlockingQueue<FetchedPage> fetchedPages = new ArrayBlockingQueue<>(prefetchDepth);
+
+        // pages are fetched on the fetch executor and parsed on the calling thread
+        Future<?> pagesFetcher =
+                fetchExecutor.submit(
+                        () ->
+                                fetchSellerReviewsPages(
+                                        goldenKey,
+                                        userId,
+                                        pages,
+                                        starsFilter,
+                                        startCursor,
+                                        fetchedPages));
+
+        try {
+            FetchedPage fetchedPage = fetchedPages.take();
+
+            while (fetchedPage.html != null) {
+                Document reviewsHtml = Jsoup.parse(fetchedPage.html);
+
+                extractReviewsFromReviewsHtml(reviewsHtml, currentSellerReviews);
+                nextCursor = extractContinueArg(reviewsHtml);
+
+                fetchedPage = fetchedPages.take();
+            }
+
+            if (fetchedPage.failure instanceof FunPayApiException) {
+                throw (FunPayApiException) fetchedPage.failure;
+            } else if (fetchedPage.failure instanceof Error) {
+                throw (Error) fetchedPage.failure;
+            } else if (fetchedPage.failure != null) {
+                throw (RuntimeException) fetchedPage.failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new FunPayApiException(e.getLocalizedMessage());
+        } finally {
+            // stop fetching if parsing has failed before all pages were received
+            pagesFetcher.cancel(true);
+        }
+
+        return ParsedSellerReviewsPage.builder()
+                .sellerReviews(currentSellerReviews)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Fetch seller reviews pages one by one and pass them to the parsing thread
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param userId user id by which seller reviews pages will be fetched
+     * @param pages number of pages indicating how many seller reviews pages will be fetched
+     * @param starsFilter number of stars filter, can be null
+     * @param startCursor cursor of the first page, null for the first page
+     * @param fetchedPages queue to which the fetched pages and the final marker will be put
+     */
+    private void fetchSellerReviewsPages(
+            String goldenKey,
+            long userId,
+            int pages,
+            String starsFilter,
+            String startCursor,
+            BlockingQueue<FetchedPage> fetchedPages) {
+        FetchedPage lastPage = FetchedPage.END;
+
+        try {
+            try {
+                String continueArg = startCursor;
+
+                for (int currentPageCount = 0; currentPageCount < pages; currentPageCount++) {
+                    Request request =
+                            newSellerReviewsRequest(goldenKey, userId, starsFilter, continueArg);
+                    String reviewsHtml =
+                            executeWithRetry(
+                                    request,
+                                    funPayHtmlResponse -> {
+                                        if (funPayHtmlResponse.code() == 404)
+                                            throw new UserNotFoundException(
+                                                    "User with userId "
+                                                            + userId
+                                                            + " does not found/seller");
+
+                                        return funPayHtmlResponse.body().string();
+                                    });
+
+                    continueArg = extractRawContinueArg(reviewsHtml);
+
+                    fetchedPages.put(new FetchedPage(reviewsHtml, null));
+
+                    if (continueArg == null) break;
+                }
+            } catch (IOException e) {
+                lastPage = new FetchedPage(null, new FunPayApiException(e.getLocalizedMessage()));
+            } catch (RuntimeException | Error e) {
+                // an error must reach the parsing thread too, or it waits for the pages forever
+                lastPage = new FetchedPage(null, e);
+            }
+
+            fetchedPages.put(lastPage);
+        } catch (InterruptedException e) {
+            // the parsing thread is no longer waiting for pages
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Extract cursor of the next page from the raw page without parsing the whole page. Only the
+     * pagination form is parsed, and the cursor is taken from it by {@link
+     * #extractContinueArg(Document)}
+     *
+     * @param reviewsHtml raw html of the seller reviews page
+     * @return cursor of the next page or null if there are no more pages
+     */
+    String extractRawContinueArg(String reviewsHtml) {
+        int dynTableFormIndex = reviewsHtml.indexOf("dyn-table-form");
+
+        if (dynTableFormIndex == -1) return null;
+
+        int formStartIndex = reviewsHtml.lastIndexOf('<', dynTableFormIndex);
+        int formEndIndex = reviewsHtml.indexOf("</form>", dynTableFormIndex);
+        Document formHtml = null;
+
+        if (formStartIndex != -1 && formEndIndex != -1) {
+            formHtml =
+                    Jsoup.parseBodyFragment(
+                            reviewsHtml.substring(
+                                    formStartIndex, formEndIndex + "</form>".length()));
+        }
+
+        // the class name may also occur outside of the form, then the whole page is parsed
+        if (formHtml == null || formHtml.getElementsByClass("dyn-table-form").isEmpty()) {
+            formHtml = Jsoup.parse(reviewsHtml);
+        }
+
+        return extractContinueArg(formHtml);
+    }
+
+    private static final class FetchedPage {
+        private static final FetchedPage END = new FetchedPage(null, null);
+
+        private final String html;
+
+        private final Throwable failure;
+
+        private FetchedPage(String html, Throwable failure) {
+            this.html = html;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import java.util.StringJoiner;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeVisitor;
+
+/**
+ * Visitor collecting all the fields of the preview offer row in one traversal of the row, instead
+ * of traversing the row again for every class. The fields have the same values as the
+ * corresponding {@link Element#getElementsByClass(String)} calls would produce
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+final class PreviewOfferRowVisitor implements NodeVisitor {
+    // price element is used separately by the rows of the user page
+    Element firstPriceElement;
+
+    boolean isAutoDelivery;
+
+    boolean isAutoDeliveryInFirstPrice;
+
+    boolean isPromo;
+
+    boolean isSellerOnline;
+
+    Element reviewCountElement;
+
+    // as Elements.text, the texts of all the matching elements are joined
+    private final StringJoiner shortDescription = new StringJoiner(" ");
+
+    private final StringJoiner sellerUsername = new StringJoiner(" ");
+
+    // as Elements.attr, the attributes are taken from the first element which has them
+    private String avatarPhotoStyle;
+
+    private String avatarPhotoDataHref;
+
+    private String priceDataS;
+
+    private boolean isInsideFirstPrice;
+
+    private PreviewOfferRowVisitor() {}
+
+    /**
+     * Collect the fields of the row
+     *
+     * @param previewOfferRow offer row element
+     * @return visitor with the collected fields
+     */
+    static PreviewOfferRowVisitor visit(Element previewOfferRow) {
+        PreviewOfferRowVisitor visitor = new PreviewOfferRowVisitor();
+
+        previewOfferRow.traverse(visitor);
+
+        return visitor;
+    }
+
+    @Override
+    public void head(Node node, int depth) {
+        if (!(node instanceof Element)) return;
+
+        Element element = (Element) node;
+
+        if (element.attributes().getIgnoreCase("class").isEmpty()) return;
+
+        if (element.hasClass("tc-price")) {
+            if (firstPriceElement == null) {
+                firstPriceElement = element;
+                isInsideFirstPrice = true;
+            }
+
+            if (priceDataS == null && element.hasAttr("data-s")) {
+                priceDataS = element.attr("data-s");
+            }
+        }
+
+        if (element.hasClass("avatar-photo")) {
+            if (avatarPhotoStyle == null && element.hasAttr("style")) {
+                avatarPhotoStyle = element.attr("style");
+            }
+
+            if (avatarPhotoDataHref == null && element.hasAttr("data-href")) {
+                avatarPhotoDataHref = element.attr("data-href");
+            }
+        }
+
+        if (element.hasClass("auto-dlv-icon")) {
+            isAutoDelivery = true;
+            isAutoDeliveryInFirstPrice |= isInsideFirstPrice;
+        }
+
+        if (element.hasClass("tc-desc-text")) shortDescription.add(element.text());
+
+        if (element.hasClass("promo-offer-icon")) isPromo = true;
+
+        if (reviewCountElement == null && element.hasClass("rating-mini-count")) {
+            reviewCountElement = element;
+        }
+
+        if (element.hasClass("media-user-name")) sellerUsername.add(element.text());
+
+        // the whole class attribute is compared, as getElementsByClass does for such a name
+        if (element.hasClass("media media-user online style-circle")) isSellerOnline = true;
+    }
+
+    @Override
+    public void tail(Node node, int depth) {
+        if (node == firstPriceElement) isInsideFirstPrice = false;
+    }
+
+    /**
+     * Get the joined texts of the short description elements
+     *
+     * @return short description
+     */
+    String getShortDescription() {
+        return shortDescription.toString();
+    }
+
+    /**
+     * Get the joined texts of the seller username elements
+     *
+     * @return seller username
+     */
+    String getSellerUsername() {
+        return sellerUsername.toString();
+    }
+
+    /**
+     * Get the style attribute of the first seller avatar element which has it
+     *
+     * @return style attribute or empty string if there is no such element
+     */
+    String getAvatarPhotoStyle() {
+        return avatarPhotoStyle == null ? "" : avatarPhotoStyle;
+    }
+
+    /**
+     * Get the data-href attribute of the first seller avatar element which has it
+     *
+     * @return data-href attribute or empty string if there is no such element
+     */
+    String getAvatarPhotoDataHref() {
+        return avatarPhotoDataHref == null ? "" : avatarPhotoDataHref;
+    }
+
+    /**
+     * Get the data-s attribute of the first price element which has it
+     *
+     * @return data-s attribute or empty string if there is no such element
+     */
+    String getPriceDataS() {
+        return priceDataS == null ? "" : priceDataS;
+    }
+}
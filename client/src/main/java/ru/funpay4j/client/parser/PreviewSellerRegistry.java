@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.NonNull;
+
+import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
+
+/**
+ * This object canonicalizes the parsed preview sellers by their user id, so the same seller found
+ * on many lot, offer and user pages is kept in memory as one object. If the seller has not changed
+ * since it was registered, the registered object is returned. Otherwise the new seller replaces the
+ * registered one, but still shares its username and avatar photo link if they are the same
+ *
+ * <p>The registry remembers a bounded number of the most recently seen sellers. The returned
+ * sellers are shared between the parsed objects, so they must not be modified
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class PreviewSellerRegistry {
+    private static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final Map<Long, ParsedPreviewSeller> sellers;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /** Creates a new PreviewSellerRegistry instance remembering up to 10000 sellers */
+    public PreviewSellerRegistry() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new PreviewSellerRegistry instance
+     *
+     * @param maximumSize max number of remembered sellers
+     */
+    public PreviewSellerRegistry(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        // access ordered map keeps the least recently seen seller first
+        this.sellers = new LinkedHashMap<Long, ParsedPreviewSeller>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ParsedPreviewSeller> eldest) {
+                if (size() <= maximumSize) return false;
+
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Get the canonical instance of the seller
+     *
+     * @param seller parsed seller
+     * @return registered seller equal to the given one
+     */
+    public ParsedPreviewSeller canonicalize(@NonNull ParsedPreviewSeller seller) {
+        synchronized (sellers) {
+            ParsedPreviewSeller registeredSeller = sellers.get(seller.getUserId());
+
+            if (seller.equals(registeredSeller)) {
+                hitCount.increment();
+                return registeredSeller;
+            }
+
+            missCount.increment();
+
+            // the online status and the review count change more often than the name and avatar
+            if (registeredSeller != null) {
+                if (Objects.equals(seller.getUsername(), registeredSeller.getUsername())) {
+                    seller.setUsername(registeredSeller.getUsername());
+                }
+
+                if (Objects.equals(
+                        seller.getAvatarPhotoLink(), registeredSeller.getAvatarPhotoLink())) {
+                    seller.setAvatarPhotoLink(registeredSeller.getAvatarPhotoLink());
+                }
+            }
+
+            sellers.put(seller.getUserId(), seller);
+
+            return seller;
+        }
+    }
+
+    /**
+     * Get the statistics of the registry. Hits are the sellers replaced with the registered
+     * instance, misses are the sellers that were new or had changed
+     *
+     * @return registry statistics
+     */
+    public CacheStats getStats() {
+        return CacheStats.builder()
+                .hitCount(hitCount.sum())
+                .missCount(missCount.sum())
+                .evictionCount(evictionCount.sum())
+                .build();
+    }
+
+    /**
+     * Get the number of the remembered sellers
+     *
+     * @return number of the remembered sellers
+     */
+    public int size() {
+        synchronized (sellers) {
+            return sellers.size();
+        }
+    }
+
+    /** Forget all the remembered sellers */
+    public void invalidateAll() {
+        synchronized (sellers) {
+            sellers.clear();
+        }
+    }
+}
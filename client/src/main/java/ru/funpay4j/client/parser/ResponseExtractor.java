@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+
+import okhttp3.Response;
+
+/**
+ * Extracts the parsed object from the FunPay response
+ *
+ * @param <T> type of the parsed object
+ * @author panic08
+ * @since 1.0.7
+ */
+interface ResponseExtractor<T> {
+    /**
+     * Extract the parsed object from the response
+     *
+     * @param funPayHtmlResponse response to extract from
+     * @return parsed object
+     * @throws IOException if the response body could not be read
+     */
+    T extract(Response funPayHtmlResponse) throws IOException;
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.user.ParsedUser;
+import ru.funpay4j.utils.FunPayDateParser;
+
+/**
+ * This implementation of FunPayParser revalidates the lot, offer and user pages with conditional
+ * requests. The ETag and Last-Modified validators of every page are remembered together with the
+ * parsed result, and the next request for the same page sends them back in the If-None-Match and
+ * If-Modified-Since headers. If FunPay answers with 304 Not Modified, the previously parsed result
+ * is returned without downloading and parsing the page again. Pages without validators and the
+ * pages requested with a golden key are always parsed as in {@link JsoupFunPayParser}
+ *
+ * <p>The remembered objects are shared between the callers, so they must not be modified
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class RevalidatingFunPayParser extends JsoupFunPayParser {
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Map<String, RevalidationEntry> entries;
+
+    private final LongAdder notModifiedCount = new LongAdder();
+
+    private final LongAdder modifiedCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a new RevalidatingFunPayParser instance remembering up to 1000 pages
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     */
+    public RevalidatingFunPayParser(@NonNull OkHttpClient httpClient, @NonNull String baseURL) {
+        this(httpClient, baseURL, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new RevalidatingFunPayParser instance which does not retry the failed requests
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param maximumSize max number of remembered pages
+     */
+    public RevalidatingFunPayParser(
+            @NonNull OkHttpClient httpClient, @NonNull String baseURL, int maximumSize) {
+        this(httpClient, baseURL, maximumSize, RetryPolicy.NO_RETRY);
+    }
+
+    /**
+     * Creates a new RevalidatingFunPayParser instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param maximumSize max number of remembered pages
+     * @param retryPolicy policy of retrying the failed requests
+     */
+    public RevalidatingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int maximumSize,
+            @NonNull RetryPolicy retryPolicy) {
+        this(httpClient, baseURL, maximumSize, retryPolicy, new FunPayDateParser(), null);
+    }
+
+    /**
+     * Creates a new RevalidatingFunPayParser instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param maximumSize max number of remembered pages
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @param sellerRegistry registry of the preview sellers, can be null to not share the sellers
+     */
+    public RevalidatingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            int maximumSize,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser,
+            @Nullable PreviewSellerRegistry sellerRegistry) {
+        super(httpClient, baseURL, retryPolicy, dateParser, sellerRegistry);
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        // access ordered map keeps the least recently used entry first
+        this.entries = new LinkedHashMap<String, RevalidationEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RevalidationEntry> eldest) {
+                if (size() <= maximumSize) return false;
+
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLot parseLot(long lotId) throws FunPayApiException, LotNotFoundException {
+        try {
+            return revalidate(newLotRequest(lotId), response -> extractLot(response, lotId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedOffer parseOffer(long offerId) throws FunPayApiException, OfferNotFoundException {
+        try {
+            return revalidate(
+                    newOfferRequest(offerId), response -> extractOffer(response, offerId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedUser parseUser(long userId) throws FunPayApiException, UserNotFoundException {
+        try {
+            return revalidate(
+                    newUserRequest(null, userId), response -> extractUser(response, userId));
+        } catch (IOException e) {
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Get the statistics of the revalidation. Hits are the pages FunPay answered with 304 Not
+     * Modified, misses are the pages that had to be downloaded and parsed
+     *
+     * @return revalidation statistics
+     */
+    public CacheStats getStats() {
+        return CacheStats.builder()
+                .hitCount(notModifiedCount.sum())
+                .missCount(modifiedCount.sum())
+                .evictionCount(evictionCount.sum())
+                .build();
+    }
+
+    /** Forget all the remembered validators and pages */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T revalidate(Request request, ResponseExtractor<T> extractor) throws IOException {
+        String url = request.url().toString();
+        RevalidationEntry entry;
+
+        synchronized (entries) {
+            entry = entries.get(url);
+        }
+
+        Request.Builder conditionalRequestBuilder = request.newBuilder();
+
+        if (entry != null) {
+            if (entry.eTag != null) {
+                conditionalRequestBuilder.header("If-None-Match", entry.eTag);
+            }
+
+            if (entry.lastModified != null) {
+                conditionalRequestBuilder.header("If-Modified-Since", entry.lastModified);
+            }
+        }
+
+        return executeWithRetry(
+                conditionalRequestBuilder.build(),
+                funPayHtmlResponse -> {
+                    if (entry != null && funPayHtmlResponse.code() == 304) {
+                        notModifiedCount.increment();
+                        return (T) entry.value;
+                    }
+
+                    modifiedCount.increment();
+
+                    T value = extractor.extract(funPayHtmlResponse);
+                    String eTag = funPayHtmlResponse.header("ETag");
+                    String lastModified = funPayHtmlResponse.header("Last-Modified");
+
+                    synchronized (entries) {
+                        if (eTag == null && lastModified == null) {
+                            entries.remove(url);
+                        } else {
+                            entries.put(url, new RevalidationEntry(eTag, lastModified, value));
+                        }
+                    }
+
+                    return value;
+                });
+    }
+
+    @AllArgsConstructor
+    private static class RevalidationEntry {
+        private final String eTag;
+
+        private final String lastModified;
+
+        private final Object value;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import lombok.NonNull;
+import ru.funpay4j.client.exceptions.FunPayApiException;
+
+/**
+ * This SingleFlight is used to share one in-flight call between the concurrent callers with the
+ * same key. The first caller executes the call, and the callers arriving before it completes wait
+ * for its result or exception instead of executing their own call. Nothing is remembered once the
+ * call completes
+ *
+ * @param <K> type of the call keys
+ * @author panic08
+ * @since 1.0.7
+ */
+public class SingleFlight<K> {
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlightCalls =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Execute the call or wait for the in-flight call with the same key
+     *
+     * @param key key identifying the call
+     * @param call call which will be executed if there is no in-flight call with the key
+     * @param <T> type of the call result
+     * @return result of the call
+     * @throws FunPayApiException if the other api-related exception
+     */
+    public <T> T execute(@NonNull K key, @NonNull Call<T> call) throws FunPayApiException {
+        CompletableFuture<Object> newCall = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, newCall);
+
+        if (inFlightCall != null) return await(inFlightCall);
+
+        try {
+            T result = call.call();
+
+            newCall.complete(result);
+            return result;
+        } catch (Throwable e) {
+            newCall.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, newCall);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(CompletableFuture<Object> inFlightCall) throws FunPayApiException {
+        try {
+            return (T) inFlightCall.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new FunPayApiException("Interrupted while waiting for the in-flight call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof FunPayApiException) throw (FunPayApiException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+
+            throw new FunPayApiException(cause.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Call which can be shared between the callers
+     *
+     * @param <T> type of the call result
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        /**
+         * Execute the call
+         *
+         * @return result of the call
+         * @throws FunPayApiException if the other api-related exception
+         */
+        T call() throws FunPayApiException;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import lombok.NonNull;
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
+import ru.funpay4j.client.objects.game.ParsedPromoGame;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.lot.ParsedLotOfferTable;
+import ru.funpay4j.client.objects.offer.ParsedOffer;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionsPage;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * This implementation of FunPayParser lets the concurrent identical calls share one request and
+ * one parsed result of the delegate parser. Calls are identical when they have the same method,
+ * arguments and golden key. Unlike {@link CachingFunPayParser} nothing is remembered once the
+ * request completes, so the data is never stale. The lazy transactions iterator is not shared
+ *
+ * <p>The shared objects are returned to all the waiting callers, so they must not be modified
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class SingleFlightFunPayParser implements FunPayParser {
+    private final FunPayParser delegate;
+
+    private final SingleFlight<List<Object>> singleFlight = new SingleFlight<>();
+
+    /**
+     * Creates a new SingleFlightFunPayParser instance
+     *
+     * @param delegate parser whose requests will be shared
+     */
+    public SingleFlightFunPayParser(@NonNull FunPayParser delegate) {
+        this.delegate = delegate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLot parseLot(long lotId) throws FunPayApiException, LotNotFoundException {
+        return singleFlight.execute(key("parseLot", lotId), () -> delegate.parseLot(lotId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedLotOfferTable parseLotOfferTable(long lotId)
+            throws FunPayApiException, LotNotFoundException {
+        return singleFlight.execute(
+                key("parseLotOfferTable", lotId), () -> delegate.parseLotOfferTable(lotId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedPromoGame> parsePromoGames(String query) throws FunPayApiException {
+        return singleFlight.execute(
+                key("parsePromoGames", query), () -> delegate.parsePromoGames(query));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedOffer parseOffer(long offerId) throws FunPayApiException, OfferNotFoundException {
+        return singleFlight.execute(key("parseOffer", offerId), () -> delegate.parseOffer(offerId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedUser parseUser(long userId) throws FunPayApiException, UserNotFoundException {
+        return singleFlight.execute(key("parseUser", userId), () -> delegate.parseUser(userId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedUser parseUser(String goldenKey, long userId)
+            throws FunPayApiException, UserNotFoundException {
+        return singleFlight.execute(
+                key("parseUser", goldenKey, userId), () -> delegate.parseUser(goldenKey, userId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(long userId, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return singleFlight.execute(
+                key("parseSellerReviews", userId, pages),
+                () -> delegate.parseSellerReviews(userId, pages));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(String goldenKey, long userId, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return singleFlight.execute(
+                key("parseSellerReviews", goldenKey, userId, pages),
+                () -> delegate.parseSellerReviews(goldenKey, userId, pages));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(long userId, int pages, int starsFilter)
+            throws FunPayApiException, UserNotFoundException {
+        return singleFlight.execute(
+                key("parseSellerReviewsWithStarsFilter", userId, pages, starsFilter),
+                () -> delegate.parseSellerReviews(userId, pages, starsFilter));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedSellerReview> parseSellerReviews(
+            String goldenKey, long userId, int pages, int starsFilter)
+            throws FunPayApiException, UserNotFoundException {
+        return singleFlight.execute(
+                key("parseSellerReviewsWithStarsFilter", goldenKey, userId, pages, starsFilter),
+                () -> delegate.parseSellerReviews(goldenKey, userId, pages, starsFilter));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorSupported() {
+        return delegate.isCursorSupported();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedSellerReviewsPage parseSellerReviewsPage(
+            String goldenKey, long userId, int pages, Integer starsFilter, String startCursor)
+            throws FunPayApiException, UserNotFoundException {
+        return singleFlight.execute(
+                key("parseSellerReviewsPage", goldenKey, userId, pages, starsFilter, startCursor),
+                () ->
+                        delegate.parseSellerReviewsPage(
+                                goldenKey, userId, pages, starsFilter, startCursor));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedTransaction> parseTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return singleFlight.execute(
+                key("parseTransactions", goldenKey, userId, type, pages),
+                () -> delegate.parseTransactions(goldenKey, userId, type, pages));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParsedTransaction> parseTransactions(String goldenKey, long userId, int pages)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return singleFlight.execute(
+                key("parseTransactions", goldenKey, userId, null, pages),
+                () -> delegate.parseTransactions(goldenKey, userId, pages));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParsedTransactionsPage parseTransactionsPage(
+            String goldenKey,
+            long userId,
+            ParsedTransactionType type,
+            int pages,
+            String startCursor)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        return singleFlight.execute(
+                key("parseTransactionsPage", goldenKey, userId, type, pages, startCursor),
+                () -> delegate.parseTransactionsPage(goldenKey, userId, type, pages, startCursor));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<ParsedTransaction> iterateTransactions(
+            String goldenKey, long userId, ParsedTransactionType type, int pages) {
+        return delegate.iterateTransactions(goldenKey, userId, type, pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CsrfTokenAndPHPSESSID parseCsrfTokenAndPHPSESSID(String goldenKey)
+            throws FunPayApiException {
+        return singleFlight.execute(
+                key("parseCsrfTokenAndPHPSESSID", goldenKey),
+                () -> delegate.parseCsrfTokenAndPHPSESSID(goldenKey));
+    }
+
+    private static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+}
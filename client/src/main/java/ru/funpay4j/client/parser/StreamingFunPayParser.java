@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import org.jetbrains.annotations.Nullable;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.lot.ParsedLotCounter;
+import ru.funpay4j.client.objects.offer.ParsedPreviewOffer;
+import ru.funpay4j.utils.FunPayDateParser;
+
+/**
+ * This implementation of FunPayParser parses the lot page incrementally from the response stream
+ * instead of building the whole Jsoup document. Every offer row is extracted as soon as it is
+ * closed and then removed from the partially built document, so memory usage does not grow with
+ * the number of offers on the page. The rest of the pages are parsed the same way as in {@link
+ * JsoupFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class StreamingFunPayParser extends JsoupFunPayParser {
+    /**
+     * Creates a new StreamingFunPayParser instance which does not retry the failed requests
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     */
+    public StreamingFunPayParser(@NonNull OkHttpClient httpClient, @NonNull String baseURL) {
+        this(httpClient, baseURL, RetryPolicy.NO_RETRY);
+    }
+
+    /**
+     * Creates a new StreamingFunPayParser instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param retryPolicy policy of retrying the failed requests
+     */
+    public StreamingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            @NonNull RetryPolicy retryPolicy) {
+        this(httpClient, baseURL, retryPolicy, new FunPayDateParser(), null);
+    }
+
+    /**
+     * Creates a new StreamingFunPayParser instance
+     *
+     * @param httpClient httpClient required to send http requests
+     * @param baseURL base URL of the primary server
+     * @param retryPolicy policy of retrying the failed requests
+     * @param dateParser parser of the dates written on the pages
+     * @param sellerRegistry registry of the preview sellers, can be null to not share the sellers
+     */
+    public StreamingFunPayParser(
+            @NonNull OkHttpClient httpClient,
+            @NonNull String baseURL,
+            @NonNull RetryPolicy retryPolicy,
+            @NonNull FunPayDateParser dateParser,
+            @Nullable PreviewSellerRegistry sellerRegistry) {
+        super(httpClient, baseURL, retryPolicy, dateParser, sellerRegistry);
+    }
+
+    /**
+     * Extract lot from the lot page response without building the whole document
+     *
+     * @param funPayHtmlResponse response containing the lot page
+     * @param lotId lot id by which lot was requested
+     * @return lot
+     * @throws IOException if the response body could not be read
+     * @throws LotNotFoundException if the lot with id does not found
+     */
+    @Override
+    ParsedLot extractLot(Response funPayHtmlResponse, long lotId) throws IOException {
+        try (StreamParser funPayStreamParser =
+                new StreamParser(Parser.htmlParser())
+                        .parse(funPayHtmlResponse.body().charStream(), baseURL)) {
+            String title = null;
+            String description = null;
+            String gameIdAttributeValue = "";
+            List<ParsedLotCounter> lotCounters = new ArrayList<>();
+            List<ParsedPreviewOffer> previewOffers = new ArrayList<>();
+            boolean isFirstPageContentClosed = false;
+
+            // elements are emitted in the order they are closed, so every element already has all
+            // of its children but is still attached to its not yet closed parents
+            Iterator<Element> funPayElements = funPayStreamParser.iterator();
+
+            while (funPayElements.hasNext()) {
+                Element element = funPayElements.next();
+                Element parentElement = element.parent();
+
+                if (parentElement == null) continue;
+
+                boolean isAnchorElement = "a".equals(element.normalName());
+
+                // the same rule as isNonExistentFunPayPage: the page is missing if the first page
+                // content element has a header. A header is closed before its page content, and
+                // the outermost page content still open is the first one until it is closed
+                if (!isFirstPageContentClosed
+                        && element.hasClass("page-header")
+                        && element.closest(".page-content-full") != null) {
+                    throw new LotNotFoundException("Lot with lotId " + lotId + " does not found");
+                }
+
+                if (element.hasClass("page-content-full")
+                        && parentElement.closest(".page-content-full") == null) {
+                    isFirstPageContentClosed = true;
+                }
+
+                if (title == null && element.hasClass("content-with-cd")) {
+                    title = element.selectFirst("h1").text();
+                    description = element.selectFirst("p").text();
+                } else if (gameIdAttributeValue.isEmpty()
+                        && element.hasClass("content-with-cd-wide")
+                        && element.hasClass("showcase")) {
+                    gameIdAttributeValue = element.attr("data-game");
+                } else if (isAnchorElement && parentElement.hasClass("counter-list")) {
+                    ParsedLotCounter lotCounter = extractLotCounter(element);
+
+                    if (lotCounter != null && lotCounter.getLotId() != lotId) {
+                        lotCounters.add(lotCounter);
+                    }
+                } else if (isAnchorElement && parentElement.hasClass("tc")) {
+                    previewOffers.add(extractLotPreviewOffer(element));
+                } else {
+                    continue;
+                }
+
+                // the element has been fully processed, so there is no need to keep it in memory
+                element.remove();
+            }
+
+            return ParsedLot.builder()
+                    .id(lotId)
+                    .title(title)
+                    .description(description)
+                    .gameId(Long.parseLong(gameIdAttributeValue))
+                    .lotCounters(lotCounters)
+                    .previewOffers(previewOffers)
+                    .build();
+        } catch (UncheckedIOException e) {
+            // the stream parser reports read errors of the underlying reader unchecked
+            throw e.getCause();
+        }
+    }
+}
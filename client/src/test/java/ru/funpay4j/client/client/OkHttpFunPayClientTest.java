@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 
 import okhttp3.OkHttpClient;
@@ -124,6 +125,25 @@ class OkHttpFunPayClientTest {
                 () -> client.raiseAllOffers(goldenKey, gameId, lotId));
     }
 
+    @Test
+    void testRaiseAllOffersAlreadyRaisedWaitDuration() throws Exception {
+        String goldenKey = "valid_golden_key";
+        long gameId = 41L;
+        long lotId = 149L;
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody("{\"msg\": \"Подождите 3 часа.\", \"error\": 1}")
+                        .setResponseCode(200));
+
+        OfferAlreadyRaisedException exception =
+                assertThrows(
+                        OfferAlreadyRaisedException.class,
+                        () -> client.raiseAllOffers(goldenKey, gameId, lotId));
+
+        assertEquals(Duration.ofHours(3), exception.getWaitDuration());
+    }
+
     @Test
     void testSaveOffer() throws Exception {
         String goldenKey = "valid_golden_key";
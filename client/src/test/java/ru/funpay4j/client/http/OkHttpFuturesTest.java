@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.http;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class OkHttpFuturesTest {
+    private MockWebServer mockWebServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testEnqueueCompletesFutureWhenHandlerThrowsError() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        Error error = new StackOverflowError();
+        Request request = new Request.Builder().url(mockWebServer.url("/")).build();
+        CompletableFuture<Object> future =
+                OkHttpFutures.enqueue(
+                        new OkHttpClient(),
+                        request,
+                        response -> {
+                            throw error;
+                        });
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertSame(error, exception.getCause());
+    }
+}
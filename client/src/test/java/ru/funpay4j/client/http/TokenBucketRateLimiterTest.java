@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the pacing and the AIMD adjustment of {@link TokenBucketRateLimiter}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class TokenBucketRateLimiterTest {
+    private MockWebServer mockWebServer;
+    private AtomicLong ticker;
+    private List<Long> sleeps;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.ticker = new AtomicLong();
+        this.sleeps = new ArrayList<>();
+        this.rateLimiter =
+                new TokenBucketRateLimiter(
+                        Arrays.asList(
+                                EndpointLimit.builder()
+                                        .pathPrefix("/lots/")
+                                        .permitsPerSecond(2)
+                                        .burst(2)
+                                        .build(),
+                                EndpointLimit.builder()
+                                        .pathPrefix("/lots/raise")
+                                        .permitsPerSecond(1)
+                                        .build()),
+                        0.5,
+                        0.25,
+                        ticker::get,
+                        nanos -> {
+                            sleeps.add(nanos);
+                            ticker.addAndGet(nanos);
+                        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testBurstIsNotDelayed() throws Exception {
+        rateLimiter.acquire("/lots/149/");
+        rateLimiter.acquire("/lots/149/");
+
+        assertTrue(sleeps.isEmpty());
+        assertEquals(2, rateLimiter.getStats().get("/lots/").getAcquireCount());
+    }
+
+    @Test
+    void testRequestsAfterBurstArePaced() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.acquire("/lots/149/");
+        }
+
+        long halfSecond = TimeUnit.MILLISECONDS.toNanos(500);
+        assertEquals(Arrays.asList(halfSecond, halfSecond), sleeps);
+
+        RateLimiterStats stats = rateLimiter.getStats().get("/lots/");
+        assertEquals(2, stats.getWaitCount());
+        assertEquals(Duration.ofSeconds(1), stats.getTotalWait());
+        assertEquals(Duration.ofMillis(500), stats.getMaxWait());
+    }
+
+    @Test
+    void testEndpointWithLongestPrefixIsUsed() throws Exception {
+        rateLimiter.acquire("/lots/raise");
+        rateLimiter.acquire("//lots/raise");
+
+        assertEquals(Arrays.asList(TimeUnit.SECONDS.toNanos(1)), sleeps);
+        assertEquals(2, rateLimiter.getStats().get("/lots/raise").getAcquireCount());
+        assertEquals(0, rateLimiter.getStats().get("/lots/").getAcquireCount());
+    }
+
+    @Test
+    void testUnknownPathIsNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("/users/2/");
+        }
+
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void testThrottledResponsesSlowEndpointDownUntilRecovered() {
+        rateLimiter.onResponse("/lots/149/", 429);
+        rateLimiter.onResponse("/lots/149/", 503);
+
+        RateLimiterStats throttledStats = rateLimiter.getStats().get("/lots/");
+        assertEquals(0.5, throttledStats.getPermitsPerSecond());
+        assertEquals(2, throttledStats.getThrottledResponseCount());
+
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onResponse("/lots/149/", 200);
+        }
+
+        assertEquals(2.0, rateLimiter.getStats().get("/lots/").getPermitsPerSecond());
+    }
+
+    @Test
+    void testInterceptorReportsResponseCodes() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+
+        OkHttpClient httpClient =
+                new OkHttpClient.Builder()
+                        .addInterceptor(new RateLimitingInterceptor(rateLimiter))
+                        .build();
+        Request request = new Request.Builder().url(mockWebServer.url("/lots/149/")).build();
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            assertEquals(429, response.code());
+        }
+
+        RateLimiterStats stats = rateLimiter.getStats().get("/lots/");
+        assertEquals(1, stats.getAcquireCount());
+        assertEquals(1, stats.getThrottledResponseCount());
+        assertNull(rateLimiter.getStats().get("/users/"));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+
+/**
+ * Tests for {@link CachingFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class CachingFunPayParserTest {
+    private MockWebServer mockWebServer;
+    private JsoupFunPayParser jsoupParser;
+    private AtomicLong ticker;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String BASE_URL = "/";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.jsoupParser =
+                new JsoupFunPayParser(
+                        new OkHttpClient(), this.mockWebServer.url(BASE_URL).toString());
+        this.ticker = new AtomicLong();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testParseLotIsCached() throws Exception {
+        enqueueLot(1);
+        CachingFunPayParser cachingParser = new CachingFunPayParser(jsoupParser);
+
+        ParsedLot firstResult = cachingParser.parseLot(149L);
+        ParsedLot secondResult = cachingParser.parseLot(149L);
+
+        assertSame(firstResult, secondResult);
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1, cachingParser.getStats().getHitCount());
+        assertEquals(1, cachingParser.getStats().getMissCount());
+    }
+
+    @Test
+    void testParseLotExpires() throws Exception {
+        enqueueLot(2);
+        CachingFunPayParser cachingParser = newCachingParser(Duration.ofSeconds(30), 10);
+
+        cachingParser.parseLot(149L);
+        ticker.addAndGet(Duration.ofSeconds(29).toNanos());
+        cachingParser.parseLot(149L);
+
+        assertEquals(1, mockWebServer.getRequestCount());
+
+        ticker.addAndGet(Duration.ofSeconds(1).toNanos());
+        cachingParser.parseLot(149L);
+
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testZeroTtlDisablesCaching() throws Exception {
+        enqueueLot(2);
+        CachingFunPayParser cachingParser = newCachingParser(Duration.ZERO, 10);
+
+        cachingParser.parseLot(149L);
+        cachingParser.parseLot(149L);
+
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        enqueueLot(3);
+        CachingFunPayParser cachingParser = newCachingParser(Duration.ofSeconds(30), 2);
+
+        cachingParser.parseLot(149L);
+        cachingParser.parseLot(150L);
+        // lot 149 becomes the most recently used one
+        cachingParser.parseLot(149L);
+        cachingParser.parseLot(151L);
+
+        assertEquals(3, mockWebServer.getRequestCount());
+
+        cachingParser.parseLot(149L);
+
+        assertEquals(3, mockWebServer.getRequestCount());
+        assertEquals(1, cachingParser.getStats().getEvictionCount());
+    }
+
+    @Test
+    void testFailureIsNotCached() throws Exception {
+        String notFoundHtml =
+                "<div class=\"page-content-full\"><div class=\"page-header\"></div></div>";
+        mockWebServer.enqueue(new MockResponse().setBody(notFoundHtml).setResponseCode(200));
+        enqueueLot(1);
+        CachingFunPayParser cachingParser = new CachingFunPayParser(jsoupParser);
+
+        assertThrows(LotNotFoundException.class, () -> cachingParser.parseLot(149L));
+        assertEquals(149L, cachingParser.parseLot(149L).getId());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testConcurrentMissesAreCoalesced() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(htmlContent)
+                        .setResponseCode(200)
+                        .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+        CachingFunPayParser cachingParser = new CachingFunPayParser(jsoupParser);
+
+        int callerCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<ParsedLot>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < callerCount; i++) {
+                results.add(
+                        executorService.submit(
+                                () -> {
+                                    startLatch.await();
+                                    return cachingParser.parseLot(149L);
+                                }));
+            }
+
+            startLatch.countDown();
+
+            for (Future<ParsedLot> result : results) {
+                assertSame(results.get(0).get(), result.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1, cachingParser.getStats().getMissCount());
+        assertEquals(callerCount - 1, cachingParser.getStats().getHitCount());
+    }
+
+    private CachingFunPayParser newCachingParser(Duration lotTtl, int maximumSize) {
+        return new CachingFunPayParser(
+                jsoupParser, lotTtl, lotTtl, lotTtl, lotTtl, maximumSize, ticker::get);
+    }
+
+    private void enqueueLot(int times) throws IOException {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+
+        for (int i = 0; i < times; i++) {
+            mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.transaction.ParsedTransaction;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class JsoupAsyncFunPayParserTest {
+    private MockWebServer mockWebServer;
+    private JsoupFunPayParser syncParser;
+    private JsoupAsyncFunPayParser parser;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_SELLER_REVIEWS_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getSellerReviewsResponse.html";
+    private static final String GET_TRANSACTIONS_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getTransactionsResponse.html";
+    private static final String BASE_URL = "/";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.syncParser =
+                new JsoupFunPayParser(
+                        new OkHttpClient(), this.mockWebServer.url(BASE_URL).toString());
+        this.parser = new JsoupAsyncFunPayParser(this.syncParser);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testParseLotMatchesSyncParser() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        long lotId = 149L;
+        ParsedLot expected = syncParser.parseLot(lotId);
+        ParsedLot result = parser.parseLot(lotId).get(5, TimeUnit.SECONDS);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void testParseLotNotFound() throws Exception {
+        String notFoundHtml =
+                "<div class=\"page-content-full\"><div class=\"page-header\"></div></div>";
+        mockWebServer.enqueue(new MockResponse().setBody(notFoundHtml).setResponseCode(200));
+
+        CompletableFuture<ParsedLot> result = parser.parseLot(999L);
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof LotNotFoundException);
+    }
+
+    @Test
+    void testParseLotServerUnavailable() throws Exception {
+        MockWebServer unavailableServer = new MockWebServer();
+        unavailableServer.start();
+        String unavailableURL = unavailableServer.url(BASE_URL).toString();
+        unavailableServer.shutdown();
+        JsoupAsyncFunPayParser unavailableParser =
+                new JsoupAsyncFunPayParser(new OkHttpClient(), unavailableURL);
+
+        CompletableFuture<ParsedLot> result = unavailableParser.parseLot(149L);
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof FunPayApiException);
+    }
+
+    @Test
+    void testParseSellerReviewsFollowsContinueCursor() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_SELLER_REVIEWS_HTML_RESPONSE_PATH)));
+        String firstPageHtmlContent =
+                htmlContent.replace(
+                        "name=\"continue\" value=\"\"", "name=\"continue\" value=\"next-page\"");
+        mockWebServer.enqueue(
+                new MockResponse().setBody(firstPageHtmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        long userId = 2L;
+        int pages = 5;
+        List<ParsedSellerReview> result =
+                parser.parseSellerReviews(userId, pages).get(5, TimeUnit.SECONDS);
+
+        assertEquals(4, result.size());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertFalse(mockWebServer.takeRequest().getBody().readUtf8().contains("next-page"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("next-page"));
+    }
+
+    @Test
+    void testParseSellerReviewsRetriesWithPolicyOfSyncParser() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_SELLER_REVIEWS_HTML_RESPONSE_PATH)));
+        String firstPageHtmlContent =
+                htmlContent.replace(
+                        "name=\"continue\" value=\"\"", "name=\"continue\" value=\"next-page\"");
+        mockWebServer.enqueue(
+                new MockResponse().setBody(firstPageHtmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        RetryPolicy retryPolicy =
+                RetryPolicy.builder()
+                        .maxAttempts(3)
+                        .initialBackoff(Duration.ZERO)
+                        .jitter(0)
+                        .build();
+        JsoupAsyncFunPayParser retryingParser =
+                new JsoupAsyncFunPayParser(
+                        new JsoupFunPayParser(
+                                new OkHttpClient(),
+                                mockWebServer.url(BASE_URL).toString(),
+                                retryPolicy));
+
+        List<ParsedSellerReview> result =
+                retryingParser.parseSellerReviews(2L, 5).get(5, TimeUnit.SECONDS);
+
+        assertEquals(4, result.size());
+        assertEquals(3, mockWebServer.getRequestCount());
+        assertFalse(mockWebServer.takeRequest().getBody().readUtf8().contains("next-page"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("next-page"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("next-page"));
+    }
+
+    @Test
+    void testParseSellerReviewsUserNotFound() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        CompletableFuture<List<ParsedSellerReview>> result = parser.parseSellerReviews(999L, 1);
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof UserNotFoundException);
+    }
+
+    @Test
+    void testParseTransactionsStopsAtRequestedPages() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        String goldenKey = "test-golden-key";
+        long userId = 123L;
+        int pages = 1;
+        List<ParsedTransaction> result =
+                parser.parseTransactions(goldenKey, userId, pages).get(5, TimeUnit.SECONDS);
+
+        assertEquals(8, result.size());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+}
@@ -18,19 +18,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
 
+import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,11 +50,13 @@ import org.junit.jupiter.api.Test;
 import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
 import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
 import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
 import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
 import ru.funpay4j.client.objects.game.ParsedPromoGame;
 import ru.funpay4j.client.objects.game.ParsedPromoGameCounter;
 import ru.funpay4j.client.objects.lot.ParsedLot;
 import ru.funpay4j.client.objects.lot.ParsedLotCounter;
+import ru.funpay4j.client.objects.lot.ParsedLotOfferTable;
 import ru.funpay4j.client.objects.offer.ParsedOffer;
 import ru.funpay4j.client.objects.offer.ParsedPreviewOffer;
 import ru.funpay4j.client.objects.transaction.ParsedTransaction;
@@ -50,7 +64,9 @@ import ru.funpay4j.client.objects.user.ParsedAdvancedSellerReview;
 import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
 import ru.funpay4j.client.objects.user.ParsedSeller;
 import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
 import ru.funpay4j.client.objects.user.ParsedUser;
+import ru.funpay4j.utils.FunPayDateParser;
 
 /**
  * @author panic08
@@ -63,6 +79,8 @@ class JsoupFunPayParserTest {
 
     private static final String GET_LOT_HTML_RESPONSE_PATH =
             "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_LOT_WITH_MANY_OFFERS_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotWithManyOffersResponse.html";
     private static final String GET_PROMO_GAMES_JSON_RESPONSE_PATH =
             "src/test/resources/json/client/getPromoGamesResponse.json";
     private static final String GET_OFFER_HTML_RESPONSE_PATH =
@@ -119,6 +137,68 @@ class JsoupFunPayParserTest {
         assertNotNull(previewOffer.getSeller().getUsername());
     }
 
+    @Test
+    void testParseLotOfferTableMatchesParseLot() throws Exception {
+        String htmlContent =
+                new String(
+                        Files.readAllBytes(Paths.get(GET_LOT_WITH_MANY_OFFERS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        ParsedLot lot = parser.parseLot(81L);
+        ParsedLotOfferTable result = parser.parseLotOfferTable(81L);
+
+        assertEquals(lot.getGameId(), result.getGameId());
+        assertEquals(lot.getPreviewOffers().size(), result.size());
+
+        for (int i = 0; i < result.size(); i++) {
+            ParsedPreviewOffer previewOffer = lot.getPreviewOffers().get(i);
+
+            assertEquals(previewOffer.getOfferId(), result.getOfferIds()[i]);
+            assertEquals(previewOffer.getShortDescription(), result.getShortDescriptions()[i]);
+            assertEquals(previewOffer.getPrice(), result.getPrices()[i]);
+            assertEquals(previewOffer.isAutoDelivery(), result.getAutoDelivery().get(i));
+            assertEquals(previewOffer.isPromo(), result.getPromo().get(i));
+            assertEquals(previewOffer.getSeller().getUserId(), result.getSellerIds()[i]);
+            assertEquals(previewOffer.getSeller().isOnline(), result.getSellerOnline().get(i));
+            assertEquals(
+                    previewOffer.getSeller().getUsername(),
+                    result.getSellers().get(result.getSellerIds()[i]).getUsername());
+        }
+        assertEquals(ParsedLotOfferTable.from(lot), result);
+    }
+
+    @Test
+    void testParseLotWithSellerRegistry() throws Exception {
+        String htmlContent =
+                new String(
+                        Files.readAllBytes(Paths.get(GET_LOT_WITH_MANY_OFFERS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        PreviewSellerRegistry sellerRegistry = new PreviewSellerRegistry();
+        JsoupFunPayParser registryParser =
+                new JsoupFunPayParser(
+                        httpClient,
+                        mockWebServer.url(BASE_URL).toString(),
+                        RetryPolicy.NO_RETRY,
+                        new FunPayDateParser(),
+                        sellerRegistry);
+
+        ParsedLot first = registryParser.parseLot(81L);
+        ParsedLot second = registryParser.parseLot(81L);
+
+        assertEquals(first.getPreviewOffers().size(), second.getPreviewOffers().size());
+
+        for (int i = 0; i < first.getPreviewOffers().size(); i++) {
+            assertSame(
+                    first.getPreviewOffers().get(i).getSeller(),
+                    second.getPreviewOffers().get(i).getSeller());
+        }
+
+        assertTrue(sellerRegistry.getStats().getHitCount() >= first.getPreviewOffers().size());
+    }
+
     @Test
     void testParseLotNotFound() throws Exception {
         String notFoundHtml =
@@ -296,6 +376,20 @@ class JsoupFunPayParserTest {
         assertThrows(UserNotFoundException.class, () -> parser.parseSellerReviews(userId, pages));
     }
 
+    @Test
+    void testParseSellerReviewsPageStartsFromCursor() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_SELLER_REVIEWS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        ParsedSellerReviewsPage result = parser.parseSellerReviewsPage(null, 2L, 3, 5, "cursor");
+
+        assertEquals(2, result.getSellerReviews().size());
+        assertNull(result.getNextCursor());
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("cursor"));
+    }
+
     @Test
     void testParseTransactions() throws Exception {
         String htmlContent =
@@ -319,6 +413,82 @@ class JsoupFunPayParserTest {
         assertFalse(firstTransaction.getTitle().isEmpty());
     }
 
+    @Test
+    void testParseTransactionsInDateParserZone() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        String baseURL = mockWebServer.url("/").toString();
+        JsoupFunPayParser moscowParser = new JsoupFunPayParser(new OkHttpClient(), baseURL);
+        JsoupFunPayParser utcParser =
+                new JsoupFunPayParser(
+                        new OkHttpClient(),
+                        baseURL,
+                        RetryPolicy.NO_RETRY,
+                        new FunPayDateParser(Clock.systemUTC(), ZoneOffset.UTC));
+
+        ParsedTransaction moscowTransaction =
+                moscowParser.parseTransactions("test-golden-key", 123L, 1).get(0);
+        ParsedTransaction utcTransaction =
+                utcParser.parseTransactions("test-golden-key", 123L, 1).get(0);
+
+        // the first transaction is dated "30 октября 2022, 14:12"
+        assertEquals(
+                Instant.parse("2022-10-30T11:12:00Z"), moscowTransaction.getDate().toInstant());
+        assertEquals(Instant.parse("2022-10-30T14:12:00Z"), utcTransaction.getDate().toInstant());
+    }
+
+    @Test
+    void testParseTransactionsUntilLastPage() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        String lastPageHtmlContent =
+                htmlContent.replace(
+                        "name=\"continue\" value=\"26924320\"", "name=\"continue\" value=\"\"");
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(lastPageHtmlContent).setResponseCode(200));
+
+        String goldenKey = "test-golden-key";
+        long userId = 123L;
+        int pages = 3;
+
+        List<ParsedTransaction> result = parser.parseTransactions(goldenKey, userId, pages);
+
+        assertEquals(16, result.size());
+        assertEquals(2, mockWebServer.getRequestCount());
+        mockWebServer.takeRequest();
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("26924320"));
+    }
+
+    @Test
+    void testIterateTransactionsFetchesPagesLazily() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        String goldenKey = "test-golden-key";
+        long userId = 123L;
+        int pages = 1;
+
+        Iterator<ParsedTransaction> result =
+                parser.iterateTransactions(goldenKey, userId, null, pages);
+
+        assertEquals(0, mockWebServer.getRequestCount());
+        assertEquals(75266034L, result.next().getId());
+        assertEquals(1, mockWebServer.getRequestCount());
+
+        int transactionCount = 1;
+        while (result.hasNext()) {
+            result.next();
+            transactionCount++;
+        }
+
+        assertEquals(8, transactionCount);
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
     @Test
     void testParseTransactionsUserNotFound() throws Exception {
         mockWebServer.enqueue(new MockResponse().setResponseCode(400));
@@ -350,4 +520,91 @@ class JsoupFunPayParserTest {
         assertEquals(csrfToken, result.getCsrfToken());
         assertEquals(phpSessId, result.getPHPSESSID());
     }
+
+    @Test
+    void testParseHtmlUsesResponseCharset() throws Exception {
+        Charset windows1251 = Charset.forName("windows-1251");
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setHeader("Content-Type", "text/html; charset=windows-1251")
+                        .setBody(new Buffer().write("<p>Подождите</p>".getBytes(windows1251)))
+                        .setResponseCode(200));
+
+        Request request = new Request.Builder().url(mockWebServer.url(BASE_URL)).build();
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            Document document = parser.parseHtml(response);
+
+            assertEquals("Подождите", document.selectFirst("p").text());
+        }
+    }
+
+    @Test
+    void testParseLotRetriesRetryableStatusCode() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        ParsedLot result = newRetryingParser().parseLot(149L);
+
+        assertEquals(149L, result.getId());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testParsePromoGamesRetriesRetryableStatusCode() throws Exception {
+        String jsonContent =
+                new String(Files.readAllBytes(Paths.get(GET_PROMO_GAMES_JSON_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setBody(jsonContent).setResponseCode(200));
+
+        List<ParsedPromoGame> result = newRetryingParser().parsePromoGames("dota");
+
+        assertFalse(result.isEmpty());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testParseTransactionsResumesFromLastCursor() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        String lastPageHtmlContent =
+                htmlContent.replace(
+                        "name=\"continue\" value=\"26924320\"", "name=\"continue\" value=\"\"");
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(
+                new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        mockWebServer.enqueue(new MockResponse().setBody(lastPageHtmlContent).setResponseCode(200));
+
+        List<ParsedTransaction> result =
+                newRetryingParser().parseTransactions("test-golden-key", 123L, 3);
+
+        assertEquals(16, result.size());
+        assertEquals(3, mockWebServer.getRequestCount());
+        assertFalse(mockWebServer.takeRequest().getBody().readUtf8().contains("26924320"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("26924320"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("26924320"));
+    }
+
+    @Test
+    void testParseSellerReviewsDoesNotRetryNotFound() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        JsoupFunPayParser retryingParser = newRetryingParser();
+
+        assertThrows(UserNotFoundException.class, () -> retryingParser.parseSellerReviews(999L, 1));
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    private JsoupFunPayParser newRetryingParser() {
+        RetryPolicy retryPolicy =
+                RetryPolicy.builder()
+                        .maxAttempts(3)
+                        .initialBackoff(Duration.ZERO)
+                        .jitter(0)
+                        .build();
+
+        return new JsoupFunPayParser(
+                httpClient, mockWebServer.url(BASE_URL).toString(), retryPolicy);
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * Tests of the parse skipping of {@link MemoizingFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class MemoizingFunPayParserTest {
+    private MockWebServer mockWebServer;
+    private MemoizingFunPayParser parser;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_USER_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getUserResponse.html";
+    private static final String BASE_URL = "/";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.parser =
+                new MemoizingFunPayParser(
+                        new OkHttpClient(), this.mockWebServer.url(BASE_URL).toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testParseLotSkipsUnchangedContent() throws Exception {
+        String htmlContent = readHtml(GET_LOT_HTML_RESPONSE_PATH);
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        ParsedLot firstResult = parser.parseLot(149L);
+        ParsedLot secondResult = parser.parseLot(149L);
+
+        assertSame(firstResult, secondResult);
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, parser.getStats().getHitCount());
+        assertEquals(1, parser.getStats().getMissCount());
+    }
+
+    @Test
+    void testParseLotParsesChangedContent() throws Exception {
+        String htmlContent = readHtml(GET_LOT_HTML_RESPONSE_PATH);
+        String changedHtmlContent = htmlContent + "<!-- changed -->";
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(changedHtmlContent).setResponseCode(200));
+
+        ParsedLot firstResult = parser.parseLot(149L);
+        ParsedLot secondResult = parser.parseLot(149L);
+
+        assertNotSame(firstResult, secondResult);
+        assertEquals(firstResult, secondResult);
+        assertEquals(0, parser.getStats().getHitCount());
+        assertEquals(2, parser.getStats().getMissCount());
+    }
+
+    @Test
+    void testParseLotRetriesFailedRequest() throws Exception {
+        MemoizingFunPayParser retryingParser =
+                new MemoizingFunPayParser(
+                        new OkHttpClient(),
+                        mockWebServer.url(BASE_URL).toString(),
+                        10,
+                        RetryPolicy.builder().initialBackoff(Duration.ZERO).jitter(0).build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(readHtml(GET_LOT_HTML_RESPONSE_PATH))
+                        .setResponseCode(200));
+
+        ParsedLot result = retryingParser.parseLot(149L);
+
+        assertEquals(149L, result.getId());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, retryingParser.getStats().getMissCount());
+    }
+
+    @Test
+    void testParseUserIsMemoizedPerPage() throws Exception {
+        String htmlContent = readHtml(GET_USER_HTML_RESPONSE_PATH);
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        ParsedUser firstResult = parser.parseUser(2L);
+        ParsedUser otherUserResult = parser.parseUser(3L);
+
+        assertNotSame(firstResult, otherUserResult);
+        assertEquals(2, parser.getStats().getMissCount());
+    }
+
+    @Test
+    void testXxHash64MatchesReferenceValues() {
+        assertEquals(0xEF46DB3751D8E999L, hash(""));
+        assertEquals(0xD24EC4F1A98C6E5BL, hash("a"));
+        assertEquals(0x44BC2CF5AD770999L, hash("abc"));
+        assertEquals(0xFBCEA83C8A378BF1L, hash("Nobody inspects the spammish repetition"));
+    }
+
+    private static long hash(String input) {
+        return XxHash64.hash(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readHtml(String htmlResponsePath) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(htmlResponsePath)));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class PrefetchingFunPayParserTest {
+    private OkHttpClient httpClient;
+    private MockWebServer mockWebServer;
+    private String reviewsHtmlContent;
+
+    private static final String GET_SELLER_REVIEWS_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getSellerReviewsResponse.html";
+    private static final String BASE_URL = "/";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.httpClient = new OkHttpClient();
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.reviewsHtmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_SELLER_REVIEWS_HTML_RESPONSE_PATH)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testParseSellerReviewsMatchesJsoupParser() throws Exception {
+        int pages = 3;
+
+        enqueueReviewsPages(pages);
+        List<ParsedSellerReview> expected =
+                new JsoupFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString())
+                        .parseSellerReviews(2L, pages);
+
+        enqueueReviewsPages(pages);
+        List<ParsedSellerReview> result =
+                new PrefetchingFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString(), 2)
+                        .parseSellerReviews(2L, pages);
+
+        assertEquals(6, result.size());
+        assertEquals(expected, result);
+        assertEquals(2 * pages, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testParseSellerReviewsStopsAtRequestedPages() throws Exception {
+        enqueueReviewsPages(5);
+
+        List<ParsedSellerReview> result =
+                new PrefetchingFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString(), 4)
+                        .parseSellerReviews(2L, 2);
+
+        assertEquals(4, result.size());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testParseSellerReviewsUserNotFound() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        PrefetchingFunPayParser parser =
+                new PrefetchingFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString(), 1);
+
+        assertThrows(UserNotFoundException.class, () -> parser.parseSellerReviews(999L, 3));
+    }
+
+    @Test
+    void testPrefetchingRequestsNextPageWhileParsing() throws Exception {
+        int pages = 3;
+        AtomicInteger requestedPageCount = new AtomicInteger();
+        CountDownLatch twoPagesRequested = new CountDownLatch(2);
+        AtomicBoolean isNextPageRequestedWhileParsing = new AtomicBoolean();
+
+        mockWebServer.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        int page = requestedPageCount.incrementAndGet();
+                        String continueArg = page == pages ? "" : "page-" + (page + 1);
+
+                        twoPagesRequested.countDown();
+
+                        return new MockResponse()
+                                .setBody(reviewsPage(continueArg))
+                                .setResponseCode(200);
+                    }
+                });
+        PrefetchingFunPayParser prefetchingParser =
+                new PrefetchingFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString(), 2) {
+                    @Override
+                    void extractReviewsFromReviewsHtml(
+                            Document reviewsHtml, List<ParsedSellerReview> currentSellerReviews) {
+                        // the first page is not parsed until the second one is requested
+                        if (currentSellerReviews.isEmpty()) {
+                            isNextPageRequestedWhileParsing.set(awaitRequests(twoPagesRequested));
+                        }
+
+                        super.extractReviewsFromReviewsHtml(reviewsHtml, currentSellerReviews);
+                    }
+                };
+
+        List<ParsedSellerReview> result = prefetchingParser.parseSellerReviews(2L, pages);
+
+        assertEquals(2 * pages, result.size());
+        assertTrue(isNextPageRequestedWhileParsing.get());
+        assertEquals(pages, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testParseSellerReviewsRetriesFailedPageWithSameCursor() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse().setBody(reviewsPage("page-2")).setResponseCode(200));
+        mockWebServer.enqueue(
+                new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        mockWebServer.enqueue(new MockResponse().setBody(reviewsPage("")).setResponseCode(200));
+        RetryPolicy retryPolicy =
+                RetryPolicy.builder()
+                        .maxAttempts(3)
+                        .initialBackoff(Duration.ZERO)
+                        .jitter(0)
+                        .build();
+
+        List<ParsedSellerReview> result =
+                new PrefetchingFunPayParser(
+                                httpClient, mockWebServer.url(BASE_URL).toString(), 2, retryPolicy)
+                        .parseSellerReviews(2L, 3);
+
+        assertEquals(4, result.size());
+        assertEquals(3, mockWebServer.getRequestCount());
+        assertFalse(mockWebServer.takeRequest().getBody().readUtf8().contains("page-2"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("page-2"));
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("page-2"));
+    }
+
+    @Test
+    void testParseSellerReviewsRethrowsErrorOfFetchThread() {
+        enqueueReviewsPages(1);
+
+        Error error = new StackOverflowError();
+        PrefetchingFunPayParser parser =
+                new PrefetchingFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString(), 1) {
+                    @Override
+                    String extractRawContinueArg(String reviewsHtml) {
+                        throw error;
+                    }
+                };
+
+        assertSame(error, assertThrows(Error.class, () -> parser.parseSellerReviews(2L, 1)));
+    }
+
+    @Test
+    void testExtractRawContinueArg() {
+        PrefetchingFunPayParser parser =
+                new PrefetchingFunPayParser(httpClient, mockWebServer.url(BASE_URL).toString(), 1);
+
+        assertNull(parser.extractRawContinueArg(reviewsHtmlContent));
+        assertNull(parser.extractRawContinueArg("<div></div>"));
+        assertEquals("next-page", parser.extractRawContinueArg(reviewsPage("next-page")));
+        assertEquals("next&page", parser.extractRawContinueArg(reviewsPage("next&amp;page")));
+    }
+
+    private void enqueueReviewsPages(int pageCount) {
+        for (int page = 1; page <= pageCount; page++) {
+            String continueArg = page == pageCount ? "" : "page-" + (page + 1);
+
+            mockWebServer.enqueue(
+                    new MockResponse().setBody(reviewsPage(continueArg)).setResponseCode(200));
+        }
+    }
+
+    private String reviewsPage(String continueArg) {
+        return reviewsHtmlContent.replace(
+                "name=\"continue\" value=\"\"", "name=\"continue\" value=\"" + continueArg + "\"");
+    }
+
+    private static boolean awaitRequests(CountDownLatch requests) {
+        try {
+            return requests.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests checking that {@link PreviewOfferRowVisitor} collects the same values as the class lookups
+ * of the row
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class PreviewOfferRowVisitorTest {
+    private static final String OFFER_ROW_HTML =
+            "<a class=\"tc-item\" href=\"https://funpay.com/lots/offer?id=1\">"
+                    + "<div class=\"tc-desc-text\">first</div>"
+                    + "<div class=\"tc-desc-text\">second</div>"
+                    + "<div class=\"tc-price\"><div>100</div></div>"
+                    + "<div class=\"tc-price\" data-s=\"99.5\">"
+                    + "<i class=\"auto-dlv-icon\"></i>"
+                    + "</div>"
+                    + "<div class=\"avatar-photo\" data-href=\"https://funpay.com/users/2/\"></div>"
+                    + "<div class=\"avatar-photo\" style=\"background-image: url(/img/a.jpg);\">"
+                    + "</div>"
+                    + "<div class=\"media media-user online style-circle\">"
+                    + "<div class=\"media-user-name\">seller</div>"
+                    + "</div>"
+                    + "</a>";
+
+    @Test
+    void testVisitMatchesClassLookups() {
+        Element offerRow = Jsoup.parse(OFFER_ROW_HTML).getElementsByClass("tc-item").first();
+
+        PreviewOfferRowVisitor result = PreviewOfferRowVisitor.visit(offerRow);
+
+        assertEquals(
+                offerRow.getElementsByClass("tc-desc-text").text(), result.getShortDescription());
+        assertEquals(
+                offerRow.getElementsByClass("tc-price").attr("data-s"), result.getPriceDataS());
+        assertEquals(
+                offerRow.getElementsByClass("avatar-photo").attr("style"),
+                result.getAvatarPhotoStyle());
+        assertEquals(
+                offerRow.getElementsByClass("avatar-photo").attr("data-href"),
+                result.getAvatarPhotoDataHref());
+        assertEquals("seller", result.getSellerUsername());
+        assertTrue(result.isSellerOnline);
+        assertTrue(result.isAutoDelivery);
+        assertFalse(result.isPromo);
+        assertNull(result.reviewCountElement);
+    }
+
+    @Test
+    void testVisitAutoDeliveryOutsideFirstPrice() {
+        Element offerRow = Jsoup.parse(OFFER_ROW_HTML).getElementsByClass("tc-item").first();
+
+        PreviewOfferRowVisitor result = PreviewOfferRowVisitor.visit(offerRow);
+
+        // the rows of the user page look for the auto delivery icon only in the first price
+        assertEquals(offerRow.getElementsByClass("tc-price").first(), result.firstPriceElement);
+        assertFalse(result.isAutoDeliveryInFirstPrice);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class PreviewSellerRegistryTest {
+    @Test
+    void testCanonicalizeReturnsRegisteredSeller() {
+        PreviewSellerRegistry registry = new PreviewSellerRegistry();
+
+        ParsedPreviewSeller first = registry.canonicalize(newSeller(1L, "seller", false, 10));
+        ParsedPreviewSeller second = registry.canonicalize(newSeller(1L, "seller", false, 10));
+
+        assertSame(first, second);
+        assertEquals(1, registry.getStats().getHitCount());
+        assertEquals(1, registry.getStats().getMissCount());
+    }
+
+    @Test
+    void testCanonicalizeChangedSellerSharesStrings() {
+        PreviewSellerRegistry registry = new PreviewSellerRegistry();
+
+        ParsedPreviewSeller first =
+                registry.canonicalize(newSeller(1L, new String("seller"), false, 10));
+        ParsedPreviewSeller changed =
+                registry.canonicalize(newSeller(1L, new String("seller"), true, 11));
+
+        assertNotSame(first, changed);
+        assertSame(first.getUsername(), changed.getUsername());
+        assertSame(first.getAvatarPhotoLink(), changed.getAvatarPhotoLink());
+        assertSame(changed, registry.canonicalize(newSeller(1L, "seller", true, 11)));
+    }
+
+    @Test
+    void testLeastRecentlySeenSellerIsEvicted() {
+        PreviewSellerRegistry registry = new PreviewSellerRegistry(2);
+
+        ParsedPreviewSeller first = registry.canonicalize(newSeller(1L, "first", false, 0));
+        registry.canonicalize(newSeller(2L, "second", false, 0));
+        registry.canonicalize(newSeller(1L, "first", false, 0));
+        registry.canonicalize(newSeller(3L, "third", false, 0));
+
+        assertEquals(2, registry.size());
+        assertEquals(1, registry.getStats().getEvictionCount());
+        assertSame(first, registry.canonicalize(newSeller(1L, "first", false, 0)));
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PreviewSellerRegistry(0));
+    }
+
+    private static ParsedPreviewSeller newSeller(
+            long userId, String username, boolean isOnline, int reviewCount) {
+        return ParsedPreviewSeller.builder()
+                .userId(userId)
+                .username(username)
+                .avatarPhotoLink(new String("/img/avatar/" + userId + ".jpg"))
+                .isOnline(isOnline)
+                .reviewCount(reviewCount)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.http.RetryPolicy;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * Tests of the conditional requests sent by {@link RevalidatingFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class RevalidatingFunPayParserTest {
+    private MockWebServer mockWebServer;
+    private RevalidatingFunPayParser parser;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_USER_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getUserResponse.html";
+    private static final String BASE_URL = "/";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.parser =
+                new RevalidatingFunPayParser(
+                        new OkHttpClient(), this.mockWebServer.url(BASE_URL).toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testParseLotReturnsPreviousResultWhenNotModified() throws Exception {
+        mockWebServer.enqueue(
+                newHtmlResponse(GET_LOT_HTML_RESPONSE_PATH).setHeader("ETag", "\"lot-149\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        ParsedLot firstResult = parser.parseLot(149L);
+        ParsedLot secondResult = parser.parseLot(149L);
+
+        assertSame(firstResult, secondResult);
+        assertNull(mockWebServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals("\"lot-149\"", mockWebServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals(1, parser.getStats().getHitCount());
+        assertEquals(1, parser.getStats().getMissCount());
+    }
+
+    @Test
+    void testParseLotRetriesFailedRequest() throws Exception {
+        RevalidatingFunPayParser retryingParser =
+                new RevalidatingFunPayParser(
+                        new OkHttpClient(),
+                        mockWebServer.url(BASE_URL).toString(),
+                        10,
+                        RetryPolicy.builder().initialBackoff(Duration.ZERO).jitter(0).build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(newHtmlResponse(GET_LOT_HTML_RESPONSE_PATH));
+
+        ParsedLot result = retryingParser.parseLot(149L);
+
+        assertEquals(149L, result.getId());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, retryingParser.getStats().getMissCount());
+    }
+
+    @Test
+    void testParseUserSendsLastModified() throws Exception {
+        String lastModified = "Sat, 17 Oct 2026 10:00:00 GMT";
+        mockWebServer.enqueue(
+                newHtmlResponse(GET_USER_HTML_RESPONSE_PATH)
+                        .setHeader("Last-Modified", lastModified));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        ParsedUser firstResult = parser.parseUser(2L);
+        ParsedUser secondResult = parser.parseUser(2L);
+
+        assertSame(firstResult, secondResult);
+        mockWebServer.takeRequest();
+
+        RecordedRequest conditionalRequest = mockWebServer.takeRequest();
+        assertEquals(lastModified, conditionalRequest.getHeader("If-Modified-Since"));
+        assertNull(conditionalRequest.getHeader("If-None-Match"));
+    }
+
+    @Test
+    void testParseLotReplacesResultWhenModified() throws Exception {
+        mockWebServer.enqueue(
+                newHtmlResponse(GET_LOT_HTML_RESPONSE_PATH).setHeader("ETag", "\"1\""));
+        mockWebServer.enqueue(
+                newHtmlResponse(GET_LOT_HTML_RESPONSE_PATH).setHeader("ETag", "\"2\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+        parser.parseLot(149L);
+        ParsedLot modifiedResult = parser.parseLot(149L);
+
+        assertSame(modifiedResult, parser.parseLot(149L));
+        mockWebServer.takeRequest();
+        assertEquals("\"1\"", mockWebServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals("\"2\"", mockWebServer.takeRequest().getHeader("If-None-Match"));
+    }
+
+    @Test
+    void testParseLotWithoutValidatorsIsNotRevalidated() throws Exception {
+        mockWebServer.enqueue(newHtmlResponse(GET_LOT_HTML_RESPONSE_PATH));
+        mockWebServer.enqueue(newHtmlResponse(GET_LOT_HTML_RESPONSE_PATH));
+
+        parser.parseLot(149L);
+        parser.parseLot(149L);
+
+        mockWebServer.takeRequest();
+        RecordedRequest secondRequest = mockWebServer.takeRequest();
+        assertNull(secondRequest.getHeader("If-None-Match"));
+        assertNull(secondRequest.getHeader("If-Modified-Since"));
+        assertEquals(2, parser.getStats().getMissCount());
+    }
+
+    private MockResponse newHtmlResponse(String htmlResponsePath) throws IOException {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(htmlResponsePath)));
+
+        return new MockResponse().setBody(htmlContent).setResponseCode(200);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.user.ParsedUser;
+
+/**
+ * Tests for {@link SingleFlightFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class SingleFlightFunPayParserTest {
+    private MockWebServer mockWebServer;
+    private SingleFlightFunPayParser singleFlightParser;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_USER_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getUserResponse.html";
+    private static final String BASE_URL = "/";
+    private static final int CALLER_COUNT = 16;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.singleFlightParser =
+                new SingleFlightFunPayParser(
+                        new JsoupFunPayParser(
+                                new OkHttpClient(), this.mockWebServer.url(BASE_URL).toString()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testConcurrentParseUserSharesOneRequest() throws Exception {
+        enqueueDelayed(GET_USER_HTML_RESPONSE_PATH);
+
+        List<ParsedUser> results = callConcurrently(() -> singleFlightParser.parseUser(2L));
+
+        for (ParsedUser result : results) {
+            assertSame(results.get(0), result);
+        }
+        assertEquals(2L, results.get(0).getId());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testConcurrentParseLotSharesOneRequest() throws Exception {
+        enqueueDelayed(GET_LOT_HTML_RESPONSE_PATH);
+
+        List<ParsedLot> results = callConcurrently(() -> singleFlightParser.parseLot(149L));
+
+        for (ParsedLot result : results) {
+            assertSame(results.get(0), result);
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testDifferentGoldenKeysAreNotShared() throws Exception {
+        enqueueDelayed(GET_USER_HTML_RESPONSE_PATH);
+        enqueueDelayed(GET_USER_HTML_RESPONSE_PATH);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ParsedUser> firstResult =
+                    executorService.submit(() -> singleFlightParser.parseUser("first", 2L));
+            Future<ParsedUser> secondResult =
+                    executorService.submit(() -> singleFlightParser.parseUser("second", 2L));
+
+            assertNotSame(firstResult.get(), secondResult.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testCompletedCallIsNotRemembered() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        singleFlightParser.parseLot(149L);
+        singleFlightParser.parseLot(149L);
+
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testConcurrentCallersShareException() throws Exception {
+        String notFoundHtml =
+                "<div class=\"page-content-full\"><div class=\"page-header\"></div></div>";
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(notFoundHtml)
+                        .setResponseCode(200)
+                        .setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        mockWebServer.enqueue(new MockResponse().setBody(notFoundHtml).setResponseCode(200));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CALLER_COUNT);
+        List<Future<ParsedUser>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                results.add(executorService.submit(() -> singleFlightParser.parseUser(999L)));
+            }
+
+            for (Future<ParsedUser> result : results) {
+                ExecutionException e = assertThrows(ExecutionException.class, result::get);
+                assertInstanceOf(UserNotFoundException.class, e.getCause());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    private <T> List<T> callConcurrently(Callable<T> call) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(CALLER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        List<T> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CALLER_COUNT; i++) {
+                futures.add(
+                        executorService.submit(
+                                () -> {
+                                    startLatch.await();
+                                    return call.call();
+                                }));
+            }
+
+            startLatch.countDown();
+
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private void enqueueDelayed(String htmlResponsePath) throws IOException {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(htmlResponsePath)));
+        // the delay keeps the request in flight until every caller has joined it
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(htmlContent)
+                        .setResponseCode(200)
+                        .setHeadersDelay(500, TimeUnit.MILLISECONDS));
+    }
+}
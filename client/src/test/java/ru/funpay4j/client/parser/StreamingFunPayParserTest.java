@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.client.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
+import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.offer.ParsedPreviewOffer;
+
+/**
+ * Differential tests checking that {@link StreamingFunPayParser} produces the same result as {@link
+ * JsoupFunPayParser}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class StreamingFunPayParserTest {
+    private MockWebServer mockWebServer;
+    private JsoupFunPayParser jsoupParser;
+    private StreamingFunPayParser streamingParser;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_LOT_WITH_MANY_OFFERS_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotWithManyOffersResponse.html";
+    private static final String BASE_URL = "/";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        OkHttpClient httpClient = new OkHttpClient();
+
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.jsoupParser =
+                new JsoupFunPayParser(httpClient, this.mockWebServer.url(BASE_URL).toString());
+        this.streamingParser =
+                new StreamingFunPayParser(httpClient, this.mockWebServer.url(BASE_URL).toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    @Test
+    void testParseLotMatchesJsoupParser() throws Exception {
+        ParsedLot expected = parseWithJsoupParser(GET_LOT_HTML_RESPONSE_PATH, 149L);
+        ParsedLot result = parseWithStreamingParser(GET_LOT_HTML_RESPONSE_PATH, 149L);
+
+        assertEquals(expected, result);
+        assertEquals(1, result.getPreviewOffers().size());
+    }
+
+    @Test
+    void testParseLotWithManyOffersMatchesJsoupParser() throws Exception {
+        ParsedLot expected = parseWithJsoupParser(GET_LOT_WITH_MANY_OFFERS_HTML_RESPONSE_PATH, 81L);
+        ParsedLot result =
+                parseWithStreamingParser(GET_LOT_WITH_MANY_OFFERS_HTML_RESPONSE_PATH, 81L);
+
+        assertEquals(expected, result);
+        assertEquals(4, result.getPreviewOffers().size());
+        assertEquals(41, result.getGameId());
+        assertTrue(result.getLotCounters().stream().noneMatch(counter -> counter.getLotId() == 81));
+
+        ParsedPreviewOffer offerWithoutAvatar = result.getPreviewOffers().get(1);
+        assertNull(offerWithoutAvatar.getSeller().getAvatarPhotoLink());
+        assertFalse(offerWithoutAvatar.getSeller().isOnline());
+        assertEquals(0, offerWithoutAvatar.getSeller().getReviewCount());
+        assertFalse(offerWithoutAvatar.isAutoDelivery());
+        assertFalse(offerWithoutAvatar.isPromo());
+    }
+
+    @Test
+    void testParseLotNotFound() throws Exception {
+        String notFoundHtml =
+                "<div class=\"page-content-full\"><div class=\"page-header\"></div></div>";
+        mockWebServer.enqueue(new MockResponse().setBody(notFoundHtml).setResponseCode(200));
+
+        long lotId = 999L;
+        assertThrows(LotNotFoundException.class, () -> streamingParser.parseLot(lotId));
+    }
+
+    @Test
+    void testParseLotWithHeaderOutsideFirstPageContentMatchesJsoupParser() throws Exception {
+        String secondPageContentHtml =
+                "<div class=\"page-content-full\"><div class=\"page-header\"></div></div>";
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)))
+                        + secondPageContentHtml;
+
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        ParsedLot expected = jsoupParser.parseLot(149L);
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        ParsedLot result = streamingParser.parseLot(149L);
+
+        assertEquals(expected, result);
+    }
+
+    private ParsedLot parseWithJsoupParser(String htmlResponsePath, long lotId) throws Exception {
+        enqueueHtml(htmlResponsePath);
+
+        return jsoupParser.parseLot(lotId);
+    }
+
+    private ParsedLot parseWithStreamingParser(String htmlResponsePath, long lotId)
+            throws Exception {
+        enqueueHtml(htmlResponsePath);
+
+        return streamingParser.parseLot(lotId);
+    }
+
+    private void enqueueHtml(String htmlResponsePath) throws IOException {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(htmlResponsePath)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core;
+
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import ru.funpay4j.client.client.AsyncFunPayClient;
+import ru.funpay4j.client.client.OkHttpAsyncFunPayClient;
+import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.parser.AsyncFunPayParser;
+import ru.funpay4j.client.parser.JsoupAsyncFunPayParser;
+import ru.funpay4j.core.commands.game.GetPromoGames;
+import ru.funpay4j.core.commands.lot.GetLot;
+import ru.funpay4j.core.commands.offer.GetOffer;
+import ru.funpay4j.core.commands.user.GetSellerReviews;
+import ru.funpay4j.core.commands.user.GetUser;
+import ru.funpay4j.core.objects.game.PromoGame;
+import ru.funpay4j.core.objects.lot.Lot;
+import ru.funpay4j.core.objects.offer.Offer;
+import ru.funpay4j.core.objects.user.SellerReview;
+import ru.funpay4j.core.objects.user.User;
+
+/**
+ * This FunPay executor is used to execute commands without blocking the calling thread
+ *
+ * <p>Every command is executed the same way as in {@link FunPayExecutor}, but the result is
+ * returned as {@link CompletableFuture}, which is completed exceptionally with the exception that
+ * {@link FunPayExecutor} would throw
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class AsyncFunPayExecutor {
+    @NonNull protected final AsyncFunPayParser funPayParser;
+
+    @NonNull protected final AsyncFunPayClient funPayClient;
+
+    /** Creates a new AsyncFunPayExecutor instance */
+    public AsyncFunPayExecutor() {
+        OkHttpClient httpClient = FunPayHttpConfig.defaultHttpClient();
+
+        this.funPayParser = new JsoupAsyncFunPayParser(httpClient, FunPayURL.BASE_URL);
+        this.funPayClient = new OkHttpAsyncFunPayClient(httpClient, FunPayURL.BASE_URL);
+    }
+
+    /**
+     * Creates a new AsyncFunPayExecutor instance
+     *
+     * @param baseURL base URL of the primary server
+     * @param proxy proxy for forwarding requests
+     */
+    public AsyncFunPayExecutor(@NonNull String baseURL, @NonNull Proxy proxy) {
+        // the derived client shares the connection pool and dispatcher of the default one
+        OkHttpClient httpClient =
+                FunPayHttpConfig.defaultHttpClient().newBuilder().proxy(proxy).build();
+
+        this.funPayParser = new JsoupAsyncFunPayParser(httpClient, baseURL);
+        this.funPayClient = new OkHttpAsyncFunPayClient(httpClient, baseURL);
+    }
+
+    /**
+     * Creates a new AsyncFunPayExecutor instance
+     *
+     * @param baseURL base URL of the primary server
+     */
+    public AsyncFunPayExecutor(@NonNull String baseURL) {
+        OkHttpClient httpClient = FunPayHttpConfig.defaultHttpClient();
+
+        this.funPayParser = new JsoupAsyncFunPayParser(httpClient, baseURL);
+        this.funPayClient = new OkHttpAsyncFunPayClient(httpClient, baseURL);
+    }
+
+    /**
+     * Creates a new AsyncFunPayExecutor instance
+     *
+     * @param proxy proxy for forwarding requests
+     */
+    public AsyncFunPayExecutor(@NonNull Proxy proxy) {
+        // the derived client shares the connection pool and dispatcher of the default one
+        OkHttpClient httpClient =
+                FunPayHttpConfig.defaultHttpClient().newBuilder().proxy(proxy).build();
+
+        this.funPayParser = new JsoupAsyncFunPayParser(httpClient, FunPayURL.BASE_URL);
+        this.funPayClient = new OkHttpAsyncFunPayClient(httpClient, FunPayURL.BASE_URL);
+    }
+
+    /**
+     * Creates a new AsyncFunPayExecutor instance
+     *
+     * <p>Pass the same client to many executors, so they share its connection pool and dispatcher
+     *
+     * @param baseURL base URL of the primary server
+     * @param httpClient httpClient required to send http requests
+     * @since 1.0.7
+     */
+    public AsyncFunPayExecutor(@NonNull String baseURL, @NonNull OkHttpClient httpClient) {
+        this.funPayParser = new JsoupAsyncFunPayParser(httpClient, baseURL);
+        this.funPayClient = new OkHttpAsyncFunPayClient(httpClient, baseURL);
+    }
+
+    /**
+     * Creates a new AsyncFunPayExecutor instance
+     *
+     * <p>Pass the same client to many executors, so they share its connection pool and dispatcher
+     *
+     * @param httpClient httpClient required to send http requests
+     * @since 1.0.7
+     */
+    public AsyncFunPayExecutor(@NonNull OkHttpClient httpClient) {
+        this(FunPayURL.BASE_URL, httpClient);
+    }
+
+    /**
+     * Execute to get lot
+     *
+     * @param command command that will be executed
+     * @return future of lot
+     */
+    public CompletableFuture<Lot> execute(GetLot command) {
+        return funPayParser.parseLot(command.getLotId()).thenApply(FunPayExecutor::toLot);
+    }
+
+    /**
+     * Execute to get promo games
+     *
+     * @param command command that will be executed
+     * @return future of promo games
+     */
+    public CompletableFuture<List<PromoGame>> execute(GetPromoGames command) {
+        return funPayParser
+                .parsePromoGames(command.getQuery())
+                .thenApply(FunPayExecutor::toPromoGames);
+    }
+
+    /**
+     * Execute to get offer
+     *
+     * @param command command that will be executed
+     * @return future of offer
+     */
+    public CompletableFuture<Offer> execute(GetOffer command) {
+        return funPayParser.parseOffer(command.getOfferId()).thenApply(FunPayExecutor::toOffer);
+    }
+
+    /**
+     * Execute to get user
+     *
+     * @param command command that will be executed
+     * @return future of user
+     */
+    public CompletableFuture<User> execute(GetUser command) {
+        return funPayParser.parseUser(command.getUserId()).thenApply(FunPayExecutor::toUser);
+    }
+
+    /**
+     * Execute to get seller reviews
+     *
+     * @param command command that will be executed
+     * @return future of seller reviews
+     */
+    public CompletableFuture<List<SellerReview>> execute(GetSellerReviews command) {
+        CompletableFuture<List<ParsedSellerReview>> sellerReviews;
+        if (command.getStarsFilter() != null) {
+            sellerReviews =
+                    funPayParser.parseSellerReviews(
+                            command.getUserId(), command.getPages(), command.getStarsFilter());
+        } else {
+            sellerReviews =
+                    funPayParser.parseSellerReviews(command.getUserId(), command.getPages());
+        }
+        return sellerReviews.thenApply(FunPayExecutor::toSellerReviews);
+    }
+}
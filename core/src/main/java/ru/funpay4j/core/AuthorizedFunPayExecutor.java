@@ -15,38 +15,70 @@
 package ru.funpay4j.core;
 
 import java.net.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import okhttp3.OkHttpClient;
+import ru.funpay4j.client.client.FunPayClient;
 import ru.funpay4j.client.exceptions.FunPayApiException;
 import ru.funpay4j.client.exceptions.InvalidCsrfTokenOrPHPSESSIDException;
 import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
+import ru.funpay4j.client.exceptions.UncheckedFunPayApiException;
 import ru.funpay4j.client.exceptions.offer.OfferAlreadyRaisedException;
 import ru.funpay4j.client.exceptions.user.UserNotFoundException;
-import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
 import ru.funpay4j.client.objects.transaction.ParsedTransaction;
 import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionsPage;
 import ru.funpay4j.client.objects.user.ParsedAdvancedSellerReview;
 import ru.funpay4j.client.objects.user.ParsedSellerReview;
 import ru.funpay4j.client.objects.user.ParsedUser;
+import ru.funpay4j.client.parser.FunPayParser;
+import ru.funpay4j.client.parser.PreviewSellerRegistry;
 import ru.funpay4j.client.request.SaveOfferRequest;
+import ru.funpay4j.core.checkpoint.FileTransactionCheckpointStore;
+import ru.funpay4j.core.checkpoint.InMemoryTransactionCheckpointStore;
+import ru.funpay4j.core.checkpoint.TransactionCheckpoint;
+import ru.funpay4j.core.checkpoint.TransactionCheckpointStore;
+import ru.funpay4j.core.commands.offer.BatchEditOffers;
 import ru.funpay4j.core.commands.offer.CreateOffer;
 import ru.funpay4j.core.commands.offer.CreateOfferImage;
 import ru.funpay4j.core.commands.offer.DeleteOffer;
 import ru.funpay4j.core.commands.offer.EditOffer;
 import ru.funpay4j.core.commands.offer.RaiseAllOffers;
 import ru.funpay4j.core.commands.transaction.GetTransactions;
+import ru.funpay4j.core.commands.transaction.GetTransactionsPage;
+import ru.funpay4j.core.commands.transaction.StreamTransactions;
+import ru.funpay4j.core.commands.transaction.SyncTransactions;
 import ru.funpay4j.core.commands.user.GetSellerReviews;
+import ru.funpay4j.core.commands.user.GetSellerReviewsPage;
 import ru.funpay4j.core.commands.user.GetUser;
 import ru.funpay4j.core.commands.user.UpdateAvatar;
+import ru.funpay4j.core.objects.offer.OfferSaveResult;
 import ru.funpay4j.core.objects.transaction.Transaction;
 import ru.funpay4j.core.objects.transaction.TransactionStatus;
+import ru.funpay4j.core.objects.transaction.TransactionsPage;
 import ru.funpay4j.core.objects.user.AdvancedSellerReview;
 import ru.funpay4j.core.objects.user.SellerReview;
+import ru.funpay4j.core.objects.user.SellerReviewsPage;
 import ru.funpay4j.core.objects.user.User;
+import ru.funpay4j.core.session.FunPaySession;
+import ru.funpay4j.core.session.SessionTokens;
 
 /**
  * This Authorized FunPay executor is used to execute authorized commands
@@ -57,11 +89,25 @@ import ru.funpay4j.core.objects.user.User;
 @Getter
 @Setter
 public class AuthorizedFunPayExecutor extends FunPayExecutor {
+    private static final int DEFAULT_BATCH_PARALLELISM = 4;
+
     private final String goldenKey;
 
-    private String PHPSESSID;
+    /** Session holding csrfToken and PHPSESSID used by the offer write requests */
+    private final FunPaySession session;
 
-    private String csrfToken;
+    /**
+     * Store of the checkpoints remembered by {@link #execute(SyncTransactions)}, in memory by
+     * default. Set {@link FileTransactionCheckpointStore} to keep them between runs
+     */
+    @NonNull private TransactionCheckpointStore transactionCheckpointStore =
+            new InMemoryTransactionCheckpointStore();
+
+    /**
+     * Executor on which {@link #execute(BatchEditOffers)} saves the offers, by default the daemon
+     * threads shared by all the executors, which are stopped after a minute without work
+     */
+    @NonNull private ExecutorService batchEditExecutor = BatchEditExecutor.INSTANCE;
 
     /**
      * Creates a new AuthorizedFunPayExecutor instance
@@ -72,6 +118,7 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
         super();
 
         this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
     }
 
     /**
@@ -86,6 +133,7 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
         super(baseURL, proxy);
 
         this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
     }
 
     /**
@@ -98,6 +146,7 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
         super(baseURL);
 
         this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
     }
 
     /**
@@ -110,6 +159,85 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
         super(proxy);
 
         this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
+    }
+
+    /**
+     * Creates a new AuthorizedFunPayExecutor instance
+     *
+     * <p>Pass the same client to the executors of many accounts, so they share its connection pool
+     * and dispatcher
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param baseURL base URL of the primary server
+     * @param httpClient httpClient required to send http requests
+     * @since 1.0.7
+     */
+    public AuthorizedFunPayExecutor(
+            @NonNull String goldenKey, @NonNull String baseURL, @NonNull OkHttpClient httpClient) {
+        super(baseURL, httpClient);
+
+        this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
+    }
+
+    /**
+     * Creates a new AuthorizedFunPayExecutor instance
+     *
+     * <p>Pass the same client and seller registry to the executors of many accounts, so they share
+     * the connection pool and dispatcher, and the same seller found by all of them is kept in
+     * memory only once
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param baseURL base URL of the primary server
+     * @param httpClient httpClient required to send http requests
+     * @param sellerRegistry registry of the preview sellers of the parsed lots, offers and users
+     * @since 1.0.7
+     */
+    public AuthorizedFunPayExecutor(
+            @NonNull String goldenKey,
+            @NonNull String baseURL,
+            @NonNull OkHttpClient httpClient,
+            @NonNull PreviewSellerRegistry sellerRegistry) {
+        super(baseURL, httpClient, sellerRegistry);
+
+        this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
+    }
+
+    /**
+     * Creates a new AuthorizedFunPayExecutor instance
+     *
+     * <p>Pass the same client to the executors of many accounts, so they share its connection pool
+     * and dispatcher
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param httpClient httpClient required to send http requests
+     * @since 1.0.7
+     */
+    public AuthorizedFunPayExecutor(@NonNull String goldenKey, @NonNull OkHttpClient httpClient) {
+        super(httpClient);
+
+        this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
+    }
+
+    /**
+     * Creates a new AuthorizedFunPayExecutor instance
+     *
+     * @param goldenKey golden key which will be used to authorize the user
+     * @param funPayParser parser which will be used to parse data from FunPay
+     * @param funPayClient client which will be used to send data to FunPay
+     * @since 1.0.7
+     */
+    public AuthorizedFunPayExecutor(
+            @NonNull String goldenKey,
+            @NonNull FunPayParser funPayParser,
+            @NonNull FunPayClient funPayClient) {
+        super(funPayParser, funPayClient);
+
+        this.goldenKey = goldenKey;
+        this.session = new FunPaySession(funPayParser, goldenKey);
     }
 
     /**
@@ -163,27 +291,7 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
                         .amount(command.getAmount())
                         .build();
 
-        if (PHPSESSID == null || csrfToken == null) {
-            try {
-                updateCsrfTokenAndPHPSESSID();
-            } catch (FunPayApiException e) {
-                throw new RuntimeException(e.getCause());
-            }
-        }
-
-        // attempt to regenerate csrfToken and PHPSESSID
-        try {
-            funPayClient.saveOffer(goldenKey, csrfToken, PHPSESSID, request);
-        } catch (InvalidCsrfTokenOrPHPSESSIDException e) {
-            updateCsrfTokenAndPHPSESSID();
-
-            try {
-                funPayClient.saveOffer(goldenKey, csrfToken, PHPSESSID, request);
-            } catch (InvalidCsrfTokenOrPHPSESSIDException e1) {
-                // TODO: Throw something more contextual than RuntimeException
-                throw new RuntimeException(e1.getLocalizedMessage());
-            }
-        }
+        saveOffer(request);
     }
 
     /**
@@ -194,47 +302,96 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
      * @throws InvalidGoldenKeyException if the golden key is incorrect
      */
     public void execute(EditOffer command) throws FunPayApiException, InvalidGoldenKeyException {
-        SaveOfferRequest request =
-                SaveOfferRequest.builder()
-                        .nodeId(command.getLotId())
-                        .offerId(command.getOfferId())
-                        .summaryRu(command.getShortDescriptionRu())
-                        .summaryEn(command.getShortDescriptionEn())
-                        .descRu(command.getDescriptionRu())
-                        .descEn(command.getDescriptionEn())
-                        .paymentMessageRu(command.getPaymentMessageRu())
-                        .paymentMessageEn(command.getPaymentMessageEn())
-                        .fields(command.getFields())
-                        .isAutoDelivery(command.isAutoDelivery())
-                        .isActive(command.isActive())
-                        .isDeleted(false)
-                        .secrets(command.getSecrets())
-                        .images(command.getImageIds())
-                        .price(command.getPrice())
-                        .amount(command.getAmount())
-                        .build();
+        saveOffer(toSaveOfferRequest(command));
+    }
 
-        if (PHPSESSID == null || csrfToken == null) {
-            try {
-                updateCsrfTokenAndPHPSESSID();
-            } catch (FunPayApiException e) {
-                throw new RuntimeException(e.getCause());
-            }
+    /**
+     * Execute to edit many offers concurrently
+     *
+     * <p>At most {@code parallelism} offers of the command are saved at the same time, on the
+     * threads of the batch edit executor. The saves share the session, so csrfToken and PHPSESSID
+     * are refreshed at most once when FunPay rejects them. A failed save does not abort the rest
+     * of the batch
+     *
+     * @param command command that will be executed
+     * @return save results in the order of the offers
+     * @throws FunPayApiException if the tokens could not be obtained before the saves
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     */
+    public List<OfferSaveResult> execute(BatchEditOffers command)
+            throws FunPayApiException, InvalidGoldenKeyException {
+        List<EditOffer> offers = command.getOffers();
+        int parallelism =
+                command.getParallelism() == null
+                        ? DEFAULT_BATCH_PARALLELISM
+                        : command.getParallelism();
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
         }
 
-        // attempt to regenerate csrfToken and PHPSESSID
+        if (offers.isEmpty()) return new ArrayList<>();
+
+        // obtain the tokens before the saves, so they do not race to fetch the missing ones
+        session.getTokens();
+
+        // every worker saves the next unclaimed offer, so the shared executor is not flooded
+        AtomicInteger nextOfferIndex = new AtomicInteger();
+        Exception[] exceptions = new Exception[offers.size()];
+        List<Future<?>> workers = new ArrayList<>(parallelism);
+
         try {
-            funPayClient.saveOffer(goldenKey, csrfToken, PHPSESSID, request);
-        } catch (InvalidCsrfTokenOrPHPSESSIDException e) {
-            updateCsrfTokenAndPHPSESSID();
+            for (int i = 0; i < Math.min(parallelism, offers.size()); i++) {
+                workers.add(
+                        batchEditExecutor.submit(
+                                () -> {
+                                    int offerIndex;
+
+                                    while ((offerIndex = nextOfferIndex.getAndIncrement())
+                                            < offers.size()) {
+                                        try {
+                                            saveOffer(toSaveOfferRequest(offers.get(offerIndex)));
+                                        } catch (Exception e) {
+                                            exceptions[offerIndex] = e;
+                                        }
+                                    }
+                                }));
+            }
 
-            try {
-                funPayClient.saveOffer(goldenKey, csrfToken, PHPSESSID, request);
-            } catch (InvalidCsrfTokenOrPHPSESSIDException e1) {
-                // TODO: Throw something more contextual than RuntimeException
-                throw new RuntimeException(e1.getLocalizedMessage());
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error) throw (Error) e.getCause();
+
+                    throw (RuntimeException) e.getCause();
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new FunPayApiException("Interrupted while waiting for the offers to be saved");
+        } finally {
+            // stop the workers if the batch is left early, they are already done otherwise
+            for (Future<?> worker : workers) {
+                worker.cancel(true);
+            }
+        }
+
+        List<OfferSaveResult> results = new ArrayList<>(offers.size());
+
+        for (int i = 0; i < offers.size(); i++) {
+            EditOffer offer = offers.get(i);
+
+            results.add(
+                    OfferSaveResult.builder()
+                            .lotId(offer.getLotId())
+                            .offerId(offer.getOfferId())
+                            .exception(exceptions[i])
+                            .build());
         }
+
+        return results;
     }
 
     /**
@@ -252,27 +409,7 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
                         .isDeleted(true)
                         .build();
 
-        if (PHPSESSID == null || csrfToken == null) {
-            try {
-                updateCsrfTokenAndPHPSESSID();
-            } catch (FunPayApiException e) {
-                throw new RuntimeException(e.getCause());
-            }
-        }
-
-        // attempt to regenerate csrfToken and PHPSESSID
-        try {
-            funPayClient.saveOffer(goldenKey, csrfToken, PHPSESSID, request);
-        } catch (InvalidCsrfTokenOrPHPSESSIDException e) {
-            updateCsrfTokenAndPHPSESSID();
-
-            try {
-                funPayClient.saveOffer(goldenKey, csrfToken, PHPSESSID, request);
-            } catch (InvalidCsrfTokenOrPHPSESSIDException e1) {
-                // TODO: Throw something more contextual than RuntimeException
-                throw new RuntimeException(e1.getLocalizedMessage());
-            }
-        }
+        saveOffer(request);
     }
 
     /**
@@ -334,22 +471,182 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
                             goldenKey, command.getUserId(), null, command.getPages());
         }
         return transactions.stream()
-                .map(
-                        parsedTransaction -> {
-                            return Transaction.builder()
-                                    .id(parsedTransaction.getId())
-                                    .title(parsedTransaction.getTitle())
-                                    .status(
-                                            TransactionStatus.valueOf(
-                                                    parsedTransaction.getStatus().name()))
-                                    .paymentNumber(parsedTransaction.getPaymentNumber())
-                                    .date(parsedTransaction.getDate())
-                                    .price(parsedTransaction.getPrice())
-                                    .build();
-                        })
+                .map(AuthorizedFunPayExecutor::toTransaction)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Execute to get transactions authorized starting from the cursor
+     *
+     * @param command command that will be executed
+     * @return transactions and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     */
+    public TransactionsPage execute(GetTransactionsPage command)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        ParsedTransactionsPage transactionsPage =
+                funPayParser.parseTransactionsPage(
+                        goldenKey,
+                        command.getUserId(),
+                        command.getType() == null
+                                ? null
+                                : ParsedTransactionType.valueOf(command.getType().name()),
+                        command.getPages(),
+                        command.getStartCursor());
+
+        return TransactionsPage.builder()
+                .transactions(
+                        transactionsPage.getTransactions().stream()
+                                .map(AuthorizedFunPayExecutor::toTransaction)
+                                .collect(Collectors.toList()))
+                .nextCursor(transactionsPage.getNextCursor())
+                .build();
+    }
+
+    /**
+     * Execute to get transactions authorized as a lazily fetched stream
+     *
+     * <p>The next transactions page is requested only when the stream is advanced past the
+     * previous one, so short-circuiting operations such as {@code limit} or {@code findFirst}
+     * stop the pagination early
+     *
+     * @param command command that will be executed
+     * @return transactions
+     * @throws UncheckedFunPayApiException if the other api-related exception while advancing
+     * @throws UserNotFoundException if the user with id does not found
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     */
+    public Stream<Transaction> execute(StreamTransactions command) {
+        Iterator<ParsedTransaction> parsedTransactions =
+                funPayParser.iterateTransactions(
+                        goldenKey,
+                        command.getUserId(),
+                        command.getType() == null
+                                ? null
+                                : ParsedTransactionType.valueOf(command.getType().name()),
+                        command.getPages() == null ? Integer.MAX_VALUE : command.getPages());
+        Date since = command.getSince();
+
+        Spliterator<Transaction> transactions =
+                new Spliterators.AbstractSpliterator<Transaction>(
+                        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                    @Override
+                    public boolean tryAdvance(Consumer<? super Transaction> action) {
+                        if (!parsedTransactions.hasNext()) return false;
+
+                        ParsedTransaction parsedTransaction = parsedTransactions.next();
+
+                        // transactions go from newest to oldest, so the rest are older too
+                        if (since != null && parsedTransaction.getDate().before(since)) {
+                            return false;
+                        }
+
+                        action.accept(toTransaction(parsedTransaction));
+                        return true;
+                    }
+                };
+
+        return StreamSupport.stream(transactions, false);
+    }
+
+    /**
+     * Execute to get only the transactions that appeared since the previous sync authorized
+     *
+     * <p>The newest transaction returned is remembered in the {@link TransactionCheckpointStore},
+     * and the next sync stops paginating as soon as it reaches it. Transaction ids grow over time,
+     * so every transaction with an id not greater than the remembered one has already been seen.
+     * The first sync returns all transactions within the requested pages
+     *
+     * <p>The checkpoint is moved only when the sync reaches the remembered transaction or the last
+     * page. If the pages limit stops the sync earlier, the checkpoint is kept, so the transactions
+     * that were not reached are not skipped, and the next sync returns the new transactions again.
+     * The last page can be told only by a parser supporting cursors, see {@link
+     * FunPayParser#isCursorSupported()}; otherwise all the pages are requested at once and the
+     * checkpoint is moved only when the remembered transaction is reached
+     *
+     * @param command command that will be executed
+     * @return transactions that appeared since the previous sync, newest first
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found
+     * @throws InvalidGoldenKeyException if the golden key is incorrect
+     */
+    public List<Transaction> execute(SyncTransactions command)
+            throws FunPayApiException, UserNotFoundException, InvalidGoldenKeyException {
+        TransactionCheckpoint checkpoint =
+                transactionCheckpointStore.load(command.getUserId(), command.getType());
+        ParsedTransactionType type =
+                command.getType() == null
+                        ? null
+                        : ParsedTransactionType.valueOf(command.getType().name());
+        int pages = command.getPages() == null ? Integer.MAX_VALUE : command.getPages();
+        List<Transaction> transactions = new ArrayList<>();
+        boolean isCursorSupported = funPayParser.isCursorSupported();
+        // without cursors the pages cannot be requested one by one, so all of them are requested
+        int pagesPerRequest = isCursorSupported ? 1 : pages;
+        String cursor = null;
+        boolean isCheckpointReached = false;
+        boolean isLastPageReached = false;
+
+        // pages are requested one by one to stop as soon as the checkpoint is reached
+        for (int page = 0;
+                page < pages && !isCheckpointReached && !isLastPageReached;
+                page += pagesPerRequest) {
+            ParsedTransactionsPage transactionsPage =
+                    funPayParser.parseTransactionsPage(
+                            goldenKey, command.getUserId(), type, pagesPerRequest, cursor);
+
+            for (ParsedTransaction parsedTransaction : transactionsPage.getTransactions()) {
+                // transactions go from newest to oldest, so the rest have been seen too
+                if (checkpoint != null
+                        && parsedTransaction.getId() <= checkpoint.getTransactionId()) {
+                    isCheckpointReached = true;
+                    break;
+                }
+
+                transactions.add(toTransaction(parsedTransaction));
+            }
+
+            cursor = transactionsPage.getNextCursor();
+            // a parser without cursors returns no next cursor even if there are more pages
+            isLastPageReached = isCursorSupported && cursor == null;
+        }
+
+        boolean isSyncComplete = checkpoint == null || isCheckpointReached || isLastPageReached;
+
+        if (!transactions.isEmpty() && isSyncComplete) {
+            Transaction newestTransaction = transactions.get(0);
+
+            transactionCheckpointStore.save(
+                    command.getUserId(),
+                    command.getType(),
+                    new TransactionCheckpoint(
+                            newestTransaction.getId(), newestTransaction.getDate()));
+        }
+
+        return transactions;
+    }
+
+    /**
+     * Execute to get seller reviews authorized starting from the cursor
+     *
+     * @param command command that will be executed
+     * @return seller reviews and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     */
+    public SellerReviewsPage execute(GetSellerReviewsPage command)
+            throws FunPayApiException, UserNotFoundException {
+        return toSellerReviewsPage(
+                funPayParser.parseSellerReviewsPage(
+                        goldenKey,
+                        command.getUserId(),
+                        command.getPages(),
+                        command.getStarsFilter(),
+                        command.getStartCursor()));
+    }
+
     /**
      * Execute to get seller reviews authorized
      *
@@ -412,20 +709,146 @@ public class AuthorizedFunPayExecutor extends FunPayExecutor {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Convert edit offer command to save offer request
+     *
+     * @param command command which will be converted
+     * @return save offer request
+     */
+    static SaveOfferRequest toSaveOfferRequest(EditOffer command) {
+        return SaveOfferRequest.builder()
+                .nodeId(command.getLotId())
+                .offerId(command.getOfferId())
+                .summaryRu(command.getShortDescriptionRu())
+                .summaryEn(command.getShortDescriptionEn())
+                .descRu(command.getDescriptionRu())
+                .descEn(command.getDescriptionEn())
+                .paymentMessageRu(command.getPaymentMessageRu())
+                .paymentMessageEn(command.getPaymentMessageEn())
+                .fields(command.getFields())
+                .isAutoDelivery(command.isAutoDelivery())
+                .isActive(command.isActive())
+                .isDeleted(false)
+                .secrets(command.getSecrets())
+                .images(command.getImageIds())
+                .price(command.getPrice())
+                .amount(command.getAmount())
+                .build();
+    }
+
+    /**
+     * Convert parsed transaction to transaction
+     *
+     * @param parsedTransaction parsed transaction which will be converted
+     * @return transaction
+     */
+    static Transaction toTransaction(ParsedTransaction parsedTransaction) {
+        return Transaction.builder()
+                .id(parsedTransaction.getId())
+                .title(parsedTransaction.getTitle())
+                .status(TransactionStatus.valueOf(parsedTransaction.getStatus().name()))
+                .paymentNumber(parsedTransaction.getPaymentNumber())
+                .date(parsedTransaction.getDate())
+                .price(parsedTransaction.getPrice())
+                .build();
+    }
+
     /**
      * Update csrfToken and PHPSESSID
      *
      * @throws FunPayApiException if the other api-related exception
      */
     public void updateCsrfTokenAndPHPSESSID() throws FunPayApiException {
-        // TODO: It might be worth reconsidering and finding another way to update csrf and
-        // PHPSESSID
-        // that doesn't require making such relatively expensive queries
+        session.refresh();
+    }
+
+    /**
+     * Get the current csrfToken
+     *
+     * @return csrfToken or null if it has not been obtained yet
+     */
+    public String getCsrfToken() {
+        SessionTokens tokens = session.peekTokens();
+
+        return tokens == null ? null : tokens.getCsrfToken();
+    }
+
+    /**
+     * Set csrfToken which will be used with the current PHPSESSID
+     *
+     * @param csrfToken csrfToken
+     */
+    public void setCsrfToken(String csrfToken) {
+        session.updateTokens(
+                tokens ->
+                        new SessionTokens(
+                                csrfToken, tokens == null ? null : tokens.getPHPSESSID()));
+    }
+
+    /**
+     * Get the current PHPSESSID
+     *
+     * @return PHPSESSID or null if it has not been obtained yet
+     */
+    public String getPHPSESSID() {
+        SessionTokens tokens = session.peekTokens();
+
+        return tokens == null ? null : tokens.getPHPSESSID();
+    }
+
+    /**
+     * Set PHPSESSID which will be used with the current csrfToken
+     *
+     * @param PHPSESSID PHPSESSID
+     */
+    public void setPHPSESSID(String PHPSESSID) {
+        session.updateTokens(
+                tokens ->
+                        new SessionTokens(
+                                tokens == null ? null : tokens.getCsrfToken(), PHPSESSID));
+    }
+
+    /**
+     * Set csrfToken and PHPSESSID together, so the requests never use one of them with the other
+     * from the previous pair
+     *
+     * @param tokens csrfToken and PHPSESSID
+     */
+    public void setTokens(@NonNull SessionTokens tokens) {
+        session.setTokens(tokens);
+    }
+
+    private void saveOffer(SaveOfferRequest request) throws FunPayApiException {
+        SessionTokens tokens = session.getTokens();
+
+        try {
+            funPayClient.saveOffer(
+                    goldenKey, tokens.getCsrfToken(), tokens.getPHPSESSID(), request);
+        } catch (InvalidCsrfTokenOrPHPSESSIDException e) {
+            // attempt to regenerate csrfToken and PHPSESSID, concurrent callers share one refresh
+            SessionTokens refreshedTokens = session.refresh(tokens);
 
-        CsrfTokenAndPHPSESSID csrfTokenAndPHPSESSID =
-                funPayParser.parseCsrfTokenAndPHPSESSID(goldenKey);
+            try {
+                funPayClient.saveOffer(
+                        goldenKey,
+                        refreshedTokens.getCsrfToken(),
+                        refreshedTokens.getPHPSESSID(),
+                        request);
+            } catch (InvalidCsrfTokenOrPHPSESSIDException e1) {
+                // TODO: Throw something more contextual than RuntimeException
+                throw new RuntimeException(e1.getLocalizedMessage());
+            }
+        }
+    }
 
-        this.csrfToken = csrfTokenAndPHPSESSID.getCsrfToken();
-        this.PHPSESSID = csrfTokenAndPHPSESSID.getPHPSESSID();
+    /** Holder of the default batch edit executor, its threads are started on the first batch */
+    private static final class BatchEditExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "funpay4j-batch-edit");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
     }
 }
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import lombok.Builder;
+import lombok.NonNull;
+import okhttp3.OkHttpClient;
+import ru.funpay4j.client.client.FunPayClient;
+import ru.funpay4j.client.client.OkHttpFunPayClient;
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.parser.FunPayParser;
+import ru.funpay4j.client.parser.JsoupFunPayParser;
+
+/**
+ * This pool drives many FunPay accounts over one shared transport
+ *
+ * <p>Every account gets its own {@link AuthorizedFunPayExecutor} with its own session, created on
+ * the first call for its golden key. All the executors share one parser and one client, so the
+ * accounts share the connection pool and dispatcher of one http client. The number of concurrent
+ * calls of one account is bounded, and the accounts which have not been used for the idle timeout
+ * are evicted by {@link #evictIdle()}, so their sessions are fetched again on the next call
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class FunPayAccountPool {
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS_PER_ACCOUNT = 2;
+
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final FunPayParser funPayParser;
+
+    private final FunPayClient funPayClient;
+
+    private final int maxConcurrentCallsPerAccount;
+
+    private final long idleTimeoutNanos;
+
+    private final LongSupplier ticker;
+
+    private final ConcurrentMap<String, Account> accounts = new ConcurrentHashMap<>();
+
+    /** Creates a new FunPayAccountPool instance with the default settings */
+    public FunPayAccountPool() {
+        this(null, null, null, null);
+    }
+
+    /**
+     * Creates a new FunPayAccountPool instance
+     *
+     * @param httpClient httpClient shared by all the accounts, {@link
+     *     FunPayHttpConfig#defaultHttpClient()} if null
+     * @param baseURL base URL of the primary server, {@link FunPayURL#BASE_URL} if null
+     * @param maxConcurrentCallsPerAccount max number of calls of one account executed at the same
+     *     time, 2 if null
+     * @param idleTimeout time after which an unused account is evicted, 30 minutes if null
+     */
+    @Builder
+    public FunPayAccountPool(
+            OkHttpClient httpClient,
+            String baseURL,
+            Integer maxConcurrentCallsPerAccount,
+            Duration idleTimeout) {
+        this(
+                httpClient == null ? FunPayHttpConfig.defaultHttpClient() : httpClient,
+                baseURL == null ? FunPayURL.BASE_URL : baseURL,
+                maxConcurrentCallsPerAccount == null
+                        ? DEFAULT_MAX_CONCURRENT_CALLS_PER_ACCOUNT
+                        : maxConcurrentCallsPerAccount,
+                idleTimeout == null ? DEFAULT_IDLE_TIMEOUT : idleTimeout,
+                System::nanoTime);
+    }
+
+    FunPayAccountPool(
+            OkHttpClient httpClient,
+            String baseURL,
+            int maxConcurrentCallsPerAccount,
+            Duration idleTimeout,
+            LongSupplier ticker) {
+        if (maxConcurrentCallsPerAccount < 1) {
+            throw new IllegalArgumentException("maxConcurrentCallsPerAccount must be positive");
+        }
+
+        this.funPayParser = new JsoupFunPayParser(httpClient, baseURL);
+        this.funPayClient = new OkHttpFunPayClient(httpClient, baseURL);
+        this.maxConcurrentCallsPerAccount = maxConcurrentCallsPerAccount;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Execute the call with the executor of the account, waiting while the account already runs
+     * the max number of concurrent calls
+     *
+     * @param goldenKey golden key of the account
+     * @param call call which will be executed
+     * @param <T> type of the result
+     * @return result of the call
+     * @throws FunPayApiException if the other api-related exception or the thread is interrupted
+     *     while waiting
+     */
+    public <T> T execute(@NonNull String goldenKey, @NonNull AccountCall<T> call)
+            throws FunPayApiException {
+        // the account is marked as used before it is returned, so it cannot be evicted meanwhile
+        Account account =
+                accounts.compute(
+                        goldenKey,
+                        (key, existingAccount) -> {
+                            Account usedAccount =
+                                    existingAccount == null ? newAccount(key) : existingAccount;
+
+                            usedAccount.users.incrementAndGet();
+                            return usedAccount;
+                        });
+
+        try {
+            account.permits.acquire();
+        } catch (InterruptedException e) {
+            release(account);
+            Thread.currentThread().interrupt();
+
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+
+        try {
+            return call.call(account.executor);
+        } finally {
+            account.permits.release();
+            release(account);
+        }
+    }
+
+    /**
+     * Remove the accounts which have not been used for the idle timeout and have no running calls
+     *
+     * @return number of the removed accounts
+     */
+    public int evictIdle() {
+        long now = ticker.getAsLong();
+        AtomicInteger evictedCount = new AtomicInteger();
+
+        for (String goldenKey : accounts.keySet()) {
+            accounts.computeIfPresent(
+                    goldenKey,
+                    (key, account) -> {
+                        if (account.users.get() > 0
+                                || now - account.lastUsedNanos < idleTimeoutNanos) {
+                            return account;
+                        }
+
+                        evictedCount.incrementAndGet();
+                        return null;
+                    });
+        }
+
+        return evictedCount.get();
+    }
+
+    /**
+     * Evict the idle accounts periodically in the background
+     *
+     * @param scheduler scheduler which will run the eviction
+     * @param period period between the evictions
+     * @return future which can be used to stop the eviction
+     */
+    public ScheduledFuture<?> scheduleEviction(
+            @NonNull ScheduledExecutorService scheduler, @NonNull Duration period) {
+        long periodNanos = period.toNanos();
+
+        return scheduler.scheduleAtFixedRate(
+                this::evictIdle, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the number of the accounts currently held by the pool
+     *
+     * @return number of the accounts
+     */
+    public int size() {
+        return accounts.size();
+    }
+
+    private Account newAccount(String goldenKey) {
+        return new Account(
+                new AuthorizedFunPayExecutor(goldenKey, funPayParser, funPayClient),
+                new Semaphore(maxConcurrentCallsPerAccount),
+                ticker.getAsLong());
+    }
+
+    private void release(Account account) {
+        account.lastUsedNanos = ticker.getAsLong();
+        account.users.decrementAndGet();
+    }
+
+    /**
+     * Call executed with the executor of the account
+     *
+     * @param <T> type of the result
+     * @author panic08
+     * @since 1.0.7
+     */
+    @FunctionalInterface
+    public interface AccountCall<T> {
+        /**
+         * Execute the call
+         *
+         * @param executor executor of the account
+         * @return result
+         * @throws FunPayApiException if the other api-related exception
+         */
+        T call(AuthorizedFunPayExecutor executor) throws FunPayApiException;
+    }
+
+    private static class Account {
+        private final AuthorizedFunPayExecutor executor;
+
+        private final Semaphore permits;
+
+        private final AtomicInteger users = new AtomicInteger();
+
+        private volatile long lastUsedNanos;
+
+        private Account(AuthorizedFunPayExecutor executor, Semaphore permits, long lastUsedNanos) {
+            this.executor = executor;
+            this.permits = permits;
+            this.lastUsedNanos = lastUsedNanos;
+        }
+    }
+}
@@ -15,7 +15,11 @@
 package ru.funpay4j.core;
 
 import java.net.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import lombok.NonNull;
@@ -26,32 +30,41 @@ import ru.funpay4j.client.exceptions.FunPayApiException;
 import ru.funpay4j.client.exceptions.lot.LotNotFoundException;
 import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
 import ru.funpay4j.client.exceptions.user.UserNotFoundException;
+import ru.funpay4j.client.http.RetryPolicy;
 import ru.funpay4j.client.objects.game.ParsedPromoGame;
 import ru.funpay4j.client.objects.lot.ParsedLot;
+import ru.funpay4j.client.objects.lot.ParsedLotOfferTable;
 import ru.funpay4j.client.objects.offer.ParsedOffer;
 import ru.funpay4j.client.objects.user.ParsedAdvancedSellerReview;
 import ru.funpay4j.client.objects.user.ParsedPreviewSeller;
 import ru.funpay4j.client.objects.user.ParsedSeller;
 import ru.funpay4j.client.objects.user.ParsedSellerReview;
+import ru.funpay4j.client.objects.user.ParsedSellerReviewsPage;
 import ru.funpay4j.client.objects.user.ParsedUser;
 import ru.funpay4j.client.parser.FunPayParser;
 import ru.funpay4j.client.parser.JsoupFunPayParser;
+import ru.funpay4j.client.parser.PreviewSellerRegistry;
 import ru.funpay4j.core.commands.game.GetPromoGames;
 import ru.funpay4j.core.commands.lot.GetLot;
+import ru.funpay4j.core.commands.lot.GetLotTable;
 import ru.funpay4j.core.commands.offer.GetOffer;
 import ru.funpay4j.core.commands.user.GetSellerReviews;
+import ru.funpay4j.core.commands.user.GetSellerReviewsPage;
 import ru.funpay4j.core.commands.user.GetUser;
 import ru.funpay4j.core.objects.game.PromoGame;
 import ru.funpay4j.core.objects.game.PromoGameCounter;
 import ru.funpay4j.core.objects.lot.Lot;
 import ru.funpay4j.core.objects.lot.LotCounter;
+import ru.funpay4j.core.objects.lot.LotOfferTable;
 import ru.funpay4j.core.objects.offer.Offer;
 import ru.funpay4j.core.objects.offer.PreviewOffer;
 import ru.funpay4j.core.objects.user.AdvancedSellerReview;
 import ru.funpay4j.core.objects.user.PreviewSeller;
 import ru.funpay4j.core.objects.user.Seller;
 import ru.funpay4j.core.objects.user.SellerReview;
+import ru.funpay4j.core.objects.user.SellerReviewsPage;
 import ru.funpay4j.core.objects.user.User;
+import ru.funpay4j.utils.FunPayDateParser;
 
 /**
  * This FunPay executor is used to execute commands
@@ -60,13 +73,17 @@ import ru.funpay4j.core.objects.user.User;
  * @since 1.0.0
  */
 public class FunPayExecutor {
+    /** Converted preview sellers by the parsed ones, dropped once the parsed seller is unused */
+    private static final Map<ParsedPreviewSeller, PreviewSeller> PREVIEW_SELLERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     @NonNull protected final FunPayParser funPayParser;
 
     @NonNull protected final FunPayClient funPayClient;
 
     /** Creates a new FunPayExecutor instance */
     public FunPayExecutor() {
-        OkHttpClient httpClient = new OkHttpClient();
+        OkHttpClient httpClient = FunPayHttpConfig.defaultHttpClient();
 
         this.funPayParser = new JsoupFunPayParser(httpClient, FunPayURL.BASE_URL);
         this.funPayClient = new OkHttpFunPayClient(httpClient, FunPayURL.BASE_URL);
@@ -79,7 +96,9 @@ public class FunPayExecutor {
      * @param proxy proxy for forwarding requests
      */
     public FunPayExecutor(@NonNull String baseURL, @NonNull Proxy proxy) {
-        OkHttpClient httpClient = new OkHttpClient.Builder().proxy(proxy).build();
+        // the derived client shares the connection pool and dispatcher of the default one
+        OkHttpClient httpClient =
+                FunPayHttpConfig.defaultHttpClient().newBuilder().proxy(proxy).build();
 
         this.funPayParser = new JsoupFunPayParser(httpClient, baseURL);
         this.funPayClient = new OkHttpFunPayClient(httpClient, baseURL);
@@ -91,7 +110,7 @@ public class FunPayExecutor {
      * @param baseURL base URL of the primary server
      */
     public FunPayExecutor(@NonNull String baseURL) {
-        OkHttpClient httpClient = new OkHttpClient();
+        OkHttpClient httpClient = FunPayHttpConfig.defaultHttpClient();
 
         this.funPayParser = new JsoupFunPayParser(httpClient, baseURL);
         this.funPayClient = new OkHttpFunPayClient(httpClient, baseURL);
@@ -103,12 +122,80 @@ public class FunPayExecutor {
      * @param proxy proxy for forwarding requests
      */
     public FunPayExecutor(@NonNull Proxy proxy) {
-        OkHttpClient httpClient = new OkHttpClient.Builder().proxy(proxy).build();
+        // the derived client shares the connection pool and dispatcher of the default one
+        OkHttpClient httpClient =
+                FunPayHttpConfig.defaultHttpClient().newBuilder().proxy(proxy).build();
 
         this.funPayParser = new JsoupFunPayParser(httpClient, FunPayURL.BASE_URL);
         this.funPayClient = new OkHttpFunPayClient(httpClient, FunPayURL.BASE_URL);
     }
 
+    /**
+     * Creates a new FunPayExecutor instance
+     *
+     * <p>Pass the same client to many executors, so they share its connection pool and dispatcher
+     *
+     * @param baseURL base URL of the primary server
+     * @param httpClient httpClient required to send http requests
+     * @since 1.0.7
+     */
+    public FunPayExecutor(@NonNull String baseURL, @NonNull OkHttpClient httpClient) {
+        this.funPayParser = new JsoupFunPayParser(httpClient, baseURL);
+        this.funPayClient = new OkHttpFunPayClient(httpClient, baseURL);
+    }
+
+    /**
+     * Creates a new FunPayExecutor instance
+     *
+     * <p>Pass the same client and seller registry to many executors, so they share the connection
+     * pool and dispatcher, and the same seller found by all of them is kept in memory only once
+     *
+     * @param baseURL base URL of the primary server
+     * @param httpClient httpClient required to send http requests
+     * @param sellerRegistry registry of the preview sellers of the parsed lots, offers and users
+     * @since 1.0.7
+     */
+    public FunPayExecutor(
+            @NonNull String baseURL,
+            @NonNull OkHttpClient httpClient,
+            @NonNull PreviewSellerRegistry sellerRegistry) {
+        this.funPayParser =
+                new JsoupFunPayParser(
+                        httpClient,
+                        baseURL,
+                        RetryPolicy.NO_RETRY,
+                        new FunPayDateParser(),
+                        sellerRegistry);
+        this.funPayClient = new OkHttpFunPayClient(httpClient, baseURL);
+    }
+
+    /**
+     * Creates a new FunPayExecutor instance
+     *
+     * <p>Pass the same client to many executors, so they share its connection pool and dispatcher
+     *
+     * @param httpClient httpClient required to send http requests
+     * @since 1.0.7
+     */
+    public FunPayExecutor(@NonNull OkHttpClient httpClient) {
+        this(FunPayURL.BASE_URL, httpClient);
+    }
+
+    /**
+     * Creates a new FunPayExecutor instance
+     *
+     * <p>Use it to plug in a custom parser, such as {@link
+     * ru.funpay4j.client.parser.CachingFunPayParser}
+     *
+     * @param funPayParser parser which will be used to parse data from FunPay
+     * @param funPayClient client which will be used to send data to FunPay
+     * @since 1.0.7
+     */
+    public FunPayExecutor(@NonNull FunPayParser funPayParser, @NonNull FunPayClient funPayClient) {
+        this.funPayParser = funPayParser;
+        this.funPayClient = funPayClient;
+    }
+
     /**
      * Execute to get lot
      *
@@ -118,7 +205,105 @@ public class FunPayExecutor {
      * @throws LotNotFoundException if the lot with id does not found
      */
     public Lot execute(GetLot command) throws FunPayApiException, LotNotFoundException {
-        ParsedLot parsedLot = funPayParser.parseLot(command.getLotId());
+        return toLot(funPayParser.parseLot(command.getLotId()));
+    }
+
+    /**
+     * Execute to get the preview offers of the lot stored by columns
+     *
+     * @param command command that will be executed
+     * @return preview offers of the lot stored by columns
+     * @throws FunPayApiException if the other api-related exception
+     * @throws LotNotFoundException if the lot with id does not found
+     */
+    public LotOfferTable execute(GetLotTable command)
+            throws FunPayApiException, LotNotFoundException {
+        return toLotOfferTable(funPayParser.parseLotOfferTable(command.getLotId()));
+    }
+
+    /**
+     * Execute to get promo games
+     *
+     * @param command command that will be executed
+     * @return promo games
+     * @throws FunPayApiException if the other api-related exception
+     */
+    public List<PromoGame> execute(GetPromoGames command) throws FunPayApiException {
+        return toPromoGames(funPayParser.parsePromoGames(command.getQuery()));
+    }
+
+    /**
+     * Execute to get offer
+     *
+     * @param command command that will be executed
+     * @return offer
+     * @throws FunPayApiException if the other api-related exception
+     * @throws OfferNotFoundException if the offer with id does not found
+     */
+    public Offer execute(GetOffer command) throws FunPayApiException, OfferNotFoundException {
+        return toOffer(funPayParser.parseOffer(command.getOfferId()));
+    }
+
+    /**
+     * Execute to get user
+     *
+     * @param command command that will be executed
+     * @return user
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found
+     */
+    public User execute(GetUser command) throws FunPayApiException, UserNotFoundException {
+        return toUser(funPayParser.parseUser(command.getUserId()));
+    }
+
+    /**
+     * Execute to get seller reviews
+     *
+     * @param command command that will be executed
+     * @return seller reviews
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     */
+    public List<SellerReview> execute(GetSellerReviews command)
+            throws FunPayApiException, UserNotFoundException {
+        List<ParsedSellerReview> sellerReviews;
+        if (command.getStarsFilter() != null) {
+            sellerReviews =
+                    funPayParser.parseSellerReviews(
+                            command.getUserId(), command.getPages(), command.getStarsFilter());
+        } else {
+            sellerReviews =
+                    funPayParser.parseSellerReviews(command.getUserId(), command.getPages());
+        }
+        return toSellerReviews(sellerReviews);
+    }
+
+    /**
+     * Execute to get seller reviews starting from the cursor
+     *
+     * @param command command that will be executed
+     * @return seller reviews and the cursor of the next page
+     * @throws FunPayApiException if the other api-related exception
+     * @throws UserNotFoundException if the user with id does not found/seller
+     */
+    public SellerReviewsPage execute(GetSellerReviewsPage command)
+            throws FunPayApiException, UserNotFoundException {
+        return toSellerReviewsPage(
+                funPayParser.parseSellerReviewsPage(
+                        null,
+                        command.getUserId(),
+                        command.getPages(),
+                        command.getStarsFilter(),
+                        command.getStartCursor()));
+    }
+
+    /**
+     * Convert parsed lot to lot
+     *
+     * @param parsedLot parsed lot which will be converted
+     * @return lot
+     */
+    static Lot toLot(ParsedLot parsedLot) {
         return Lot.builder()
                 .id(parsedLot.getId())
                 .gameId(parsedLot.getGameId())
@@ -150,24 +335,7 @@ public class FunPayExecutor {
                                                     .isAutoDelivery(
                                                             parsedPreviewOffer.isAutoDelivery())
                                                     .isPromo(parsedPreviewOffer.isPromo())
-                                                    .seller(
-                                                            PreviewSeller.builder()
-                                                                    .userId(
-                                                                            previewSeller
-                                                                                    .getUserId())
-                                                                    .username(
-                                                                            previewSeller
-                                                                                    .getUsername())
-                                                                    .avatarPhotoLink(
-                                                                            previewSeller
-                                                                                    .getAvatarPhotoLink())
-                                                                    .isOnline(
-                                                                            previewSeller
-                                                                                    .isOnline())
-                                                                    .reviewCount(
-                                                                            previewSeller
-                                                                                    .getReviewCount())
-                                                                    .build())
+                                                    .seller(toPreviewSeller(previewSeller))
                                                     .build();
                                         })
                                 .collect(Collectors.toList()))
@@ -175,14 +343,40 @@ public class FunPayExecutor {
     }
 
     /**
-     * Execute to get promo games
+     * Convert parsed lot offer table to lot offer table. The columns are shared with the parsed
+     * table and only the sellers of the dictionary are converted
      *
-     * @param command command that will be executed
+     * @param parsedLotOfferTable parsed lot offer table which will be converted
+     * @return lot offer table
+     */
+    static LotOfferTable toLotOfferTable(ParsedLotOfferTable parsedLotOfferTable) {
+        Map<Long, PreviewSeller> sellers = new LinkedHashMap<>();
+
+        for (ParsedPreviewSeller previewSeller : parsedLotOfferTable.getSellers().values()) {
+            sellers.put(previewSeller.getUserId(), toPreviewSeller(previewSeller));
+        }
+
+        return LotOfferTable.builder()
+                .lotId(parsedLotOfferTable.getLotId())
+                .gameId(parsedLotOfferTable.getGameId())
+                .offerIds(parsedLotOfferTable.getOfferIds())
+                .shortDescriptions(parsedLotOfferTable.getShortDescriptions())
+                .prices(parsedLotOfferTable.getPrices())
+                .autoDelivery(parsedLotOfferTable.getAutoDelivery())
+                .promo(parsedLotOfferTable.getPromo())
+                .sellerIds(parsedLotOfferTable.getSellerIds())
+                .sellerOnline(parsedLotOfferTable.getSellerOnline())
+                .sellers(sellers)
+                .build();
+    }
+
+    /**
+     * Convert parsed promo games to promo games
+     *
+     * @param promoGame parsed promo games which will be converted
      * @return promo games
-     * @throws FunPayApiException if the other api-related exception
      */
-    public List<PromoGame> execute(GetPromoGames command) throws FunPayApiException {
-        List<ParsedPromoGame> promoGame = funPayParser.parsePromoGames(command.getQuery());
+    static List<PromoGame> toPromoGames(List<ParsedPromoGame> promoGame) {
         return promoGame.stream()
                 .map(
                         parsedPromoGame -> {
@@ -209,15 +403,12 @@ public class FunPayExecutor {
     }
 
     /**
-     * Execute to get offer
+     * Convert parsed offer to offer
      *
-     * @param command command that will be executed
+     * @param offer parsed offer which will be converted
      * @return offer
-     * @throws FunPayApiException if the other api-related exception
-     * @throws OfferNotFoundException if the offer with id does not found
      */
-    public Offer execute(GetOffer command) throws FunPayApiException, OfferNotFoundException {
-        ParsedOffer offer = funPayParser.parseOffer(command.getOfferId());
+    static Offer toOffer(ParsedOffer offer) {
         return Offer.builder()
                 .id(offer.getId())
                 .shortDescription(offer.getShortDescription())
@@ -226,27 +417,41 @@ public class FunPayExecutor {
                 .price(offer.getPrice())
                 .attachmentLinks(offer.getAttachmentLinks())
                 .parameters(offer.getParameters())
-                .seller(
-                        PreviewSeller.builder()
-                                .userId(offer.getSeller().getUserId())
-                                .username(offer.getSeller().getUsername())
-                                .avatarPhotoLink(offer.getSeller().getAvatarPhotoLink())
-                                .isOnline(offer.getSeller().isOnline())
-                                .reviewCount(offer.getSeller().getReviewCount())
-                                .build())
+                .seller(toPreviewSeller(offer.getSeller()))
                 .build();
     }
 
     /**
-     * Execute to get user
+     * Convert parsed preview seller to preview seller
      *
-     * @param command command that will be executed
+     * <p>The conversion is remembered while the parsed seller is in use, so the parsed sellers
+     * shared by {@link PreviewSellerRegistry} stay shared after the
+     * conversion. The returned sellers are shared between the converted objects, so they must not
+     * be modified
+     *
+     * @param previewSeller parsed preview seller which will be converted
+     * @return preview seller
+     */
+    static PreviewSeller toPreviewSeller(ParsedPreviewSeller previewSeller) {
+        return PREVIEW_SELLERS.computeIfAbsent(
+                previewSeller,
+                parsedPreviewSeller ->
+                        PreviewSeller.builder()
+                                .userId(parsedPreviewSeller.getUserId())
+                                .username(parsedPreviewSeller.getUsername())
+                                .avatarPhotoLink(parsedPreviewSeller.getAvatarPhotoLink())
+                                .isOnline(parsedPreviewSeller.isOnline())
+                                .reviewCount(parsedPreviewSeller.getReviewCount())
+                                .build());
+    }
+
+    /**
+     * Convert parsed user to user or seller
+     *
+     * @param user parsed user which will be converted
      * @return user
-     * @throws FunPayApiException if the other api-related exception
-     * @throws UserNotFoundException if the user with id does not found
      */
-    public User execute(GetUser command) throws FunPayApiException, UserNotFoundException {
-        ParsedUser user = funPayParser.parseUser(command.getUserId());
+    static User toUser(ParsedUser user) {
         if (user instanceof ParsedSeller) {
             return Seller.builder()
                     .id(user.getId())
@@ -282,23 +487,8 @@ public class FunPayExecutor {
                                                                         parsedPreviewOffer
                                                                                 .isPromo())
                                                                 .seller(
-                                                                        PreviewSeller.builder()
-                                                                                .userId(
-                                                                                        previewSeller
-                                                                                                .getUserId())
-                                                                                .username(
-                                                                                        previewSeller
-                                                                                                .getUsername())
-                                                                                .avatarPhotoLink(
-                                                                                        previewSeller
-                                                                                                .getAvatarPhotoLink())
-                                                                                .isOnline(
-                                                                                        previewSeller
-                                                                                                .isOnline())
-                                                                                .reviewCount(
-                                                                                        previewSeller
-                                                                                                .getReviewCount())
-                                                                                .build())
+                                                                        toPreviewSeller(
+                                                                                previewSeller))
                                                                 .build();
                                                     })
                                             .collect(Collectors.toList()))
@@ -339,24 +529,25 @@ public class FunPayExecutor {
     }
 
     /**
-     * Execute to get seller reviews
+     * Convert parsed seller reviews page to seller reviews page
      *
-     * @param command command that will be executed
+     * @param sellerReviewsPage parsed seller reviews page which will be converted
+     * @return seller reviews page
+     */
+    static SellerReviewsPage toSellerReviewsPage(ParsedSellerReviewsPage sellerReviewsPage) {
+        return SellerReviewsPage.builder()
+                .sellerReviews(toSellerReviews(sellerReviewsPage.getSellerReviews()))
+                .nextCursor(sellerReviewsPage.getNextCursor())
+                .build();
+    }
+
+    /**
+     * Convert parsed seller reviews to seller reviews
+     *
+     * @param sellerReviews parsed seller reviews which will be converted
      * @return seller reviews
-     * @throws FunPayApiException if the other api-related exception
-     * @throws UserNotFoundException if the user with id does not found/seller
      */
-    public List<SellerReview> execute(GetSellerReviews command)
-            throws FunPayApiException, UserNotFoundException {
-        List<ParsedSellerReview> sellerReviews;
-        if (command.getStarsFilter() != null) {
-            sellerReviews =
-                    funPayParser.parseSellerReviews(
-                            command.getUserId(), command.getPages(), command.getStarsFilter());
-        } else {
-            sellerReviews =
-                    funPayParser.parseSellerReviews(command.getUserId(), command.getPages());
-        }
+    static List<SellerReview> toSellerReviews(List<ParsedSellerReview> sellerReviews) {
         return sellerReviews.stream()
                 .map(
                         parsedSellerReview -> {
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core;
+
+import java.net.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.brotli.BrotliInterceptor;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.client.http.RateLimiter;
+import ru.funpay4j.client.http.RateLimitingInterceptor;
+
+/**
+ * This object represents the http settings of the executors
+ *
+ * <p>Build the client once with {@link #newHttpClient()} and pass it to every executor, so they
+ * share one connection pool and dispatcher instead of creating their own. The executors created
+ * without a client share {@link #defaultHttpClient()}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Getter
+@Builder
+public class FunPayHttpConfig {
+    /** Max number of idle connections kept in the pool */
+    @Builder.Default private int maxIdleConnections = 5;
+
+    /** Time after which an idle connection is closed */
+    @Builder.Default @NonNull private Duration keepAliveDuration = Duration.ofMinutes(5);
+
+    /** Max number of requests executed at the same time by the async executors */
+    @Builder.Default private int maxRequests = 64;
+
+    /** Max number of requests to one host executed at the same time by the async executors */
+    @Builder.Default private int maxRequestsPerHost = 5;
+
+    /** Timeout of establishing a connection */
+    @Builder.Default @NonNull private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /** Timeout of reading the response */
+    @Builder.Default @NonNull private Duration readTimeout = Duration.ofSeconds(10);
+
+    /** Timeout of writing the request */
+    @Builder.Default @NonNull private Duration writeTimeout = Duration.ofSeconds(10);
+
+    /** Timeout of the whole call, no timeout if zero */
+    @Builder.Default @NonNull private Duration callTimeout = Duration.ZERO;
+
+    /** Whether HTTP/2 is preferred over HTTP/1.1 when the server supports it */
+    @Builder.Default private boolean http2Enabled = true;
+
+    /**
+     * Whether brotli compressed responses are requested and decoded. Gzip is decoded transparently
+     * either way
+     */
+    @Builder.Default private boolean brotliEnabled = true;
+
+    /** Proxy for forwarding requests, no proxy if null */
+    @Nullable private Proxy proxy;
+
+    /** Limiter pacing the requests to FunPay, no limit if null */
+    @Nullable private RateLimiter rateLimiter;
+
+    /**
+     * Build a new client with these settings
+     *
+     * @return client
+     */
+    public OkHttpClient newHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        OkHttpClient.Builder httpClientBuilder =
+                new OkHttpClient.Builder()
+                        .connectionPool(
+                                new ConnectionPool(
+                                        maxIdleConnections,
+                                        keepAliveDuration.toNanos(),
+                                        TimeUnit.NANOSECONDS))
+                        .dispatcher(dispatcher)
+                        .connectTimeout(connectTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                        .readTimeout(readTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                        .writeTimeout(writeTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                        .callTimeout(callTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                        .protocols(
+                                http2Enabled
+                                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                                        : Collections.singletonList(Protocol.HTTP_1_1))
+                        .proxy(proxy);
+
+        if (rateLimiter != null) {
+            httpClientBuilder.addInterceptor(new RateLimitingInterceptor(rateLimiter));
+        }
+
+        if (brotliEnabled) {
+            // sends "Accept-Encoding: br,gzip" and decodes whichever encoding the server picked
+            httpClientBuilder.addInterceptor(BrotliInterceptor.INSTANCE);
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Get the client shared by the executors created without a client
+     *
+     * @return client with the default settings
+     */
+    public static OkHttpClient defaultHttpClient() {
+        return DefaultHttpClientHolder.HTTP_CLIENT;
+    }
+
+    private static class DefaultHttpClientHolder {
+        private static final OkHttpClient HTTP_CLIENT =
+                FunPayHttpConfig.builder().build().newHttpClient();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core.checkpoint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Properties;
+
+import lombok.NonNull;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.core.objects.transaction.TransactionType;
+
+/**
+ * This implementation of TransactionCheckpointStore keeps every checkpoint in a separate
+ * properties file of the given directory
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class FileTransactionCheckpointStore implements TransactionCheckpointStore {
+    private static final String TRANSACTION_ID_PROPERTY = "transactionId";
+
+    private static final String TRANSACTION_DATE_PROPERTY = "transactionDate";
+
+    @NonNull private final Path directory;
+
+    /** Creates a new FileTransactionCheckpointStore instance storing checkpoints in user home */
+    public FileTransactionCheckpointStore() {
+        this(Paths.get(System.getProperty("user.home"), ".funpay4j", "checkpoints"));
+    }
+
+    /**
+     * Creates a new FileTransactionCheckpointStore instance
+     *
+     * @param directory directory in which the checkpoints will be stored, created on first save
+     */
+    public FileTransactionCheckpointStore(@NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Nullable
+    public TransactionCheckpoint load(long userId, @Nullable TransactionType type) {
+        Path checkpointFile = resolveCheckpointFile(userId, type);
+
+        if (!Files.exists(checkpointFile)) return null;
+
+        Properties checkpointProperties = new Properties();
+
+        try (InputStream checkpointInputStream = Files.newInputStream(checkpointFile)) {
+            checkpointProperties.load(checkpointInputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long transactionId =
+                Long.parseLong(checkpointProperties.getProperty(TRANSACTION_ID_PROPERTY));
+        String transactionDateMillis = checkpointProperties.getProperty(TRANSACTION_DATE_PROPERTY);
+
+        return TransactionCheckpoint.builder()
+                .transactionId(transactionId)
+                .transactionDate(
+                        transactionDateMillis == null
+                                ? null
+                                : new Date(Long.parseLong(transactionDateMillis)))
+                .build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void save(
+            long userId,
+            @Nullable TransactionType type,
+            @NonNull TransactionCheckpoint checkpoint) {
+        Path checkpointFile = resolveCheckpointFile(userId, type);
+        Properties checkpointProperties = new Properties();
+
+        checkpointProperties.setProperty(
+                TRANSACTION_ID_PROPERTY, String.valueOf(checkpoint.getTransactionId()));
+
+        if (checkpoint.getTransactionDate() != null) {
+            checkpointProperties.setProperty(
+                    TRANSACTION_DATE_PROPERTY,
+                    String.valueOf(checkpoint.getTransactionDate().getTime()));
+        }
+
+        try {
+            Files.createDirectories(directory);
+
+            // write to a temporary file first, so a crash never leaves a half written file
+            Path temporaryCheckpointFile =
+                    Files.createTempFile(directory, checkpointFile.getFileName().toString(), null);
+
+            try {
+                try (OutputStream checkpointOutputStream =
+                        Files.newOutputStream(temporaryCheckpointFile)) {
+                    checkpointProperties.store(checkpointOutputStream, null);
+                }
+
+                Files.move(
+                        temporaryCheckpointFile,
+                        checkpointFile,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                // do not leave the temporary files behind when the checkpoint is not replaced
+                try {
+                    Files.deleteIfExists(temporaryCheckpointFile);
+                } catch (IOException deleteException) {
+                    e.addSuppressed(deleteException);
+                }
+
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolveCheckpointFile(long userId, TransactionType type) {
+        String typeName = type == null ? "all" : type.name().toLowerCase(Locale.ROOT);
+
+        return directory.resolve("transactions-" + userId + "-" + typeName + ".properties");
+    }
+}
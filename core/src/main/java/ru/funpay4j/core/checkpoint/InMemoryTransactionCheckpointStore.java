@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core.checkpoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.core.objects.transaction.TransactionType;
+
+/**
+ * This implementation of TransactionCheckpointStore keeps the checkpoints in memory, so they are
+ * lost when the application stops. Use {@link FileTransactionCheckpointStore} to keep them between
+ * runs
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class InMemoryTransactionCheckpointStore implements TransactionCheckpointStore {
+    private final Map<String, TransactionCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override
+    @Nullable
+    public TransactionCheckpoint load(long userId, @Nullable TransactionType type) {
+        return checkpoints.get(toKey(userId, type));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void save(
+            long userId,
+            @Nullable TransactionType type,
+            @NonNull TransactionCheckpoint checkpoint) {
+        checkpoints.put(toKey(userId, type), checkpoint);
+    }
+
+    private String toKey(long userId, TransactionType type) {
+        return userId + ":" + (type == null ? "all" : type.name());
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core.checkpoint;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.core.objects.transaction.TransactionType;
+
+/**
+ * Interface for storing transactions sync checkpoints between runs
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public interface TransactionCheckpointStore {
+    /**
+     * Load checkpoint
+     *
+     * @param userId user id whose transactions are synced
+     * @param type type of synced transactions, null if all types are synced
+     * @return checkpoint or null if the transactions have not been synced yet
+     */
+    @Nullable
+    TransactionCheckpoint load(long userId, @Nullable TransactionType type);
+
+    /**
+     * Save checkpoint
+     *
+     * @param userId user id whose transactions are synced
+     * @param type type of synced transactions, null if all types are synced
+     * @param checkpoint checkpoint which will be saved
+     */
+    void save(long userId, @Nullable TransactionType type, TransactionCheckpoint checkpoint);
+}
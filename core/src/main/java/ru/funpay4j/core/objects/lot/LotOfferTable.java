@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core.objects.lot;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import ru.funpay4j.core.objects.user.PreviewSeller;
+
+/**
+ * This object represents the preview offers of the FunPay lot stored by columns
+ *
+ * <p>The value of the row is stored at the row index of every column. The sellers are stored once
+ * in the dictionary by their user id, no matter how many offers they have, and the seller of the
+ * row is looked up by its id in the sellerIds column. Whether the seller was online is stored for
+ * every row in the sellerOnline column
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class LotOfferTable {
+    private long lotId;
+
+    private long gameId;
+
+    private long[] offerIds;
+
+    private String[] shortDescriptions;
+
+    private double[] prices;
+
+    private BitSet autoDelivery;
+
+    private BitSet promo;
+
+    private long[] sellerIds;
+
+    private BitSet sellerOnline;
+
+    private Map<Long, PreviewSeller> sellers;
+
+    /**
+     * Get the number of the offers
+     *
+     * @return number of the offers
+     */
+    public int size() {
+        return offerIds.length;
+    }
+
+    /**
+     * Get the seller of the offer
+     *
+     * @param row row index of the offer
+     * @return seller of the offer
+     */
+    public PreviewSeller getSeller(int row) {
+        return sellers.get(sellerIds[row]);
+    }
+}
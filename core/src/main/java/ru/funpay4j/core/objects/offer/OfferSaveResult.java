@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core.objects.offer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This object represents the result of saving one offer of the batch
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class OfferSaveResult {
+    private long lotId;
+
+    private long offerId;
+
+    /** Exception thrown while saving the offer, null if the offer has been saved */
+    @Nullable private Exception exception;
+
+    /**
+     * Check whether the offer has been saved
+     *
+     * @return true if the offer has been saved
+     */
+    public boolean isSaved() {
+        return exception == null;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core.raise;
+
+import java.time.Duration;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface for receiving the results of the raises executed by {@link RaiseScheduler}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public interface RaiseListener {
+    /**
+     * Called when the offers have been raised
+     *
+     * @param raise raised offers
+     * @param nextRaiseDelay time after which the offers will be raised again
+     */
+    default void onRaised(ScheduledRaise raise, Duration nextRaiseDelay) {}
+
+    /**
+     * Called when the offers could not be raised yet
+     *
+     * @param raise offers which have not been raised
+     * @param nextRaiseDelay time after which the offers will be raised again
+     */
+    default void onCooldown(ScheduledRaise raise, Duration nextRaiseDelay) {}
+
+    /**
+     * Called when the raise failed
+     *
+     * @param raise offers which have not been raised
+     * @param e exception thrown by the raise
+     * @param nextRaiseDelay time after which the offers will be raised again, null if the raise
+     *     has been cancelled because the golden key is invalid
+     */
+    default void onFailed(
+            ScheduledRaise raise, Exception e, @Nullable Duration nextRaiseDelay) {}
+}
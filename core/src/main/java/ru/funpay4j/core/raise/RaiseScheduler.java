@@ -0,0 +1,347 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core.raise;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
+import ru.funpay4j.client.exceptions.offer.OfferAlreadyRaisedException;
+import ru.funpay4j.core.AuthorizedFunPayExecutor;
+import ru.funpay4j.core.commands.offer.RaiseAllOffers;
+
+/**
+ * This scheduler raises the offers of many accounts, games and lots, each exactly when FunPay
+ * allows it
+ *
+ * <p>All the scheduled raises are kept in one priority queue ordered by the time of the next raise
+ * and only one task waiting for the earliest of them is scheduled on the executor. When the offers
+ * could not be raised yet, the next raise time is taken from the wait message returned by FunPay,
+ * for example "Подождите 4 часа.", so no raise call is wasted on polling
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class RaiseScheduler implements AutoCloseable {
+    private static final Duration DEFAULT_RAISE_INTERVAL = Duration.ofHours(4);
+
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private static final RaiseListener NO_OP_LISTENER = new RaiseListener() {};
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Duration raiseInterval;
+
+    private final Duration retryDelay;
+
+    private final RaiseListener listener;
+
+    private final LongSupplier ticker;
+
+    private final PriorityQueue<RaiseTask> dueRaises =
+            new PriorityQueue<>(
+                    Comparator.<RaiseTask>comparingLong(task -> task.dueNanos)
+                            .thenComparingLong(task -> task.sequence));
+
+    private final Map<ScheduledRaise, RaiseTask> raiseTasks = new HashMap<>();
+
+    private long nextSequence;
+
+    private ScheduledFuture<?> wakeup;
+
+    private long wakeupNanos;
+
+    private long wakeupGeneration;
+
+    private boolean closed;
+
+    /**
+     * Creates a new RaiseScheduler instance
+     *
+     * @param scheduler scheduler on which the raises will be executed
+     * @param raiseInterval time after which the offers are raised again after a successful raise,
+     *     4 hours if null
+     * @param retryDelay time after which the failed raise is retried, 1 minute if null
+     * @param listener listener receiving the results of the raises, none if null
+     */
+    @Builder
+    public RaiseScheduler(
+            @NonNull ScheduledExecutorService scheduler,
+            Duration raiseInterval,
+            Duration retryDelay,
+            RaiseListener listener) {
+        this(
+                scheduler,
+                raiseInterval == null ? DEFAULT_RAISE_INTERVAL : raiseInterval,
+                retryDelay == null ? DEFAULT_RETRY_DELAY : retryDelay,
+                listener == null ? NO_OP_LISTENER : listener,
+                System::nanoTime);
+    }
+
+    RaiseScheduler(
+            ScheduledExecutorService scheduler,
+            Duration raiseInterval,
+            Duration retryDelay,
+            RaiseListener listener,
+            LongSupplier ticker) {
+        this.scheduler = scheduler;
+        this.raiseInterval = raiseInterval;
+        this.retryDelay = retryDelay;
+        this.listener = listener;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Schedule the offers to be raised now and then every time FunPay allows it
+     *
+     * @param executor executor of the account whose offers will be raised
+     * @param gameId game id for which offers will be raised
+     * @param lotId lot id for which offers will be raised
+     * @return scheduled raise which can be used to cancel it
+     */
+    public ScheduledRaise schedule(
+            @NonNull AuthorizedFunPayExecutor executor, long gameId, long lotId) {
+        return schedule(executor, gameId, lotId, Duration.ZERO);
+    }
+
+    /**
+     * Schedule the offers to be raised after the delay and then every time FunPay allows it. If the
+     * offers are already scheduled, only the time of their next raise is changed
+     *
+     * @param executor executor of the account whose offers will be raised
+     * @param gameId game id for which offers will be raised
+     * @param lotId lot id for which offers will be raised
+     * @param delay time after which the offers will be raised
+     * @return scheduled raise which can be used to cancel it
+     */
+    public synchronized ScheduledRaise schedule(
+            @NonNull AuthorizedFunPayExecutor executor,
+            long gameId,
+            long lotId,
+            @NonNull Duration delay) {
+        if (closed) {
+            throw new IllegalStateException("RaiseScheduler is closed");
+        }
+
+        ScheduledRaise raise = new ScheduledRaise(executor.getGoldenKey(), gameId, lotId);
+        RaiseTask task = raiseTasks.get(raise);
+
+        if (task == null) {
+            task = new RaiseTask(raise, executor);
+            raiseTasks.put(raise, task);
+        } else {
+            dueRaises.remove(task);
+        }
+
+        enqueue(task, ticker.getAsLong() + delay.toNanos());
+        armWakeup();
+
+        return raise;
+    }
+
+    /**
+     * Cancel the scheduled raise
+     *
+     * @param raise raise which will be cancelled
+     * @return true if the raise has been scheduled
+     */
+    public synchronized boolean cancel(@NonNull ScheduledRaise raise) {
+        RaiseTask task = raiseTasks.remove(raise);
+
+        if (task == null) return false;
+
+        dueRaises.remove(task);
+        armWakeup();
+
+        return true;
+    }
+
+    /**
+     * Get the time left before the next raise of the offers
+     *
+     * @param raise scheduled raise
+     * @return time left before the next raise, null if the raise is not scheduled or is being
+     *     executed right now
+     */
+    @Nullable
+    public synchronized Duration getNextRaiseDelay(@NonNull ScheduledRaise raise) {
+        RaiseTask task = raiseTasks.get(raise);
+
+        if (task == null || !task.queued) return null;
+
+        return Duration.ofNanos(Math.max(0, task.dueNanos - ticker.getAsLong()));
+    }
+
+    /**
+     * Get the number of the scheduled raises
+     *
+     * @return number of the scheduled raises
+     */
+    public synchronized int size() {
+        return raiseTasks.size();
+    }
+
+    /** Cancel all the scheduled raises. The raise which is being executed right now is finished */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        raiseTasks.clear();
+        dueRaises.clear();
+        armWakeup();
+    }
+
+    private void runDueRaises(long generation) {
+        List<RaiseTask> tasks = new ArrayList<>();
+
+        synchronized (this) {
+            long now = ticker.getAsLong();
+
+            // the wakeup could have been replaced by an earlier one after it had started
+            if (generation == wakeupGeneration) wakeup = null;
+
+            while (!dueRaises.isEmpty() && dueRaises.peek().dueNanos <= now) {
+                RaiseTask task = dueRaises.poll();
+
+                task.queued = false;
+                tasks.add(task);
+            }
+        }
+
+        int executedCount = 0;
+
+        try {
+            while (executedCount < tasks.size()) {
+                raise(tasks.get(executedCount));
+                executedCount++;
+            }
+        } finally {
+            synchronized (this) {
+                // the raises left after a failed listener are retried after the retry delay
+                for (RaiseTask task : tasks.subList(executedCount, tasks.size())) {
+                    if (raiseTasks.get(task.raise) == task && !task.queued) {
+                        enqueue(task, ticker.getAsLong() + retryDelay.toNanos());
+                    }
+                }
+
+                armWakeup();
+            }
+        }
+    }
+
+    private void raise(RaiseTask task) {
+        ScheduledRaise raise = task.raise;
+
+        try {
+            task.executor.execute(
+                    RaiseAllOffers.builder()
+                            .gameId(raise.getGameId())
+                            .lotId(raise.getLotId())
+                            .build());
+        } catch (OfferAlreadyRaisedException e) {
+            Duration nextRaiseDelay =
+                    e.getWaitDuration() == null ? retryDelay : e.getWaitDuration();
+
+            reschedule(task, nextRaiseDelay);
+            listener.onCooldown(raise, nextRaiseDelay);
+
+            return;
+        } catch (InvalidGoldenKeyException e) {
+            // the raise will never succeed with this golden key
+            reschedule(task, null);
+            listener.onFailed(raise, e, null);
+
+            return;
+        } catch (Exception e) {
+            reschedule(task, retryDelay);
+            listener.onFailed(raise, e, retryDelay);
+
+            return;
+        }
+
+        reschedule(task, raiseInterval);
+        listener.onRaised(raise, raiseInterval);
+    }
+
+    private synchronized void reschedule(RaiseTask task, Duration nextRaiseDelay) {
+        if (nextRaiseDelay == null) {
+            raiseTasks.remove(task.raise, task);
+        } else if (raiseTasks.get(task.raise) == task && !task.queued) {
+            // otherwise the raise has been cancelled or rescheduled while it was executed
+            enqueue(task, ticker.getAsLong() + nextRaiseDelay.toNanos());
+        }
+    }
+
+    private void enqueue(RaiseTask task, long dueNanos) {
+        task.dueNanos = dueNanos;
+        task.sequence = nextSequence++;
+        task.queued = true;
+        dueRaises.add(task);
+    }
+
+    private void armWakeup() {
+        RaiseTask nextTask = dueRaises.peek();
+
+        if (wakeup != null) {
+            if (nextTask != null && wakeupNanos <= nextTask.dueNanos) return;
+
+            wakeup.cancel(false);
+            wakeup = null;
+        }
+
+        if (nextTask == null) return;
+
+        long generation = ++wakeupGeneration;
+
+        wakeupNanos = nextTask.dueNanos;
+        wakeup =
+                scheduler.schedule(
+                        () -> runDueRaises(generation),
+                        Math.max(0, wakeupNanos - ticker.getAsLong()),
+                        TimeUnit.NANOSECONDS);
+    }
+
+    private static class RaiseTask {
+        private final ScheduledRaise raise;
+
+        private final AuthorizedFunPayExecutor executor;
+
+        private long dueNanos;
+
+        private long sequence;
+
+        private boolean queued;
+
+        private RaiseTask(ScheduledRaise raise, AuthorizedFunPayExecutor executor) {
+            this.raise = raise;
+            this.executor = executor;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core.raise;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * This object represents the offers of the account raised by {@link RaiseScheduler}
+ *
+ * <p>The scheduled raise is immutable and equal to any other raise of the same offers of the same
+ * account, so it can be kept by the caller to cancel the raise later
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class ScheduledRaise {
+    /** Golden key of the account, neither exposed nor written to toString so it stays secret */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    String goldenKey;
+
+    long gameId;
+
+    long lotId;
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core.session;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+import lombok.NonNull;
+
+import org.jetbrains.annotations.Nullable;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.client.objects.CsrfTokenAndPHPSESSID;
+import ru.funpay4j.client.parser.FunPayParser;
+
+/**
+ * This FunPay session holds the csrfToken and PHPSESSID used by the authorized write requests
+ *
+ * <p>The tokens are replaced atomically as an immutable pair. When a request reports the tokens
+ * as invalid, only the first caller fetches the new ones, and the other callers holding the same
+ * invalid tokens wait for it and reuse its result. The tokens can also be refreshed in the
+ * background with {@link #scheduleRefresh(ScheduledExecutorService, Duration)}, so the write
+ * requests do not have to fetch them inline
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class FunPaySession {
+    private final FunPayParser funPayParser;
+
+    private final String goldenKey;
+
+    private final LongSupplier ticker;
+
+    private final AtomicReference<ObtainedTokens> currentTokens = new AtomicReference<>();
+
+    private final Object refreshLock = new Object();
+
+    private volatile long tokenLifetimeNanos = Long.MAX_VALUE;
+
+    /**
+     * Creates a new FunPaySession instance
+     *
+     * @param funPayParser parser which will be used to fetch the tokens
+     * @param goldenKey golden key which will be used to authorize the user
+     */
+    public FunPaySession(@NonNull FunPayParser funPayParser, @NonNull String goldenKey) {
+        this(funPayParser, goldenKey, System::nanoTime);
+    }
+
+    FunPaySession(FunPayParser funPayParser, String goldenKey, LongSupplier ticker) {
+        this.funPayParser = funPayParser;
+        this.goldenKey = goldenKey;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Get the current tokens, fetching them if they are missing or older than the token lifetime
+     *
+     * @return tokens
+     * @throws FunPayApiException if the other api-related exception
+     */
+    public SessionTokens getTokens() throws FunPayApiException {
+        ObtainedTokens obtainedTokens = currentTokens.get();
+
+        if (isUsable(obtainedTokens)) return obtainedTokens.tokens;
+
+        return refresh(obtainedTokens == null ? null : obtainedTokens.tokens);
+    }
+
+    /**
+     * Get the current tokens without fetching them
+     *
+     * @return tokens or null if they have not been obtained yet
+     */
+    @Nullable
+    public SessionTokens peekTokens() {
+        ObtainedTokens obtainedTokens = currentTokens.get();
+
+        return obtainedTokens == null ? null : obtainedTokens.tokens;
+    }
+
+    /**
+     * Replace the current tokens with the ones obtained elsewhere
+     *
+     * @param tokens tokens which will be used by the next requests
+     */
+    public void setTokens(@NonNull SessionTokens tokens) {
+        currentTokens.set(new ObtainedTokens(tokens, ticker.getAsLong()));
+    }
+
+    /**
+     * Replace the current tokens with the ones computed from them. The update is retried if the
+     * tokens are replaced concurrently, so it must not have side effects
+     *
+     * @param update function computing the new tokens from the current ones, which are null if
+     *     they have not been obtained yet
+     * @return new tokens
+     */
+    public SessionTokens updateTokens(@NonNull UnaryOperator<SessionTokens> update) {
+        while (true) {
+            ObtainedTokens obtainedTokens = currentTokens.get();
+            SessionTokens tokens =
+                    update.apply(obtainedTokens == null ? null : obtainedTokens.tokens);
+
+            if (currentTokens.compareAndSet(
+                    obtainedTokens, new ObtainedTokens(tokens, ticker.getAsLong()))) {
+                return tokens;
+            }
+        }
+    }
+
+    /**
+     * Fetch new tokens unless the invalid tokens have already been replaced
+     *
+     * @param invalidTokens tokens rejected by FunPay, null if there were no tokens
+     * @return tokens which replaced the invalid ones
+     * @throws FunPayApiException if the other api-related exception
+     */
+    public SessionTokens refresh(@Nullable SessionTokens invalidTokens) throws FunPayApiException {
+        synchronized (refreshLock) {
+            ObtainedTokens obtainedTokens = currentTokens.get();
+
+            // another caller has already replaced the invalid tokens while this one was waiting
+            if (isUsable(obtainedTokens) && obtainedTokens.tokens != invalidTokens) {
+                return obtainedTokens.tokens;
+            }
+
+            return fetchTokens();
+        }
+    }
+
+    /**
+     * Fetch new tokens regardless of the current ones
+     *
+     * @return new tokens
+     * @throws FunPayApiException if the other api-related exception
+     */
+    public SessionTokens refresh() throws FunPayApiException {
+        synchronized (refreshLock) {
+            return fetchTokens();
+        }
+    }
+
+    /**
+     * Set the time after which the tokens are considered expired and fetched again before use
+     *
+     * @param tokenLifetime lifetime of the tokens, null if the tokens never expire
+     */
+    public void setTokenLifetime(@Nullable Duration tokenLifetime) {
+        this.tokenLifetimeNanos = tokenLifetime == null ? Long.MAX_VALUE : tokenLifetime.toNanos();
+    }
+
+    /**
+     * Refresh the tokens periodically in the background. The period should be shorter than the
+     * token lifetime, so the tokens never expire in the middle of the write requests. Failed
+     * background refreshes keep the current tokens
+     *
+     * @param scheduler scheduler which will run the refreshes
+     * @param period period between the refreshes
+     * @return future which can be used to stop the refreshes
+     */
+    public ScheduledFuture<?> scheduleRefresh(
+            @NonNull ScheduledExecutorService scheduler, @NonNull Duration period) {
+        long periodNanos = period.toNanos();
+
+        return scheduler.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        refresh();
+                    } catch (FunPayApiException | RuntimeException ignored) {
+                        // the tokens will be fetched inline once FunPay rejects the current ones
+                    }
+                },
+                periodNanos,
+                periodNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    private SessionTokens fetchTokens() throws FunPayApiException {
+        CsrfTokenAndPHPSESSID csrfTokenAndPHPSESSID =
+                funPayParser.parseCsrfTokenAndPHPSESSID(goldenKey);
+        SessionTokens tokens =
+                new SessionTokens(
+                        csrfTokenAndPHPSESSID.getCsrfToken(), csrfTokenAndPHPSESSID.getPHPSESSID());
+
+        setTokens(tokens);
+
+        return tokens;
+    }
+
+    private boolean isUsable(ObtainedTokens obtainedTokens) {
+        return obtainedTokens != null
+                && obtainedTokens.tokens.getCsrfToken() != null
+                && obtainedTokens.tokens.getPHPSESSID() != null
+                && ticker.getAsLong() - obtainedTokens.obtainedAtNanos < tokenLifetimeNanos;
+    }
+
+    private static class ObtainedTokens {
+        private final SessionTokens tokens;
+
+        private final long obtainedAtNanos;
+
+        private ObtainedTokens(SessionTokens tokens, long obtainedAtNanos) {
+            this.tokens = tokens;
+            this.obtainedAtNanos = obtainedAtNanos;
+        }
+    }
+}
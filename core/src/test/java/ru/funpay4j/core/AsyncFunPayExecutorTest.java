@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.offer.OfferNotFoundException;
+import ru.funpay4j.core.commands.game.GetPromoGames;
+import ru.funpay4j.core.commands.lot.GetLot;
+import ru.funpay4j.core.commands.offer.GetOffer;
+import ru.funpay4j.core.commands.user.GetSellerReviews;
+import ru.funpay4j.core.commands.user.GetUser;
+import ru.funpay4j.core.objects.game.PromoGame;
+import ru.funpay4j.core.objects.lot.Lot;
+import ru.funpay4j.core.objects.user.AdvancedSellerReview;
+import ru.funpay4j.core.objects.user.Seller;
+import ru.funpay4j.core.objects.user.SellerReview;
+import ru.funpay4j.core.objects.user.User;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class AsyncFunPayExecutorTest {
+    private AsyncFunPayExecutor funPayExecutor;
+
+    private MockWebServer mockWebServer;
+
+    private static final String GET_USER_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getUserResponse.html";
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+    private static final String GET_SELLER_REVIEWS_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getSellerReviewsResponse.html";
+    private static final String GET_PROMO_GAMES_JSON_RESPONSE_PATH =
+            "src/test/resources/json/client/getPromoGamesResponse.json";
+
+    @BeforeEach
+    void setUp() {
+        this.mockWebServer = new MockWebServer();
+        this.funPayExecutor = new AsyncFunPayExecutor(this.mockWebServer.url("/").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testGetLot() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        Lot result =
+                funPayExecutor
+                        .execute(GetLot.builder().lotId(149L).build())
+                        .get(5, TimeUnit.SECONDS);
+
+        assertNotNull(result);
+        assertFalse(result.getPreviewOffers().isEmpty());
+        assertFalse(result.getLotCounters().isEmpty());
+        assertEquals(result.getGameId(), 41);
+    }
+
+    @Test
+    void testGetLotsConcurrently() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        int lotCount = 20;
+
+        List<CompletableFuture<Lot>> results = new ArrayList<>();
+
+        for (int i = 0; i < lotCount; i++) {
+            mockWebServer.enqueue(
+                    new MockResponse()
+                            .setBody(htmlContent)
+                            .setResponseCode(200)
+                            .setBodyDelay(100, TimeUnit.MILLISECONDS));
+            results.add(funPayExecutor.execute(GetLot.builder().lotId(149L).build()));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(lotCount, mockWebServer.getRequestCount());
+        for (CompletableFuture<Lot> result : results) {
+            assertEquals(41, result.get().getGameId());
+        }
+    }
+
+    @Test
+    void testGetPromoGames() throws Exception {
+        String jsonContent =
+                new String(Files.readAllBytes(Paths.get(GET_PROMO_GAMES_JSON_RESPONSE_PATH)));
+
+        mockWebServer.enqueue(new MockResponse().setBody(jsonContent).setResponseCode(200));
+
+        List<PromoGame> result =
+                funPayExecutor
+                        .execute(GetPromoGames.builder().query("dota").build())
+                        .get(5, TimeUnit.SECONDS);
+
+        assertNotNull(result);
+        assertFalse(result.isEmpty());
+        assertFalse(result.get(0).getPromoGameCounters().isEmpty());
+    }
+
+    @Test
+    void testGetOfferNotFound() throws Exception {
+        String notFoundHtml =
+                "<div class=\"page-content-full\"><div class=\"page-header\"></div></div>";
+
+        mockWebServer.enqueue(new MockResponse().setBody(notFoundHtml).setResponseCode(200));
+
+        CompletableFuture<?> result =
+                funPayExecutor.execute(GetOffer.builder().offerId(1L).build());
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof OfferNotFoundException);
+    }
+
+    @Test
+    void testGetUser() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_USER_HTML_RESPONSE_PATH)));
+
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        User result =
+                funPayExecutor
+                        .execute(GetUser.builder().userId(2L).build())
+                        .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result instanceof Seller);
+        assertFalse(((Seller) result).getLastReviews().isEmpty());
+        assertFalse(((Seller) result).getPreviewOffers().isEmpty());
+    }
+
+    @Test
+    void testGetSellerReviews() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_SELLER_REVIEWS_HTML_RESPONSE_PATH)));
+
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        List<SellerReview> result =
+                funPayExecutor
+                        .execute(GetSellerReviews.builder().pages(1).userId(2L).build())
+                        .get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(0) instanceof AdvancedSellerReview);
+    }
+}
@@ -19,29 +19,61 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
-
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import ru.funpay4j.client.client.OkHttpFunPayClient;
+import ru.funpay4j.client.exceptions.FunPayApiException;
 import ru.funpay4j.client.exceptions.InvalidGoldenKeyException;
 import ru.funpay4j.client.exceptions.offer.OfferAlreadyRaisedException;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionType;
+import ru.funpay4j.client.objects.transaction.ParsedTransactionsPage;
+import ru.funpay4j.client.parser.JsoupFunPayParser;
+import ru.funpay4j.core.checkpoint.FileTransactionCheckpointStore;
+import ru.funpay4j.core.checkpoint.InMemoryTransactionCheckpointStore;
+import ru.funpay4j.core.checkpoint.TransactionCheckpoint;
+import ru.funpay4j.core.checkpoint.TransactionCheckpointStore;
+import ru.funpay4j.core.commands.offer.BatchEditOffers;
 import ru.funpay4j.core.commands.offer.CreateOffer;
 import ru.funpay4j.core.commands.offer.CreateOfferImage;
 import ru.funpay4j.core.commands.offer.DeleteOffer;
 import ru.funpay4j.core.commands.offer.EditOffer;
 import ru.funpay4j.core.commands.offer.RaiseAllOffers;
 import ru.funpay4j.core.commands.transaction.GetTransactions;
+import ru.funpay4j.core.commands.transaction.GetTransactionsPage;
+import ru.funpay4j.core.commands.transaction.StreamTransactions;
+import ru.funpay4j.core.commands.transaction.SyncTransactions;
 import ru.funpay4j.core.commands.user.UpdateAvatar;
+import ru.funpay4j.core.objects.offer.OfferSaveResult;
 import ru.funpay4j.core.objects.transaction.Transaction;
+import ru.funpay4j.core.objects.transaction.TransactionsPage;
+import ru.funpay4j.utils.FunPayDateParser;
 
 /**
  * @author panic08
@@ -289,4 +321,349 @@ class AuthorizedFunPayExecutorTest {
         assertNotNull(firstTransaction.getDate());
         assertFalse(firstTransaction.getTitle().isEmpty());
     }
+
+    @Test
+    void testGetTransactionsPageStartsFromCursor() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        TransactionsPage result =
+                funPayExecutor.execute(
+                        GetTransactionsPage.builder()
+                                .userId(123L)
+                                .pages(1)
+                                .startCursor("30000000")
+                                .build());
+
+        assertEquals(8, result.getTransactions().size());
+        assertEquals("26924320", result.getNextCursor());
+        assertTrue(mockWebServer.takeRequest().getBody().readUtf8().contains("30000000"));
+    }
+
+    @Test
+    void testStreamTransactionsFetchesPagesLazily() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        // one page for the first stream and two pages for the second one
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        }
+
+        long userId = 123L;
+
+        List<Transaction> firstPageResult =
+                funPayExecutor
+                        .execute(StreamTransactions.builder().userId(userId).build())
+                        .limit(5)
+                        .collect(Collectors.toList());
+
+        assertEquals(5, firstPageResult.size());
+        assertEquals(75266034L, firstPageResult.get(0).getId());
+        assertEquals(1, mockWebServer.getRequestCount());
+
+        List<Transaction> twoPagesResult =
+                funPayExecutor
+                        .execute(StreamTransactions.builder().userId(userId).pages(2).build())
+                        .collect(Collectors.toList());
+
+        assertEquals(16, twoPagesResult.size());
+    }
+
+    @Test
+    void testStreamTransactionsStopsAtSince() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        long userId = 123L;
+        // the transaction dates are written in Moscow time
+        Date since =
+                Date.from(
+                        LocalDate.of(2022, 10, 7)
+                                .atStartOfDay(FunPayDateParser.FUNPAY_ZONE_ID)
+                                .toInstant());
+
+        List<Transaction> result =
+                funPayExecutor
+                        .execute(StreamTransactions.builder().userId(userId).since(since).build())
+                        .collect(Collectors.toList());
+
+        assertEquals(1, result.size());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testSyncTransactionsReturnsOnlyDelta(@TempDir Path checkpointDirectory) throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        // the same page, but with a new transaction in place of the newest one
+        String htmlContentWithNewTransaction = htmlContent.replace("75266034", "75266035");
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(
+                new MockResponse().setBody(htmlContentWithNewTransaction).setResponseCode(200));
+
+        long userId = 123L;
+        SyncTransactions command = SyncTransactions.builder().userId(userId).pages(1).build();
+        funPayExecutor.setTransactionCheckpointStore(
+                new FileTransactionCheckpointStore(checkpointDirectory));
+
+        List<Transaction> firstSyncResult = funPayExecutor.execute(command);
+
+        assertEquals(8, firstSyncResult.size());
+        assertEquals(75266034L, firstSyncResult.get(0).getId());
+
+        List<Transaction> secondSyncResult = funPayExecutor.execute(command);
+
+        assertEquals(0, secondSyncResult.size());
+
+        // the checkpoint must survive a restart
+        funPayExecutor.setTransactionCheckpointStore(
+                new FileTransactionCheckpointStore(checkpointDirectory));
+
+        List<Transaction> thirdSyncResult = funPayExecutor.execute(command);
+
+        assertEquals(1, thirdSyncResult.size());
+        assertEquals(75266035L, thirdSyncResult.get(0).getId());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testFileCheckpointStoreKeepsCheckpointWithoutDate(@TempDir Path checkpointDirectory) {
+        TransactionCheckpointStore checkpointStore =
+                new FileTransactionCheckpointStore(checkpointDirectory);
+
+        checkpointStore.save(1L, null, new TransactionCheckpoint(26924320L, null));
+
+        assertEquals(new TransactionCheckpoint(26924320L, null), checkpointStore.load(1L, null));
+    }
+
+    @Test
+    void testFileCheckpointStoreDeletesTemporaryFileWhenSaveFails(
+            @TempDir Path checkpointDirectory) throws Exception {
+        // a non-empty directory in place of the checkpoint file cannot be replaced
+        Path checkpointFile = checkpointDirectory.resolve("transactions-1-all.properties");
+        Files.createDirectories(checkpointFile);
+        Files.createFile(checkpointFile.resolve("content"));
+        TransactionCheckpointStore checkpointStore =
+                new FileTransactionCheckpointStore(checkpointDirectory);
+
+        assertThrows(
+                UncheckedIOException.class,
+                () -> checkpointStore.save(1L, null, new TransactionCheckpoint(1L, new Date())));
+
+        try (Stream<Path> checkpointFiles = Files.list(checkpointDirectory)) {
+            assertEquals(
+                    Collections.singletonList(checkpointFile),
+                    checkpointFiles.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testSyncTransactionsUsesInMemoryCheckpointStoreByDefault() {
+        assertTrue(
+                funPayExecutor.getTransactionCheckpointStore()
+                        instanceof InMemoryTransactionCheckpointStore);
+    }
+
+    @Test
+    void testSyncTransactionsKeepsCheckpointWhenStoppedByPagesLimit(
+            @TempDir Path checkpointDirectory) throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        String lastPageHtmlContent =
+                htmlContent.replace(
+                        "name=\"continue\" value=\"26924320\"", "name=\"continue\" value=\"\"");
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(lastPageHtmlContent).setResponseCode(200));
+
+        long userId = 123L;
+        SyncTransactions command = SyncTransactions.builder().userId(userId).pages(1).build();
+        TransactionCheckpointStore checkpointStore =
+                new FileTransactionCheckpointStore(checkpointDirectory);
+        // older than every transaction of the page, so the page does not reach it
+        TransactionCheckpoint oldCheckpoint = new TransactionCheckpoint(1L, new Date(0));
+        checkpointStore.save(userId, null, oldCheckpoint);
+        funPayExecutor.setTransactionCheckpointStore(checkpointStore);
+
+        List<Transaction> firstSyncResult = funPayExecutor.execute(command);
+
+        assertEquals(8, firstSyncResult.size());
+        assertEquals(oldCheckpoint, checkpointStore.load(userId, null));
+
+        List<Transaction> secondSyncResult = funPayExecutor.execute(command);
+
+        assertEquals(8, secondSyncResult.size());
+        assertEquals(75266034L, checkpointStore.load(userId, null).getTransactionId());
+    }
+
+    @Test
+    void testSyncTransactionsKeepsCheckpointWhenParserHasNoCursors() throws Exception {
+        String htmlContent =
+                new String(Files.readAllBytes(Paths.get(GET_TRANSACTIONS_HTML_RESPONSE_PATH)));
+        // the last page, so a parser supporting cursors would have reached the end
+        String lastPageHtmlContent =
+                htmlContent.replace(
+                        "name=\"continue\" value=\"26924320\"", "name=\"continue\" value=\"\"");
+        mockWebServer.enqueue(new MockResponse().setBody(lastPageHtmlContent).setResponseCode(200));
+
+        OkHttpClient httpClient = new OkHttpClient();
+        String baseURL = mockWebServer.url("/").toString();
+        JsoupFunPayParser parserWithoutCursors = new JsoupFunPayParser(httpClient, baseURL) {
+            @Override
+            public boolean isCursorSupported() {
+                return false;
+            }
+
+            @Override
+            public ParsedTransactionsPage parseTransactionsPage(
+                    String goldenKey,
+                    long userId,
+                    ParsedTransactionType type,
+                    int pages,
+                    String startCursor)
+                    throws FunPayApiException {
+                return new ParsedTransactionsPage(
+                        parseTransactions(goldenKey, userId, pages), null);
+            }
+        };
+        AuthorizedFunPayExecutor executorWithoutCursors =
+                new AuthorizedFunPayExecutor(
+                        "example",
+                        parserWithoutCursors,
+                        new OkHttpFunPayClient(httpClient, baseURL));
+
+        long userId = 123L;
+        TransactionCheckpointStore checkpointStore = new InMemoryTransactionCheckpointStore();
+        // older than every transaction of the page, so the page does not reach it
+        TransactionCheckpoint oldCheckpoint = new TransactionCheckpoint(1L, new Date(0));
+        checkpointStore.save(userId, null, oldCheckpoint);
+        executorWithoutCursors.setTransactionCheckpointStore(checkpointStore);
+
+        List<Transaction> result =
+                executorWithoutCursors.execute(
+                        SyncTransactions.builder().userId(userId).pages(1).build());
+
+        assertEquals(8, result.size());
+        assertEquals(oldCheckpoint, checkpointStore.load(userId, null));
+    }
+
+    @Test
+    void testBatchEditOffersSharesRefreshAndReportsFailures() throws Exception {
+        String htmlContent =
+                new String(
+                        Files.readAllBytes(
+                                Paths.get(GET_CSRF_TOKEN_AND_PHPSESSID_HTML_RESPONSE_PATH)));
+        AtomicInteger tokenRequestCount = new AtomicInteger();
+
+        mockWebServer.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("/unknown/")) {
+                            tokenRequestCount.incrementAndGet();
+
+                            return new MockResponse()
+                                    .setBody(htmlContent)
+                                    .setHeader("Set-Cookie", "PHPSESSID=new;")
+                                    .setResponseCode(200);
+                        } else if (request.getHeader("Cookie").contains("PHPSESSID=old")) {
+                            return new MockResponse()
+                                    .setResponseCode(400)
+                                    .setBody(
+                                            "{\"msg\": \"Обновите страницу и повторите попытку.\","
+                                                    + " \"error\": 1}");
+                        } else if (request.getBody().readUtf8().contains("broken offer")) {
+                            return new MockResponse()
+                                    .setResponseCode(200)
+                                    .setBody(
+                                            "{\"done\":false,\"error\":true,"
+                                                    + "\"errors\":{\"price\":\"invalid\"}}");
+                        }
+
+                        return new MockResponse()
+                                .setResponseCode(200)
+                                .setBody("{\"done\":true,\"error\":false,\"errors\":[]}");
+                    }
+                });
+
+        List<EditOffer> offers = new ArrayList<>();
+        for (long offerId = 1; offerId <= 6; offerId++) {
+            offers.add(
+                    EditOffer.builder()
+                            .lotId(210L)
+                            .offerId(offerId)
+                            .price(5.0)
+                            .amount(5)
+                            .shortDescriptionEn(offerId == 4 ? "broken offer" : "test")
+                            .fields(new HashMap<>())
+                            .build());
+        }
+
+        List<OfferSaveResult> results =
+                funPayExecutor.execute(
+                        BatchEditOffers.builder().offers(offers).parallelism(3).build());
+
+        assertEquals(6, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            OfferSaveResult result = results.get(i);
+
+            assertEquals(i + 1, result.getOfferId());
+            assertEquals(result.getOfferId() != 4, result.isSaved());
+        }
+        assertTrue(results.get(3).getException() instanceof RuntimeException);
+        assertEquals(1, tokenRequestCount.get());
+        assertEquals("new", funPayExecutor.getPHPSESSID());
+    }
+
+    @Test
+    void testBatchEditOffersRunsAtMostParallelismTasksOnBatchEditExecutor() throws Exception {
+        String htmlContent =
+                new String(
+                        Files.readAllBytes(
+                                Paths.get(GET_CSRF_TOKEN_AND_PHPSESSID_HTML_RESPONSE_PATH)));
+        ThreadPoolExecutor batchEditExecutor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+
+        mockWebServer.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        if (request.getPath().contains("/unknown/")) {
+                            return new MockResponse().setBody(htmlContent).setResponseCode(200);
+                        }
+
+                        return new MockResponse()
+                                .setResponseCode(200)
+                                .setBody("{\"done\":true,\"error\":false,\"errors\":[]}");
+                    }
+                });
+
+        List<EditOffer> offers = new ArrayList<>();
+        for (long offerId = 1; offerId <= 5; offerId++) {
+            offers.add(
+                    EditOffer.builder()
+                            .lotId(210L)
+                            .offerId(offerId)
+                            .price(5.0)
+                            .amount(5)
+                            .shortDescriptionEn("test")
+                            .fields(new HashMap<>())
+                            .build());
+        }
+
+        funPayExecutor.setBatchEditExecutor(batchEditExecutor);
+
+        try {
+            List<OfferSaveResult> results =
+                    funPayExecutor.execute(
+                            BatchEditOffers.builder().offers(offers).parallelism(2).build());
+
+            assertEquals(5, results.size());
+            assertTrue(results.stream().allMatch(OfferSaveResult::isSaved));
+            assertEquals(2, batchEditExecutor.getTaskCount());
+        } finally {
+            batchEditExecutor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.exceptions.FunPayApiException;
+import ru.funpay4j.core.commands.user.GetUser;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class FunPayAccountPoolTest {
+    private MockWebServer mockWebServer;
+
+    private AtomicLong ticker;
+
+    private FunPayAccountPool accountPool;
+
+    private static final String GET_USER_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getUserResponse.html";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockWebServer = new MockWebServer();
+        this.ticker = new AtomicLong();
+        this.accountPool =
+                new FunPayAccountPool(
+                        new OkHttpClient(),
+                        this.mockWebServer.url("/").toString(),
+                        1,
+                        Duration.ofMinutes(30),
+                        ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testExecutorIsCachedPerAccount() throws Exception {
+        AuthorizedFunPayExecutor firstExecutor = accountPool.execute("first", executor -> executor);
+        AuthorizedFunPayExecutor secondExecutor =
+                accountPool.execute("second", executor -> executor);
+
+        assertSame(firstExecutor, accountPool.execute("first", executor -> executor));
+        assertNotSame(firstExecutor, secondExecutor);
+        assertEquals("first", firstExecutor.getGoldenKey());
+        assertEquals(2, accountPool.size());
+    }
+
+    @Test
+    void testAccountsShareTransport() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_USER_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        accountPool.execute(
+                "first", executor -> executor.execute(GetUser.builder().userId(2L).build()));
+        accountPool.execute(
+                "second", executor -> executor.execute(GetUser.builder().userId(2L).build()));
+
+        Set<String> cookies = new HashSet<>();
+        cookies.add(mockWebServer.takeRequest().getHeader("Cookie"));
+        cookies.add(mockWebServer.takeRequest().getHeader("Cookie"));
+
+        assertTrue(cookies.contains("golden_key=first"));
+        assertTrue(cookies.contains("golden_key=second"));
+    }
+
+    @Test
+    void testConcurrentCallsArePerAccountBounded() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        CountDownLatch firstCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        AtomicInteger runningCalls = new AtomicInteger();
+        AtomicInteger maxRunningCalls = new AtomicInteger();
+
+        try {
+            Future<?> firstCall =
+                    callers.submit(
+                            () ->
+                                    accountPool.execute(
+                                            "first",
+                                            executor -> {
+                                                maxRunningCalls.accumulateAndGet(
+                                                        runningCalls.incrementAndGet(), Math::max);
+                                                firstCallStarted.countDown();
+                                                awaitRelease(releaseFirstCall);
+                                                return runningCalls.decrementAndGet();
+                                            }));
+            firstCallStarted.await();
+
+            Future<?> sameAccountCall =
+                    callers.submit(
+                            () ->
+                                    accountPool.execute(
+                                            "first",
+                                            executor -> {
+                                                maxRunningCalls.accumulateAndGet(
+                                                        runningCalls.incrementAndGet(), Math::max);
+                                                return runningCalls.decrementAndGet();
+                                            }));
+            // another account is not blocked by the busy one
+            accountPool.execute("second", executor -> executor);
+
+            releaseFirstCall.countDown();
+            firstCall.get(5, TimeUnit.SECONDS);
+            sameAccountCall.get(5, TimeUnit.SECONDS);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, maxRunningCalls.get());
+    }
+
+    @Test
+    void testIdleAccountsAreEvicted() throws Exception {
+        AuthorizedFunPayExecutor firstExecutor = accountPool.execute("first", executor -> executor);
+
+        ticker.addAndGet(Duration.ofMinutes(20).toNanos());
+        accountPool.execute("second", executor -> executor);
+        ticker.addAndGet(Duration.ofMinutes(20).toNanos());
+
+        assertEquals(1, accountPool.evictIdle());
+        assertEquals(1, accountPool.size());
+        assertNotSame(firstExecutor, accountPool.execute("first", executor -> executor));
+    }
+
+    private static void awaitRelease(CountDownLatch latch) throws FunPayApiException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FunPayApiException(e.getLocalizedMessage());
+        }
+    }
+}
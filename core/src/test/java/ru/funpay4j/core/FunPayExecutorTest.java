@@ -18,12 +18,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 
@@ -31,13 +33,16 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import ru.funpay4j.client.parser.PreviewSellerRegistry;
 import ru.funpay4j.core.commands.game.GetPromoGames;
 import ru.funpay4j.core.commands.lot.GetLot;
+import ru.funpay4j.core.commands.lot.GetLotTable;
 import ru.funpay4j.core.commands.offer.GetOffer;
 import ru.funpay4j.core.commands.user.GetSellerReviews;
 import ru.funpay4j.core.commands.user.GetUser;
 import ru.funpay4j.core.objects.game.PromoGame;
 import ru.funpay4j.core.objects.lot.Lot;
+import ru.funpay4j.core.objects.lot.LotOfferTable;
 import ru.funpay4j.core.objects.offer.Offer;
 import ru.funpay4j.core.objects.user.AdvancedSellerReview;
 import ru.funpay4j.core.objects.user.Seller;
@@ -88,6 +93,42 @@ class FunPayExecutorTest {
         assertEquals(result.getGameId(), 41);
     }
 
+    @Test
+    void testGetLotTable() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        Lot lot = funPayExecutor.execute(GetLot.builder().lotId(149L).build());
+        LotOfferTable result = funPayExecutor.execute(GetLotTable.builder().lotId(149L).build());
+
+        assertEquals(41, result.getGameId());
+        assertEquals(lot.getPreviewOffers().size(), result.size());
+        assertEquals(lot.getPreviewOffers().get(0).getOfferId(), result.getOfferIds()[0]);
+        assertEquals(lot.getPreviewOffers().get(0).getSeller(), result.getSeller(0));
+    }
+
+    @Test
+    void testGetLotSharesSellersOfRegistry() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        FunPayExecutor executor =
+                new FunPayExecutor(
+                        mockWebServer.url("/").toString(),
+                        new OkHttpClient(),
+                        new PreviewSellerRegistry());
+
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+
+        Lot first = executor.execute(GetLot.builder().lotId(149L).build());
+        Lot second = executor.execute(GetLot.builder().lotId(149L).build());
+
+        assertSame(
+                first.getPreviewOffers().get(0).getSeller(),
+                second.getPreviewOffers().get(0).getSeller());
+    }
+
     @Test
     void testGetPromoGames() throws Exception {
         String jsonContent =
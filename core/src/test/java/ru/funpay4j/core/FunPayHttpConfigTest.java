@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.http.TokenBucketRateLimiter;
+import ru.funpay4j.core.commands.lot.GetLot;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class FunPayHttpConfigTest {
+    private MockWebServer mockWebServer;
+
+    private static final String GET_LOT_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getLotResponse.html";
+
+    @BeforeEach
+    void setUp() {
+        this.mockWebServer = new MockWebServer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testNewHttpClientAppliesSettings() {
+        OkHttpClient httpClient =
+                FunPayHttpConfig.builder()
+                        .maxRequests(32)
+                        .maxRequestsPerHost(8)
+                        .connectTimeout(Duration.ofSeconds(3))
+                        .readTimeout(Duration.ofSeconds(4))
+                        .writeTimeout(Duration.ofSeconds(5))
+                        .callTimeout(Duration.ofSeconds(6))
+                        .http2Enabled(false)
+                        .build()
+                        .newHttpClient();
+
+        assertEquals(32, httpClient.dispatcher().getMaxRequests());
+        assertEquals(8, httpClient.dispatcher().getMaxRequestsPerHost());
+        assertEquals(3000, httpClient.connectTimeoutMillis());
+        assertEquals(4000, httpClient.readTimeoutMillis());
+        assertEquals(5000, httpClient.writeTimeoutMillis());
+        assertEquals(6000, httpClient.callTimeoutMillis());
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1), httpClient.protocols());
+    }
+
+    @Test
+    void testExecutorsSharingClientReuseOneConnection() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        int executorCount = 5;
+        for (int i = 0; i < executorCount; i++) {
+            mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        }
+
+        OkHttpClient httpClient = FunPayHttpConfig.builder().build().newHttpClient();
+        String baseURL = mockWebServer.url("/").toString();
+
+        for (int i = 0; i < executorCount; i++) {
+            FunPayExecutor funPayExecutor =
+                    i % 2 == 0
+                            ? new FunPayExecutor(baseURL, httpClient)
+                            : new AuthorizedFunPayExecutor("example-" + i, baseURL, httpClient);
+
+            funPayExecutor.execute(GetLot.builder().lotId(149L).build());
+        }
+
+        // the sequence number counts the requests sent over the same connection
+        for (int i = 0; i < executorCount; i++) {
+            assertEquals(i, mockWebServer.takeRequest().getSequenceNumber());
+        }
+        assertEquals(1, httpClient.connectionPool().connectionCount());
+    }
+
+    @Test
+    void testDefaultHttpClientIsShared() {
+        assertSame(FunPayHttpConfig.defaultHttpClient(), FunPayHttpConfig.defaultHttpClient());
+    }
+
+    @Test
+    void testBrotliIsRequestedWhenEnabled() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        String baseURL = mockWebServer.url("/").toString();
+
+        new FunPayExecutor(baseURL, FunPayHttpConfig.builder().build().newHttpClient())
+                .execute(GetLot.builder().lotId(149L).build());
+        new FunPayExecutor(
+                        baseURL,
+                        FunPayHttpConfig.builder().brotliEnabled(false).build().newHttpClient())
+                .execute(GetLot.builder().lotId(149L).build());
+
+        assertEquals("br,gzip", mockWebServer.takeRequest().getHeader("Accept-Encoding"));
+        assertEquals("gzip", mockWebServer.takeRequest().getHeader("Accept-Encoding"));
+    }
+
+    @Test
+    void testRateLimiterPacesRequests() throws Exception {
+        String htmlContent = new String(Files.readAllBytes(Paths.get(GET_LOT_HTML_RESPONSE_PATH)));
+        mockWebServer.enqueue(new MockResponse().setBody(htmlContent).setResponseCode(200));
+        String baseURL = mockWebServer.url("/").toString();
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.withDefaultLimits();
+
+        new FunPayExecutor(
+                        baseURL,
+                        FunPayHttpConfig.builder().rateLimiter(rateLimiter).build().newHttpClient())
+                .execute(GetLot.builder().lotId(149L).build());
+
+        assertEquals(1, rateLimiter.getStats().get("/lots/").getAcquireCount());
+    }
+}
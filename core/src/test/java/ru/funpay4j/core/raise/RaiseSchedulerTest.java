@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.core.raise;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.core.AuthorizedFunPayExecutor;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class RaiseSchedulerTest {
+    private MockWebServer mockWebServer;
+
+    private ScheduledExecutorService scheduler;
+
+    private AtomicLong ticker;
+
+    private CountDownLatch raiseLatch;
+
+    private RaiseScheduler raiseScheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockWebServer = new MockWebServer();
+        this.mockWebServer.start();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.ticker = new AtomicLong();
+        this.raiseLatch = new CountDownLatch(1);
+        this.raiseScheduler =
+                new RaiseScheduler(
+                        scheduler,
+                        Duration.ofHours(4),
+                        Duration.ofMinutes(1),
+                        new RaiseListener() {
+                            @Override
+                            public void onRaised(ScheduledRaise raise, Duration nextRaiseDelay) {
+                                raiseLatch.countDown();
+                            }
+
+                            @Override
+                            public void onCooldown(ScheduledRaise raise, Duration nextRaiseDelay) {
+                                raiseLatch.countDown();
+                            }
+
+                            @Override
+                            public void onFailed(
+                                    ScheduledRaise raise, Exception e, Duration nextRaiseDelay) {
+                                raiseLatch.countDown();
+                            }
+                        },
+                        ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        raiseScheduler.close();
+        scheduler.shutdownNow();
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testNextRaiseIsScheduledFromWaitMessage() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setBody("{\"msg\":\"Подождите 2 часа 30 минут.\", \"error\": 1}"));
+
+        ScheduledRaise raise = raiseScheduler.schedule(newExecutor("example"), 41L, 149L);
+
+        assertTrue(raiseLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(Duration.ofHours(2).plusMinutes(30), raiseScheduler.getNextRaiseDelay(raise));
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testNextRaiseIsScheduledAfterRaiseInterval() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setResponseCode(200)
+                        .setBody("{\"msg\":\"Предложения подняты.\", \"error\": 0}"));
+
+        ScheduledRaise raise = raiseScheduler.schedule(newExecutor("example"), 41L, 149L);
+
+        assertTrue(raiseLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(Duration.ofHours(4), raiseScheduler.getNextRaiseDelay(raise));
+    }
+
+    @Test
+    void testInvalidGoldenKeyCancelsRaise() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(403));
+
+        ScheduledRaise raise = raiseScheduler.schedule(newExecutor("invalid"), 41L, 149L);
+
+        assertTrue(raiseLatch.await(5, TimeUnit.SECONDS));
+        assertNull(raiseScheduler.getNextRaiseDelay(raise));
+        assertEquals(0, raiseScheduler.size());
+    }
+
+    @Test
+    void testRaisesAreExecutedInDueOrder() throws Exception {
+        mockWebServer.enqueue(
+                new MockResponse().setResponseCode(200).setBody("{\"msg\":\"Подождите 4 часа.\"}"));
+
+        raiseScheduler.schedule(newExecutor("first"), 41L, 149L, Duration.ofHours(1));
+        raiseScheduler.schedule(newExecutor("second"), 41L, 149L);
+
+        assertTrue(raiseLatch.await(5, TimeUnit.SECONDS));
+        assertEquals("golden_key=second", mockWebServer.takeRequest().getHeader("Cookie"));
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(2, raiseScheduler.size());
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        ScheduledRaise raise =
+                raiseScheduler.schedule(newExecutor("example"), 41L, 149L, Duration.ofHours(1));
+
+        assertEquals(Duration.ofHours(1), raiseScheduler.getNextRaiseDelay(raise));
+        assertTrue(raiseScheduler.cancel(raise));
+        assertFalse(raiseScheduler.cancel(raise));
+        assertEquals(0, raiseScheduler.size());
+    }
+
+    @Test
+    void testRescheduleReturnsEqualRaise() throws Exception {
+        AuthorizedFunPayExecutor executor = newExecutor("example");
+        ScheduledRaise raise = raiseScheduler.schedule(executor, 41L, 149L, Duration.ofHours(1));
+        ScheduledRaise rescheduled =
+                raiseScheduler.schedule(executor, 41L, 149L, Duration.ofHours(2));
+
+        assertEquals(raise, rescheduled);
+        assertEquals(raise.hashCode(), rescheduled.hashCode());
+        assertEquals(1, raiseScheduler.size());
+        assertEquals(Duration.ofHours(2), raiseScheduler.getNextRaiseDelay(raise));
+        assertTrue(raiseScheduler.cancel(raise));
+    }
+
+    @Test
+    void testScheduledRaiseToStringHidesGoldenKey() {
+        ScheduledRaise raise = new ScheduledRaise("secret-golden-key", 41L, 149L);
+
+        assertFalse(raise.toString().contains("secret-golden-key"));
+        assertTrue(raise.toString().contains("149"));
+    }
+
+    private AuthorizedFunPayExecutor newExecutor(String goldenKey) {
+        return new AuthorizedFunPayExecutor(goldenKey, mockWebServer.url("/").toString());
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ru.funpay4j.core.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.funpay4j.client.parser.JsoupFunPayParser;
+
+/**
+ * Tests for {@link FunPaySession}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class FunPaySessionTest {
+    private MockWebServer mockWebServer;
+
+    private AtomicLong ticker;
+
+    private FunPaySession session;
+
+    private static final String GET_CSRF_TOKEN_AND_PHPSESSID_HTML_RESPONSE_PATH =
+            "src/test/resources/html/client/getCsrfTokenAndPHPSESSIDResponse.html";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockWebServer = new MockWebServer();
+        this.ticker = new AtomicLong();
+        this.session =
+                new FunPaySession(
+                        new JsoupFunPayParser(
+                                new OkHttpClient(), this.mockWebServer.url("/").toString()),
+                        "example",
+                        ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testGetTokensFetchesMissingTokensOnce() throws Exception {
+        enqueueTokens("first", 0);
+
+        assertNull(session.peekTokens());
+
+        SessionTokens tokens = session.getTokens();
+
+        assertNotNull(tokens.getCsrfToken());
+        assertEquals("first", tokens.getPHPSESSID());
+        assertSame(tokens, session.getTokens());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testConcurrentRefreshesOfSameTokensFetchOnce() throws Exception {
+        session.setTokens(new SessionTokens("old", "old"));
+        SessionTokens invalidTokens = session.getTokens();
+        // the delay keeps the refresh in progress until every caller is waiting for it
+        enqueueTokens("new", 300);
+        enqueueTokens("unexpected", 0);
+
+        int callerCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<SessionTokens>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < callerCount; i++) {
+                results.add(
+                        executorService.submit(
+                                () -> {
+                                    startLatch.await();
+                                    return session.refresh(invalidTokens);
+                                }));
+            }
+
+            startLatch.countDown();
+
+            for (Future<SessionTokens> result : results) {
+                assertEquals("new", result.get().getPHPSESSID());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testConcurrentUpdatesOfDifferentTokensAreNotLost() throws Exception {
+        ExecutorService updaters = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < 200; i++) {
+                session.setTokens(new SessionTokens("old", "old"));
+                CountDownLatch start = new CountDownLatch(1);
+
+                Future<?> csrfTokenUpdate =
+                        updaters.submit(
+                                () -> {
+                                    start.await();
+                                    return session.updateTokens(
+                                            tokens ->
+                                                    new SessionTokens(
+                                                            "new", tokens.getPHPSESSID()));
+                                });
+                Future<?> PHPSESSIDUpdate =
+                        updaters.submit(
+                                () -> {
+                                    start.await();
+                                    return session.updateTokens(
+                                            tokens ->
+                                                    new SessionTokens(
+                                                            tokens.getCsrfToken(), "new"));
+                                });
+
+                start.countDown();
+                csrfTokenUpdate.get(5, TimeUnit.SECONDS);
+                PHPSESSIDUpdate.get(5, TimeUnit.SECONDS);
+
+                assertEquals(new SessionTokens("new", "new"), session.peekTokens());
+            }
+        } finally {
+            updaters.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExpiredTokensAreFetchedAgain() throws Exception {
+        session.setTokenLifetime(Duration.ofMinutes(10));
+        enqueueTokens("first", 0);
+        enqueueTokens("second", 0);
+
+        assertEquals("first", session.getTokens().getPHPSESSID());
+
+        ticker.addAndGet(Duration.ofMinutes(9).toNanos());
+
+        assertEquals("first", session.getTokens().getPHPSESSID());
+
+        ticker.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertEquals("second", session.getTokens().getPHPSESSID());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testScheduledRefreshReplacesTokensInBackground() throws Exception {
+        session.setTokens(new SessionTokens("old", "old"));
+        enqueueTokens("new", 0);
+        enqueueTokens("newer", 0);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        try {
+            session.scheduleRefresh(scheduler, Duration.ofMillis(50));
+
+            while ("old".equals(session.peekTokens().getPHPSESSID())
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertNotEquals("old", session.peekTokens().getPHPSESSID());
+    }
+
+    private void enqueueTokens(String PHPSESSID, long delayMillis) throws Exception {
+        String htmlContent =
+                new String(
+                        Files.readAllBytes(
+                                Paths.get(GET_CSRF_TOKEN_AND_PHPSESSID_HTML_RESPONSE_PATH)));
+
+        mockWebServer.enqueue(
+                new MockResponse()
+                        .setBody(htmlContent)
+                        .setHeader("Set-Cookie", "PHPSESSID=" + PHPSESSID + ";")
+                        .setResponseCode(200)
+                        .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Date;
+
+import lombok.NonNull;
+
+/**
+ * Util for converting FunPay dates, which produces the same dates as {@link FunPayUserUtil}
+ *
+ * <p>Unlike {@link FunPayUserUtil}, it does not create date formats, calendars and regular
+ * expressions on every call. The dates are parsed by {@link FunPayDateParser} using the system
+ * clock and the default time zone of the JVM. To get the same dates on every machine use {@link
+ * FunPayDateParser} with the Moscow time zone instead
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class FunPayDateConverter {
+    private static volatile FunPayDateParser defaultZoneDateParser;
+
+    /**
+     * Converts a string representation of the user's registration date to a {@link Date} object
+     *
+     * @param registerDate the date of registration as a string that needs to be converted, for
+     *     example "сегодня, 12:30" or "11 июля 2019, 15:52"
+     * @return {@link Date} object representing the user's registration date or null if the date
+     *     has an unsupported form
+     * @throws ParseException parsing exception
+     */
+    public static Date convertRegisterDateStringToDate(@NonNull String registerDate)
+            throws ParseException {
+        return defaultZoneParser().parseRegisterDate(registerDate);
+    }
+
+    /**
+     * Converts a string representation of the user's last seen date to a {@link Date} object
+     *
+     * @param lastSeenAt the date of last seen as a string that needs to be converted, for example
+     *     "Был сегодня в 12:30 (2 часа назад)" or "Был 11 июля 2019 в 15:52 (5 лет назад)"
+     * @return {@link Date} object representing the user's last seen date or null if the date has
+     *     an unsupported form
+     * @throws ParseException parsing exception
+     */
+    public static Date convertLastSeenAtStringToDate(@NonNull String lastSeenAt)
+            throws ParseException {
+        return defaultZoneParser().parseLastSeenAt(lastSeenAt);
+    }
+
+    /**
+     * Converts a string representation of the advanced seller review created at date to a {@link
+     * Date} object
+     *
+     * @param createdAt the date of created at as a string that needs to be converted, for example
+     *     "сегодня, 12:30"
+     * @return {@link Date} object representing the parsed date and time or null if the date has an
+     *     unsupported form
+     * @throws ParseException parsing exception
+     */
+    public static Date convertAdvancedSellerReviewCreatedAtToDate(@NonNull String createdAt)
+            throws ParseException {
+        return defaultZoneParser().parseAdvancedSellerReviewCreatedAt(createdAt);
+    }
+
+    private static FunPayDateParser defaultZoneParser() {
+        // the default time zone is read on every call, the same way Calendar.getInstance() does
+        ZoneId defaultZoneId = ZoneId.systemDefault();
+        FunPayDateParser dateParser = defaultZoneDateParser;
+
+        // the parser is created again only when the default time zone has changed
+        if (dateParser == null || !dateParser.getZoneId().equals(defaultZoneId)) {
+            dateParser = new FunPayDateParser(Clock.system(defaultZoneId), defaultZoneId);
+            defaultZoneDateParser = dateParser;
+        }
+
+        return dateParser;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Parser of the FunPay dates which resolves "сегодня", "вчера" and the dates without a year
+ * against the given clock and interprets all the dates in the given time zone
+ *
+ * <p>FunPay writes the dates in Moscow time, so by default the same text is converted to the same
+ * {@link Date} on every machine regardless of its default time zone. The parser is immutable and
+ * thread-safe
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+@Getter
+public class FunPayDateParser {
+    /** Time zone in which FunPay writes the dates */
+    public static final ZoneId FUNPAY_ZONE_ID = ZoneId.of("Europe/Moscow");
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm");
+
+    private static final String TODAY = "сегодня";
+
+    private static final String YESTERDAY = "вчера";
+
+    // genitive month names in which FunPay writes the dates
+    private static final String[] MONTH_NAMES = {
+        "января",
+        "февраля",
+        "марта",
+        "апреля",
+        "мая",
+        "июня",
+        "июля",
+        "августа",
+        "сентября",
+        "октября",
+        "ноября",
+        "декабря"
+    };
+
+    private final Clock clock;
+
+    private final ZoneId zoneId;
+
+    /** Creates a new FunPayDateParser instance using the system clock and the Moscow time zone */
+    public FunPayDateParser() {
+        this(Clock.systemUTC(), FUNPAY_ZONE_ID);
+    }
+
+    /**
+     * Creates a new FunPayDateParser instance
+     *
+     * @param clock clock by which the current date is resolved
+     * @param zoneId time zone in which the dates are interpreted
+     */
+    public FunPayDateParser(@NonNull Clock clock, @NonNull ZoneId zoneId) {
+        this.clock = clock;
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * Parse the user's registration date
+     *
+     * @param registerDate the date of registration as a string that needs to be parsed, for example
+     *     "сегодня, 12:30" or "11 июля 2019, 15:52"
+     * @return {@link Date} object representing the user's registration date or null if the date
+     *     has an unsupported form
+     * @throws ParseException parsing exception
+     */
+    public Date parseRegisterDate(@NonNull String registerDate) throws ParseException {
+        if (!registerDate.startsWith(TODAY)
+                && !registerDate.startsWith(YESTERDAY)
+                && registerDate.indexOf(',') < 0) {
+            return null;
+        }
+
+        return parseDate(registerDate, 0, registerDate.length());
+    }
+
+    /**
+     * Parse the user's last seen date
+     *
+     * @param lastSeenAt the date of last seen as a string that needs to be parsed, for example "Был
+     *     сегодня в 12:30 (2 часа назад)" or "Был 11 июля 2019 в 15:52 (5 лет назад)"
+     * @return {@link Date} object representing the user's last seen date or null if the date has
+     *     an unsupported form
+     * @throws ParseException parsing exception
+     */
+    public Date parseLastSeenAt(@NonNull String lastSeenAt) throws ParseException {
+        // ignore the “(X days/weeks/years ago)” part
+        int end = lastSeenAt.indexOf('(');
+
+        if (end < 0) end = lastSeenAt.length();
+
+        int todayIndex = lastSeenAt.indexOf(TODAY);
+
+        if (todayIndex >= 0 && todayIndex < end) {
+            return parseDate(lastSeenAt, todayIndex, end);
+        }
+
+        int yesterdayIndex = lastSeenAt.indexOf(YESTERDAY);
+
+        if (yesterdayIndex >= 0 && yesterdayIndex < end) {
+            return parseDate(lastSeenAt, yesterdayIndex, end);
+        }
+
+        int dayIndex = indexOfDigit(lastSeenAt, 0, end);
+
+        if (dayIndex < 0 || lastSeenAt.indexOf(" в ", dayIndex) < 0) return null;
+
+        return parseDate(lastSeenAt, dayIndex, end);
+    }
+
+    /**
+     * Parse the advanced seller review created at date
+     *
+     * @param createdAt the date of created at as a string that needs to be parsed, for example
+     *     "сегодня, 12:30"
+     * @return {@link Date} object representing the parsed date and time or null if the date has an
+     *     unsupported form
+     * @throws ParseException parsing exception
+     */
+    public Date parseAdvancedSellerReviewCreatedAt(@NonNull String createdAt)
+            throws ParseException {
+        if (!createdAt.startsWith(TODAY)
+                && !createdAt.startsWith(YESTERDAY)
+                && createdAt.indexOf(',') < 0) {
+            return null;
+        }
+
+        return parseDate(createdAt, 0, createdAt.length());
+    }
+
+    /**
+     * Parse the date in one of the forms "сегодня, HH:mm", "вчера в HH:mm", "d MMMM, HH:mm" or
+     * "d MMMM yyyy в HH:mm" located between the start and the end of the text
+     */
+    private Date parseDate(String text, int start, int end) throws ParseException {
+        LocalDate today = clock.instant().atZone(zoneId).toLocalDate();
+        LocalDate date;
+        int i = start;
+
+        if (text.startsWith(TODAY, i)) {
+            date = today;
+            i += TODAY.length();
+        } else if (text.startsWith(YESTERDAY, i)) {
+            date = today.minusDays(1);
+            i += YESTERDAY.length();
+        } else {
+            int dayEnd = skipDigits(text, i, end);
+
+            if (dayEnd == i) throw newParseException(text, i);
+
+            int day = Integer.parseInt(text.substring(i, dayEnd));
+            int month = 0;
+
+            i = skipSeparators(text, dayEnd, end);
+
+            while (month < MONTH_NAMES.length && !text.startsWith(MONTH_NAMES[month], i)) {
+                month++;
+            }
+
+            if (month == MONTH_NAMES.length) throw newParseException(text, i);
+
+            i = skipSeparators(text, i + MONTH_NAMES[month].length(), end);
+
+            int year = today.getYear();
+            int yearEnd = skipDigits(text, i, end);
+
+            // the year is written only for the dates of the previous years
+            if (yearEnd - i == 4) {
+                year = Integer.parseInt(text.substring(i, yearEnd));
+                i = yearEnd;
+            }
+
+            // the day is added to the first day of the month, so the overflowing days are rolled
+            // over to the next month the same way the lenient date format does
+            date = LocalDate.of(year, month + 1, 1).plusDays(day - 1);
+        }
+
+        i = skipSeparators(text, i, end);
+
+        // skip the preposition before the time
+        if (text.startsWith("в ", i)) i = skipSeparators(text, i + 1, end);
+
+        int timeEnd = i;
+
+        while (timeEnd < end
+                && (Character.isDigit(text.charAt(timeEnd)) || text.charAt(timeEnd) == ':')) {
+            timeEnd++;
+        }
+
+        LocalTime time;
+
+        try {
+            time = LocalTime.parse(text.substring(i, timeEnd), TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw newParseException(text, i);
+        }
+
+        return Date.from(date.atTime(time).atZone(zoneId).toInstant());
+    }
+
+    private static int skipDigits(String text, int start, int end) {
+        int i = start;
+
+        while (i < end && Character.isDigit(text.charAt(i))) i++;
+
+        return i;
+    }
+
+    private static int skipSeparators(String text, int start, int end) {
+        int i = start;
+
+        while (i < end && (text.charAt(i) == ' ' || text.charAt(i) == ',')) i++;
+
+        return i;
+    }
+
+    private static int indexOfDigit(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.isDigit(text.charAt(i))) return i;
+        }
+
+        return -1;
+    }
+
+    private static ParseException newParseException(String text, int errorOffset) {
+        return new ParseException("Unparseable date: \"" + text + "\"", errorOffset);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import lombok.NonNull;
+
+/**
+ * Util for working with FunPay offers
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+public class FunPayOfferUtil {
+
+    /**
+     * Converts the wait message returned by FunPay when offers are raised too early, for example
+     * "Подождите 2 часа 15 минут.", to a {@link Duration} object
+     *
+     * @param waitMessage the wait message that needs to be converted
+     * @return {@link Duration} object representing the remaining time before the next raise or null
+     *     if the message does not contain the remaining time
+     */
+    public static Duration convertRaiseWaitMessageToDuration(@NonNull String waitMessage) {
+        Duration waitDuration = Duration.ZERO;
+        boolean hasWaitDuration = false;
+        long amount = -1;
+        int length = waitMessage.length();
+        int i = 0;
+
+        // the message is tokenized by hand, because it may contain any combination of the
+        // units and the amount may be omitted, for example "Подождите минуту."
+        while (i < length) {
+            char c = waitMessage.charAt(i);
+
+            if (Character.isDigit(c)) {
+                int start = i;
+
+                while (i < length && Character.isDigit(waitMessage.charAt(i))) i++;
+
+                amount = Long.parseLong(waitMessage.substring(start, i));
+            } else if (Character.isLetter(c)) {
+                int start = i;
+
+                while (i < length && Character.isLetter(waitMessage.charAt(i))) i++;
+
+                Duration unitDuration = convertUnitToDuration(waitMessage.substring(start, i));
+
+                if (unitDuration != null) {
+                    waitDuration =
+                            waitDuration.plus(unitDuration.multipliedBy(amount < 0 ? 1 : amount));
+                    hasWaitDuration = true;
+                }
+
+                amount = -1;
+            } else {
+                i++;
+            }
+        }
+
+        return hasWaitDuration ? waitDuration : null;
+    }
+
+    private static Duration convertUnitToDuration(String unit) {
+        String lowerCaseUnit = unit.toLowerCase(Locale.ROOT);
+
+        if (lowerCaseUnit.startsWith("час")) {
+            return Duration.ofHours(1);
+        } else if (lowerCaseUnit.startsWith("мин")) {
+            return Duration.ofMinutes(1);
+        } else if (lowerCaseUnit.startsWith("сек")) {
+            return Duration.ofSeconds(1);
+        } else if (lowerCaseUnit.equals("день")
+                || lowerCaseUnit.equals("дня")
+                || lowerCaseUnit.equals("дней")) {
+            return Duration.ofDays(1);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Equivalence tests checking that {@link FunPayDateConverter} produces the same dates as {@link
+ * FunPayUserUtil}
+ *
+ * @author panic08
+ * @since 1.0.7
+ */
+class FunPayDateConverterTest {
+    private static final String[] REGISTER_DATES = {
+        "сегодня, 12:30",
+        "вчера, 23:15",
+        "5 октября, 19:45",
+        "1 января, 0:05",
+        "11 июля 2019, 15:52",
+        "31 декабря 2020, 23:59",
+        "неизвестно"
+    };
+
+    private static final String[] LAST_SEEN_AT_DATES = {
+        "Был сегодня в 12:30 (2 часа назад)",
+        "Был вчера в 23:15 (1 день назад)",
+        "Был 5 октября в 19:45 (1 неделя назад)",
+        "Был 11 июля 2019 в 15:52 (5 лет назад)",
+        "Был давно",
+        "Онлайн"
+    };
+
+    private static final String[] CREATED_AT_DATES = {
+        "сегодня, 12:30",
+        "вчера, 23:15",
+        "5 октября"
+    };
+
+    @Test
+    void testConvertRegisterDateStringToDate() throws Exception {
+        for (String registerDate : REGISTER_DATES) {
+            assertEquals(
+                    FunPayUserUtil.convertRegisterDateStringToDate(registerDate),
+                    FunPayDateConverter.convertRegisterDateStringToDate(registerDate),
+                    registerDate);
+        }
+    }
+
+    @Test
+    void testConvertLastSeenAtStringToDate() throws Exception {
+        for (String lastSeenAt : LAST_SEEN_AT_DATES) {
+            assertEquals(
+                    FunPayUserUtil.convertLastSeenAtStringToDate(lastSeenAt),
+                    FunPayDateConverter.convertLastSeenAtStringToDate(lastSeenAt),
+                    lastSeenAt);
+        }
+    }
+
+    @Test
+    void testConvertAdvancedSellerReviewCreatedAtToDate() throws Exception {
+        for (String createdAt : CREATED_AT_DATES) {
+            assertEquals(
+                    FunPayUserUtil.convertAdvancedSellerReviewCreatedAtToDate(createdAt),
+                    FunPayDateConverter.convertAdvancedSellerReviewCreatedAtToDate(createdAt),
+                    createdAt);
+        }
+    }
+
+    @Test
+    void testConvertFollowsDefaultTimeZoneChange() throws Exception {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            Date utcDate = FunPayDateConverter.convertRegisterDateStringToDate(REGISTER_DATES[4]);
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            Date tokyoDate = FunPayDateConverter.convertRegisterDateStringToDate(REGISTER_DATES[4]);
+
+            assertEquals(TimeUnit.HOURS.toMillis(9), utcDate.getTime() - tokyoDate.getTime());
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    void testConvertUnsupportedForms() throws Exception {
+        assertNull(FunPayDateConverter.convertRegisterDateStringToDate("неизвестно"));
+        assertNull(FunPayDateConverter.convertLastSeenAtStringToDate("Онлайн"));
+        assertThrows(
+                ParseException.class,
+                () -> FunPayDateConverter.convertRegisterDateStringToDate("5 брюмера, 19:45"));
+    }
+}
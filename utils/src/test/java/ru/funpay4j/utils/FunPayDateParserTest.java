@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class FunPayDateParserTest {
+    // it is already March 11 in Moscow at this moment
+    private static final Clock CLOCK =
+            Clock.fixed(Instant.parse("2024-03-10T21:30:00Z"), ZoneOffset.UTC);
+
+    private final FunPayDateParser dateParser =
+            new FunPayDateParser(CLOCK, FunPayDateParser.FUNPAY_ZONE_ID);
+
+    @Test
+    void testParseRegisterDate() throws Exception {
+        assertEquals(
+                Instant.parse("2024-03-11T09:30:00Z"),
+                dateParser.parseRegisterDate("сегодня, 12:30").toInstant());
+        assertEquals(
+                Instant.parse("2024-03-10T20:15:00Z"),
+                dateParser.parseRegisterDate("вчера, 23:15").toInstant());
+        assertEquals(
+                Instant.parse("2024-10-05T16:45:00Z"),
+                dateParser.parseRegisterDate("5 октября, 19:45").toInstant());
+        assertEquals(
+                Instant.parse("2019-07-11T12:52:00Z"),
+                dateParser.parseRegisterDate("11 июля 2019, 15:52").toInstant());
+        assertNull(dateParser.parseRegisterDate("неизвестно"));
+    }
+
+    @Test
+    void testParseLastSeenAt() throws Exception {
+        assertEquals(
+                Instant.parse("2024-03-11T09:30:00Z"),
+                dateParser.parseLastSeenAt("Был сегодня в 12:30 (2 часа назад)").toInstant());
+        assertEquals(
+                Instant.parse("2019-07-11T12:52:00Z"),
+                dateParser.parseLastSeenAt("Был 11 июля 2019 в 15:52 (5 лет назад)").toInstant());
+    }
+
+    @Test
+    void testParseAdvancedSellerReviewCreatedAt() throws Exception {
+        assertEquals(
+                Instant.parse("2024-03-10T20:15:00Z"),
+                dateParser.parseAdvancedSellerReviewCreatedAt("вчера, 23:15").toInstant());
+    }
+
+    @Test
+    void testParseInOtherZone() throws Exception {
+        FunPayDateParser tokyoDateParser = new FunPayDateParser(CLOCK, ZoneId.of("Asia/Tokyo"));
+
+        // it is March 11 in Tokyo as well, but the time is interpreted 6 hours earlier
+        assertEquals(
+                Instant.parse("2024-03-11T03:30:00Z"),
+                tokyoDateParser.parseRegisterDate("сегодня, 12:30").toInstant());
+    }
+}
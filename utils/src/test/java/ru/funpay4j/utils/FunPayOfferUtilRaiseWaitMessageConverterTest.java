@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ru.funpay4j.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author panic08
+ * @since 1.0.7
+ */
+class FunPayOfferUtilRaiseWaitMessageConverterTest {
+    @Test
+    void testConvertRaiseWaitMessageToDurationHours() {
+        assertEquals(
+                Duration.ofHours(4),
+                FunPayOfferUtil.convertRaiseWaitMessageToDuration("Подождите 4 часа."));
+        assertEquals(
+                Duration.ofHours(5),
+                FunPayOfferUtil.convertRaiseWaitMessageToDuration("Подождите 5 часов."));
+    }
+
+    @Test
+    void testConvertRaiseWaitMessageToDurationHoursAndMinutes() {
+        assertEquals(
+                Duration.ofHours(2).plusMinutes(15),
+                FunPayOfferUtil.convertRaiseWaitMessageToDuration("Подождите 2 часа 15 минут."));
+    }
+
+    @Test
+    void testConvertRaiseWaitMessageToDurationWithoutAmount() {
+        assertEquals(
+                Duration.ofMinutes(1),
+                FunPayOfferUtil.convertRaiseWaitMessageToDuration("Подождите минуту."));
+    }
+
+    @Test
+    void testConvertRaiseWaitMessageToDurationWithoutTime() {
+        assertNull(FunPayOfferUtil.convertRaiseWaitMessageToDuration("Подождите..."));
+    }
+}